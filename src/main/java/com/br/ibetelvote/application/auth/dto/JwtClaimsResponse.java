@@ -18,4 +18,7 @@ public class JwtClaimsResponse {
     String nome;
     UserRole role;
     Boolean ativo;
+    String type;
+    UUID tokenId;
+    UUID familyId;
 }
@@ -15,7 +15,7 @@ public class MembroBasicInfo {
 
     private UUID id;
     private String nome;
-    private String fotoBase64;
+    private String fotoUrl;
     private String cargo; // Nome do cargo atual (não mais o campo String direto)
     private Boolean ativo;
 
@@ -7,6 +7,7 @@ import lombok.Value;
 @Builder
 public class RefreshTokenResponse {
     String accessToken;
+    String refreshToken;
     String tokenType;
     Long expiresIn;
 }
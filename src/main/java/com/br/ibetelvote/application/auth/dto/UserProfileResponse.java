@@ -2,6 +2,7 @@ package com.br.ibetelvote.application.auth.dto;
 
 import com.br.ibetelvote.domain.entities.enums.UserRole;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Value;
 
@@ -16,7 +17,8 @@ public class UserProfileResponse {
     String nome;
     String email;
     UserRole role;
-    String fotoBase64;
+    String fotoUrl;
+    Long fotoVersion;
     String cargo;
 
     @JsonFormat(pattern = "yyyy-MM-dd")
@@ -29,4 +31,8 @@ public class UserProfileResponse {
 
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     LocalDateTime updatedAt;
+
+    // Membro de onde vêm nome, cargo e foto; usado só para invalidar o cache
+    @JsonIgnore
+    UUID membroId;
 }
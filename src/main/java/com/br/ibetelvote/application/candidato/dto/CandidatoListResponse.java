@@ -25,7 +25,7 @@ public class CandidatoListResponse {
     private Boolean ativo;
     private Boolean aprovado;
     private boolean temFotoCampanha;
-    private String fotoBase64; // Para listagens com foto
+    private String fotoUrl;
     private int totalVotos;
     private double percentualVotos;
     private String statusCandidatura;
@@ -21,6 +21,6 @@ public class CandidatoRankingResponse {
     private int totalVotos;
     private double percentualVotos;
     private boolean temFotoCampanha;
-    private String fotoBase64;
+    private String fotoUrl;
     private boolean eleito; // Se está nas primeiras posições para ser eleito
 }
\ No newline at end of file
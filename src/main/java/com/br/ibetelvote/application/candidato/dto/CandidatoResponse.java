@@ -40,7 +40,7 @@ public class CandidatoResponse {
 
     // Foto de campanha
     private boolean temFotoCampanha;
-    private String fotoBase64; // Apenas quando necessário
+    private String fotoUrl;
     private long fotoSize;
 
     // Campos computados
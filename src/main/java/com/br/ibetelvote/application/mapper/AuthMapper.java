@@ -2,14 +2,50 @@ package com.br.ibetelvote.application.mapper;
 
 import com.br.ibetelvote.application.auth.dto.UserProfileResponse;
 import com.br.ibetelvote.domain.entities.User;
+import com.br.ibetelvote.infrastructure.repositories.projections.UserProfileView;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.UUID;
+
 @Mapper(
         componentModel = "spring",
         unmappedTargetPolicy = ReportingPolicy.IGNORE
 )
 public interface AuthMapper {
 
+    @Mapping(target = "membroId", source = "membro.id")
     UserProfileResponse toUserProfileResponse(User user);
-}
\ No newline at end of file
+
+    default UserProfileResponse toUserProfileResponse(UserProfileView view) {
+        if (view == null) {
+            return null;
+        }
+
+        boolean temFoto = view.getMembroId() != null && Boolean.TRUE.equals(view.getTemFoto());
+        Long fotoVersion = temFoto ? FotoUrls.toVersion(view.getMembroUpdatedAt()) : null;
+
+        return UserProfileResponse.builder()
+                .id(view.getId())
+                .nome(view.getNome())
+                .email(view.getEmail())
+                .role(view.getRole())
+                .fotoUrl(temFoto ? fotoUrl(view.getMembroId(), fotoVersion) : null)
+                .fotoVersion(fotoVersion)
+                .cargo(view.getCargo())
+                .dataNascimento(view.getDataNascimento())
+                .ativo(view.getAtivo())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .membroId(view.getMembroId())
+                .build();
+    }
+
+    /**
+     * URL da imagem do membro; ver {@link FotoUrls}.
+     */
+    default String fotoUrl(UUID membroId, Long version) {
+        return FotoUrls.membro(membroId, version);
+    }
+}
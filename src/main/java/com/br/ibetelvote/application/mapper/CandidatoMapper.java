@@ -26,7 +26,7 @@ public interface CandidatoMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "ativo", constant = "true")
     @Mapping(target = "aprovado", constant = "false")
-    @Mapping(target = "fotoCampanhaData", ignore = true)
+    @Mapping(target = "fotoCampanhaKey", ignore = true)
     @Mapping(target = "fotoCampanhaTipo", ignore = true)
     @Mapping(target = "fotoCampanhaNome", ignore = true)
     @Mapping(target = "motivoReprovacao", ignore = true)
@@ -66,6 +66,7 @@ public interface CandidatoMapper {
                 .cargoPretendido(mapCargoToBasicInfo(candidato.getCargoPretendido()))
                 // Foto
                 .temFotoCampanha(candidato.temFotoCampanha())
+                .fotoUrl(buildFotoCampanhaUrl(candidato))
                 .fotoSize(candidato.getFotoCampanhaSize())
                 // Campos computados
                 .displayName(candidato.getDisplayName())
@@ -90,18 +91,8 @@ public interface CandidatoMapper {
     // === CANDIDATO RESPONSE WITH PHOTO ===
     @Named("withPhoto")
     default CandidatoResponse toResponseWithPhoto(Candidato candidato) {
-        if (candidato == null) {
-            return null;
-        }
-
-        CandidatoResponse response = toResponse(candidato);
-
-        // Adicionar foto Base64 se existir
-        if (candidato.temFotoCampanha()) {
-            response.setFotoBase64(candidato.getFotoCampanhaDataUri());
-        }
-
-        return response;
+        // A foto é sempre exposta por URL; o conteúdo não trafega na resposta
+        return toResponse(candidato);
     }
 
     // === CANDIDATO BASIC INFO ===
@@ -142,6 +133,7 @@ public interface CandidatoMapper {
                 .ativo(candidato.isAtivo())
                 .aprovado(candidato.isAprovado())
                 .temFotoCampanha(candidato.temFotoCampanha())
+                .fotoUrl(buildFotoCampanhaUrl(candidato))
                 .totalVotos(candidato.getTotalVotos())
                 .percentualVotos(candidato.getPercentualVotos())
                 .statusCandidatura(candidato.getStatusCandidatura())
@@ -163,6 +155,7 @@ public interface CandidatoMapper {
                 .totalVotos(candidato.getTotalVotos())
                 .percentualVotos(candidato.getPercentualVotos())
                 .temFotoCampanha(candidato.temFotoCampanha())
+                .fotoUrl(buildFotoCampanhaUrl(candidato))
                 .build();
     }
 
@@ -198,7 +191,7 @@ public interface CandidatoMapper {
     @Mapping(target = "aprovado", ignore = true)
     @Mapping(target = "motivoReprovacao", ignore = true)
     @Mapping(target = "dataAprovacao", ignore = true)
-    @Mapping(target = "fotoCampanhaData", ignore = true)
+    @Mapping(target = "fotoCampanhaKey", ignore = true)
     @Mapping(target = "fotoCampanhaTipo", ignore = true)
     @Mapping(target = "fotoCampanhaNome", ignore = true)
     @Mapping(target = "numeroCandidato", ignore = true)
@@ -253,7 +246,7 @@ public interface CandidatoMapper {
         return MembroBasicInfo.builder()
                 .id(membro.getId())
                 .nome(membro.getNome())
-                .fotoBase64(membro.getFotoBase64()) // Se o método existir
+                .fotoUrl(FotoUrls.membro(membro))
                 .cargo(membro.getNomeCargoAtual())
                 .ativo(membro.isActive())
                 .build();
@@ -287,10 +280,7 @@ public interface CandidatoMapper {
 
     // === HELPER METHODS ===
     default String buildFotoCampanhaUrl(Candidato candidato) {
-        if (candidato == null || !candidato.temFotoCampanha()) {
-            return null;
-        }
-        return "/api/v1/candidatos/" + candidato.getId() + "/foto-campanha";
+        return FotoUrls.candidato(candidato);
     }
 
     default List<String> buildMotivosInelegibilidade(Candidato candidato) {
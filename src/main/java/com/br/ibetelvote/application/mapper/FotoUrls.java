@@ -0,0 +1,44 @@
+package com.br.ibetelvote.application.mapper;
+
+import com.br.ibetelvote.domain.entities.Candidato;
+import com.br.ibetelvote.domain.entities.Membro;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * URLs das imagens de membros e candidatos expostas nas respostas da API.
+ *
+ * A versão ({@code ?v=}) muda sempre que a entidade é atualizada, então o cliente
+ * pode manter a imagem em cache sem revalidar.
+ */
+public final class FotoUrls {
+
+    private FotoUrls() {
+    }
+
+    public static String membro(Membro membro) {
+        if (membro == null || !membro.hasPhoto()) {
+            return null;
+        }
+        return membro(membro.getId(), toVersion(membro.getUpdatedAt()));
+    }
+
+    public static String membro(UUID membroId, Long version) {
+        return "/api/v1/membros/" + membroId + "/foto/imagem" + (version != null ? "?v=" + version : "");
+    }
+
+    public static String candidato(Candidato candidato) {
+        if (candidato == null || !candidato.temFotoCampanha()) {
+            return null;
+        }
+        Long version = toVersion(candidato.getUpdatedAt());
+        return "/api/v1/candidatos/" + candidato.getId() + "/foto-campanha/imagem"
+                + (version != null ? "?v=" + version : "");
+    }
+
+    public static Long toVersion(LocalDateTime updatedAt) {
+        return updatedAt != null ? updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : null;
+    }
+}
@@ -5,6 +5,8 @@ import com.br.ibetelvote.application.membro.dto.MembroBasicInfo;
 import com.br.ibetelvote.application.membro.dto.*;
 import com.br.ibetelvote.domain.entities.Cargo;
 import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.infrastructure.repositories.projections.MembroBasicInfoView;
+import com.br.ibetelvote.infrastructure.repositories.projections.MembroListagemView;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -39,7 +41,7 @@ public interface MembroMapper {
     @Mapping(target = "hasCargoAtual", expression = "java(membro.hasCargoAtual())")
     @Mapping(target = "hasPhoto", expression = "java(membro.hasPhoto())")
     @Mapping(target = "hasUser", expression = "java(membro.hasUser())")
-    @Mapping(target = "fotoBase64", ignore = true) // Controlado manualmente quando necessário
+    @Mapping(target = "fotoUrl", expression = "java(FotoUrls.membro(membro))")
     MembroResponse toResponse(Membro membro);
 
     /**
@@ -79,12 +81,30 @@ public interface MembroMapper {
                 .toList();
     }
 
+    /**
+     * Converte a projeção de dados básicos para basic info
+     */
+    default MembroBasicInfo toBasicInfo(MembroBasicInfoView view) {
+        if (view == null) {
+            return null;
+        }
+        return MembroBasicInfo.builder()
+                .id(view.id())
+                .nome(view.nome())
+                .email(view.email())
+                .cargoAtualId(view.cargoAtualId())
+                .nomeCargoAtual(view.nomeCargoAtual() != null ? view.nomeCargoAtual() : "Sem cargo")
+                .ativo(view.ativo())
+                .hasUser(view.userId() != null)
+                .build();
+    }
+
     // === LIST RESPONSE MAPPING ===
     @Mapping(target = "nomeCargoAtual", expression = "java(membro.getNomeCargoAtual())")
     @Mapping(target = "primaryPhone", expression = "java(membro.getPrimaryPhone())")
     @Mapping(target = "hasPhoto", expression = "java(membro.hasPhoto())")
     @Mapping(target = "hasUser", expression = "java(membro.hasUser())")
-    @Mapping(target = "fotoBase64", ignore = true) // Controlado manualmente
+    @Mapping(target = "fotoUrl", expression = "java(FotoUrls.membro(membro))")
     @Mapping(target = "userRole", ignore = true) // Será preenchido pelo service
     MembroListResponse toListResponse(Membro membro);
 
@@ -100,10 +120,37 @@ public interface MembroMapper {
                 .toList();
     }
 
+    /**
+     * Converte a projeção da listagem (sem entidade carregada) para list response
+     */
+    default MembroListResponse toListResponse(MembroListagemView view) {
+        if (view == null) {
+            return null;
+        }
+        boolean hasPhoto = view.fotoKey() != null && !view.fotoKey().isBlank();
+        String celular = view.celular() != null && !view.celular().isBlank() ? view.celular() : null;
+
+        return MembroListResponse.builder()
+                .id(view.id())
+                .nome(view.nome())
+                .email(view.email())
+                .cargoAtualId(view.cargoAtualId())
+                .nomeCargoAtual(view.nomeCargoAtual() != null ? view.nomeCargoAtual() : "Sem cargo")
+                .departamento(view.departamento())
+                .dataNascimento(view.dataNascimento())
+                .fotoUrl(hasPhoto ? FotoUrls.membro(view.id(), FotoUrls.toVersion(view.updatedAt())) : null)
+                .primaryPhone(celular != null ? celular : view.telefone())
+                .ativo(view.ativo())
+                .hasUser(view.userId() != null)
+                .hasPhoto(hasPhoto)
+                .userRole(view.userRole() != null ? view.userRole().name() : null)
+                .build();
+    }
+
     // === PROFILE RESPONSE MAPPING ===
     @Mapping(target = "nomeCargoAtual", expression = "java(membro.getNomeCargoAtual())")
     @Mapping(target = "temFoto", expression = "java(membro.hasPhoto())")
-    @Mapping(target = "fotoBase64", expression = "java(membro.getFotoBase64())")
+    @Mapping(target = "fotoUrl", expression = "java(FotoUrls.membro(membro))")
     @Mapping(target = "hasUser", expression = "java(membro.hasUser())")
     @Mapping(target = "isBasicProfileComplete", expression = "java(membro.isBasicProfileComplete())")
     @Mapping(target = "isFullProfileComplete", expression = "java(membro.isBasicProfileComplete() && membro.hasCompleteAddress())")
@@ -118,7 +165,7 @@ public interface MembroMapper {
     @Mapping(target = "userId", ignore = true)
     @Mapping(target = "cargoAtual", ignore = true)
     @Mapping(target = "user", ignore = true)
-    @Mapping(target = "fotoData", ignore = true)
+    @Mapping(target = "fotoKey", ignore = true)
     @Mapping(target = "fotoTipo", ignore = true)
     @Mapping(target = "fotoNome", ignore = true)
     void updateEntityFromProfileRequest(UpdateMembroProfileRequest request, @MappingTarget Membro membro);
@@ -157,12 +204,12 @@ public interface MembroMapper {
     default void beforeCreateMapping(CreateMembroRequest request) {
         // Normalizar CPF - remover caracteres especiais
         if (request.getCpf() != null) {
-            request.setCpf(request.getCpf().replaceAll("[^0-9]", ""));
+            request.setCpf(Membro.normalizarCpf(request.getCpf()));
         }
 
         // Normalizar email - converter para lowercase
         if (request.getEmail() != null) {
-            request.setEmail(request.getEmail().toLowerCase().trim());
+            request.setEmail(Membro.normalizarEmail(request.getEmail()));
         }
 
         // Normalizar nome - primeira letra maiúscula
@@ -178,12 +225,12 @@ public interface MembroMapper {
     default void beforeUpdateMapping(UpdateMembroRequest request) {
         // Normalizar CPF
         if (request.getCpf() != null) {
-            request.setCpf(request.getCpf().replaceAll("[^0-9]", ""));
+            request.setCpf(Membro.normalizarCpf(request.getCpf()));
         }
 
         // Normalizar email
         if (request.getEmail() != null) {
-            request.setEmail(request.getEmail().toLowerCase().trim());
+            request.setEmail(Membro.normalizarEmail(request.getEmail()));
         }
 
         // Normalizar nome
@@ -199,7 +246,7 @@ public interface MembroMapper {
     default void beforeProfileUpdateMapping(UpdateMembroProfileRequest request) {
         // Normalizar email
         if (request.getEmail() != null) {
-            request.setEmail(request.getEmail().toLowerCase().trim());
+            request.setEmail(Membro.normalizarEmail(request.getEmail()));
         }
 
         // Normalizar nome
@@ -263,25 +310,17 @@ public interface MembroMapper {
     }
 
     /**
-     * Converte membro para response com foto
+     * Converte membro para response com foto (exposta por URL)
      */
     default MembroResponse toResponseWithPhoto(Membro membro) {
-        MembroResponse response = toResponse(membro);
-        if (membro.hasPhoto()) {
-            response.setFotoBase64(membro.getFotoBase64());
-        }
-        return response;
+        return toResponse(membro);
     }
 
     /**
-     * Converte membro para list response com foto
+     * Converte membro para list response com foto (exposta por URL)
      */
     default MembroListResponse toListResponseWithPhoto(Membro membro) {
-        MembroListResponse response = toListResponse(membro);
-        if (membro.hasPhoto()) {
-            response.setFotoBase64(membro.getFotoBase64());
-        }
-        return response;
+        return toListResponse(membro);
     }
 
     /**
@@ -34,9 +34,9 @@ public interface UserMapper {
     @Mapping(target = "email", source = "email")
     @Mapping(target = "role", source = "role")
     @Mapping(target = "nome", source = "membro.nome")
-    @Mapping(target = "fotoBase64", expression = "java(user.getMembro() != null ? user.getMembro().getFotoBase64() : null)")
     @Mapping(target = "cargo", expression = "java(user.getMembro() != null ? user.getMembro().getNomeCargoAtual() : null)")
     @Mapping(target = "dataNascimento", source = "membro.dataNascimento")
+    @Mapping(target = "membroId", source = "membro.id")
     UserProfileResponse toUserProfileResponse(User user);
 
     @Named("mapMembroToBasicInfo")
@@ -47,7 +47,7 @@ public interface UserMapper {
         return MembroBasicInfo.builder()
                 .id(membro.getId())
                 .nome(membro.getNome())
-                .fotoBase64(membro.getFotoBase64())
+                .fotoUrl(FotoUrls.membro(membro))
                 .cargo(membro.getNomeCargoAtual())
                 .ativo(membro.getAtivo())
                 .build();
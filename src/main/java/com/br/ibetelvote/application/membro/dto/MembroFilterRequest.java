@@ -18,6 +18,7 @@ public class MembroFilterRequest {
     private String nomeCargo; // ADICIONADO: para busca por nome do cargo
     private Boolean ativo;
     private Boolean hasUser;
+    private String cursor; // Paginação por chave: valor de nextCursor da página anterior
     @Builder.Default
     private int page = 0;
     @Builder.Default
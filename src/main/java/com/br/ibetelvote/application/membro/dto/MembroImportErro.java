@@ -0,0 +1,7 @@
+package com.br.ibetelvote.application.membro.dto;
+
+/**
+ * Linha do arquivo de importação que não foi gravada, com o motivo.
+ */
+public record MembroImportErro(long linha, String mensagem) {
+}
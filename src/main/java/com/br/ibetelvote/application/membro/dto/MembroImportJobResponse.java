@@ -0,0 +1,30 @@
+package com.br.ibetelvote.application.membro.dto;
+
+import com.br.ibetelvote.domain.entities.enums.UploadJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MembroImportJobResponse {
+    private UUID jobId;
+    private UploadJobStatus status;
+    private Integer progresso;
+    private String statusUrl;
+    private String fileName;
+    private long linhasLidas;
+    private long importados;
+    private long rejeitados;
+    private List<MembroImportErro> erros; // Limitado a app.membros.importacao.max-erros
+    private String erro;
+    private LocalDateTime criadoEm;
+    private LocalDateTime concluidoEm;
+}
@@ -20,7 +20,7 @@ public class MembroListResponse {
     private String nomeCargoAtual; // ADICIONADO: nome do cargo para exibição
     private String departamento;
     private LocalDate dataNascimento;
-    private String fotoBase64;
+    private String fotoUrl;
     private String primaryPhone;
     private Boolean ativo;
     private boolean hasUser;
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.UUID;
 
 @Data
@@ -39,7 +40,7 @@ public class MembroProfileResponse {
     private String cep;
 
     // Foto
-    private String fotoBase64;
+    private String fotoUrl;
     private String fotoTipo;
     private String fotoNome;
     private boolean temFoto;
@@ -56,4 +57,13 @@ public class MembroProfileResponse {
     // Auditoria
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * ETag fraca: a versão ({@code updatedAt}) mais um hash do conteúdo, que também muda quando o
+     * nome do cargo atual muda sem alterar o membro.
+     */
+    public String eTag() {
+        Long version = updatedAt != null ? updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        return "W/\"" + Long.toHexString(version) + "-" + Integer.toHexString(hashCode()) + "\"";
+    }
 }
\ No newline at end of file
@@ -42,7 +42,7 @@ public class MembroResponse {
 
     // Foto
     private boolean hasPhoto;
-    private String fotoBase64; // Apenas quando necessário
+    private String fotoUrl;
 
     // Observações
     private String observacoes;
@@ -0,0 +1,23 @@
+package com.br.ibetelvote.application.membro.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MembroStatsResponse {
+
+    private long totalMembros;
+    private long membrosAtivos;
+    private long membrosInativos;
+    private long membrosSemCargo;
+    private long membrosAptosParaVotacao;
+    private Map<UUID, Long> membrosPorCargo;
+}
@@ -4,16 +4,20 @@ import com.br.ibetelvote.application.auth.dto.*;
 import com.br.ibetelvote.application.mapper.AuthMapper;
 import com.br.ibetelvote.domain.entities.User;
 import com.br.ibetelvote.domain.services.AuthService;
+import com.br.ibetelvote.infrastructure.auth.CustomUserDetails;
+import com.br.ibetelvote.infrastructure.cache.UserProfileCache;
 import com.br.ibetelvote.infrastructure.jwt.JwtService;
+import com.br.ibetelvote.infrastructure.jwt.RefreshTokenStore;
 import com.br.ibetelvote.infrastructure.repositories.UserJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -31,20 +35,20 @@ public class AuthServiceImpl implements AuthService {
     private final UserJpaRepository userJpaRepository;
     private final JwtService jwtService;
     private final AuthMapper authMapper;
+    private final UserProfileCache userProfileCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final MeterRegistry meterRegistry;
 
     @Override
     @Transactional
     public LoginResponse login(LoginRequest request) {
         log.info("Tentativa de login para email: {}", request.email());
 
-        log.info("DEBUG - Senha recebida: '{}' (tamanho: {})",
-                request.password(),
-                request.password().length());
-
+        Authentication authentication;
         try {
             // A chamada ao authenticationManager já valida a senha com o BCrypt
             // e verifica se o usuário existe e está ativo.
-            authenticationManager.authenticate(
+            authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.email(), request.password())
             );
         } catch (AuthenticationException e) {
@@ -56,21 +60,22 @@ public class AuthServiceImpl implements AuthService {
             throw new BadCredentialsException("Credenciais inválidas");
         }
 
-        // Se a autenticação foi bem-sucedida, busca o usuário para gerar os tokens
-        User user = userJpaRepository.findByEmail(request.email())
-                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado após autenticação"));
+        // O principal já traz id, email e role; não é preciso buscar o usuário novamente
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        UserProfileResponse profile = userProfileCache.get(principal.getId(), this::loadUserProfile);
 
-        String accessToken = jwtService.generateAccessToken(user);
-        String refreshToken = jwtService.generateRefreshToken(user);
+        String accessToken = jwtService.generateAccessToken(
+                principal.getId(), principal.getUsername(), profile.getNome(), principal.getRole(), principal.isEnabled());
+        String refreshToken = refreshTokenStore.issue(principal.getId(), principal.getUsername());
 
-        log.info("Login realizado com sucesso para usuário: {} ({})", user.getNome(), user.getEmail());
+        log.info("Login realizado com sucesso para usuário: {}", principal.getId());
 
         return LoginResponse.builder()
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
                 .tokenType("Bearer")
                 .expiresIn(jwtService.getAccessTokenExpirationMinutes() * 60) // em segundos
-                .user(authMapper.toUserProfileResponse(user))
+                .user(profile)
                 .build();
     }
 
@@ -79,58 +84,66 @@ public class AuthServiceImpl implements AuthService {
     public RefreshTokenResponse refreshToken(RefreshTokenRequest request) {
         log.info("Tentativa de refresh token");
 
-        String refreshToken = request.refreshToken();
-
-        // Extrai o userId do token sem a necessidade de validar o token duas vezes
-        UUID userId = jwtService.extractUserId(refreshToken);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            // Valida assinatura, emissor e expiração em uma única leitura do token
+            JwtClaimsResponse claims = jwtService.extractClaims(request.refreshToken());
+            if (!"refresh".equals(claims.getType())) {
+                throw new IllegalArgumentException("Refresh token inválido ou expirado");
+            }
 
-        // Busca o usuário. A validação do token é feita dentro do JwtService.
-        User user = userJpaRepository.findById(userId)
-                .orElseThrow(() -> new UsernameNotFoundException("Usuário do refresh token não encontrado"));
+            // Consome o token atual; reutilização revoga a família inteira
+            UUID familyId = refreshTokenStore.consume(claims.getTokenId(), claims.getFamilyId(), claims.getUserId());
 
-        // Valida o refresh token e o estado do usuário em uma única verificação
-        if (!jwtService.validateToken(refreshToken, user) || !user.getAtivo() || !jwtService.isRefreshToken(refreshToken)) {
-            log.warn("Refresh token inválido ou expirado para usuário: {}", user.getEmail());
-            throw new IllegalArgumentException("Refresh token inválido ou expirado");
-        }
+            // Perfil em cache: é invalidado quando o usuário é desativado ou alterado
+            UserProfileResponse profile = userProfileCache.get(claims.getUserId(), this::loadUserProfile);
 
-        // Gera novo access token
-        String newAccessToken = jwtService.generateAccessToken(user);
+            String newAccessToken = jwtService.generateAccessToken(
+                    profile.getId(), profile.getEmail(), profile.getNome(), profile.getRole(), profile.getAtivo());
+            String newRefreshToken = refreshTokenStore.issue(profile.getId(), profile.getEmail(), familyId);
 
-        log.info("Refresh token realizado com sucesso para usuário: {}", user.getEmail());
+            log.info("Refresh token realizado com sucesso para usuário: {}", profile.getEmail());
+            outcome = "success";
 
-        return RefreshTokenResponse.builder()
-                .accessToken(newAccessToken)
-                .tokenType("Bearer")
-                .expiresIn(jwtService.getAccessTokenExpirationMinutes() * 60) // em segundos
-                .build();
+            return RefreshTokenResponse.builder()
+                    .accessToken(newAccessToken)
+                    .refreshToken(newRefreshToken)
+                    .tokenType("Bearer")
+                    .expiresIn(jwtService.getAccessTokenExpirationMinutes() * 60) // em segundos
+                    .build();
+        } finally {
+            sample.stop(meterRegistry.timer("auth.refresh", "outcome", outcome));
+        }
     }
 
     @Override
-    @Cacheable(value = "userProfile", key = "#userId")
     public UserProfileResponse getCurrentUser(UUID userId) {
-        log.debug("Buscando dados do usuário: {}", userId);
-        User user = userJpaRepository.findById(userId)
-                .filter(User::getAtivo) // Filtra apenas usuários ativos
-                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado ou desativado"));
-
-        return authMapper.toUserProfileResponse(user);
+        return userProfileCache.get(userId, this::loadUserProfile);
     }
 
     @Override
-    @CacheEvict(value = "userProfile", key = "#userId", allEntries = true)
     public void logout(String token) {
-        // A lógica de logout aqui é apenas um log e a invalidação do token será feita no cliente
-        // ou em uma lista de tokens inválidos (blacklist).
-        // Se houver um cache de perfil, é importante limpá-lo.
+        // O access token expira sozinho; aqui revogamos os refresh tokens do usuário
+        // e removemos o perfil do cache.
         try {
             UUID userId = jwtService.extractUserId(token);
+            userProfileCache.evict(userId);
+            refreshTokenStore.revokeAllForUser(userId);
             log.info("Logout realizado para usuário: {}", userId);
         } catch (Exception e) {
             log.warn("Tentativa de logout com token inválido");
         }
     }
 
+    private UserProfileResponse loadUserProfile(UUID userId) {
+        log.debug("Buscando dados do usuário: {}", userId);
+        return userJpaRepository.findProfileById(userId)
+                .filter(profile -> Boolean.TRUE.equals(profile.getAtivo())) // Filtra apenas usuários ativos
+                .map(authMapper::toUserProfileResponse)
+                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado ou desativado"));
+    }
+
     @Override
     public boolean isTokenValid(String token) {
         try {
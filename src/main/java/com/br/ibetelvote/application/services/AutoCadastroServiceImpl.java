@@ -3,11 +3,15 @@ package com.br.ibetelvote.application.services;
 import com.br.ibetelvote.application.auth.dto.LoginResponse;
 import com.br.ibetelvote.application.membro.dto.*;
 import com.br.ibetelvote.application.mapper.AuthMapper;
+import com.br.ibetelvote.application.mapper.FotoUrls;
 import com.br.ibetelvote.domain.entities.Membro;
 import com.br.ibetelvote.domain.entities.User;
 import com.br.ibetelvote.domain.entities.enums.UserRole;
 import com.br.ibetelvote.domain.services.AutoCadastroService;
+import com.br.ibetelvote.infrastructure.cache.MembroLookupNegativeCache;
+import com.br.ibetelvote.infrastructure.cache.MembroProfileCache;
 import com.br.ibetelvote.infrastructure.jwt.JwtService;
+import com.br.ibetelvote.infrastructure.jwt.RefreshTokenStore;
 import com.br.ibetelvote.infrastructure.repositories.MembroJpaRepository;
 import com.br.ibetelvote.infrastructure.repositories.UserJpaRepository;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +20,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -29,6 +34,9 @@ public class AutoCadastroServiceImpl implements AutoCadastroService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthMapper authMapper;
+    private final MembroLookupNegativeCache membroLookupNegativeCache;
+    private final MembroProfileCache membroProfileCache;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     @Transactional(readOnly = true)
@@ -41,7 +49,7 @@ public class AutoCadastroServiceImpl implements AutoCadastroService {
         }
 
         // Buscar membro por email e CPF
-        Membro membro = membroRepository.findByEmailAndCpf(request.getEmail(), request.getCpf())
+        Membro membro = findByEmailAndCpf(request.getEmail(), request.getCpf())
                 .orElseThrow(() -> new IllegalArgumentException("Membro não encontrado com os dados informados"));
 
         // Verificar se pode criar usuário
@@ -100,7 +108,7 @@ public class AutoCadastroServiceImpl implements AutoCadastroService {
 
         // Gerar tokens para login automático
         String accessToken = jwtService.generateAccessToken(savedUser);
-        String refreshToken = jwtService.generateRefreshToken(savedUser);
+        String refreshToken = refreshTokenStore.issue(savedUser.getId(), savedUser.getEmail());
 
         log.info("Usuário criado e associado com sucesso - Membro: {}, User: {}", membro.getId(), savedUser.getId());
 
@@ -118,7 +126,11 @@ public class AutoCadastroServiceImpl implements AutoCadastroService {
     public MembroProfileResponse getMembroProfile(UUID userId) {
         log.debug("Buscando perfil do membro: {}", userId);
 
-        Membro membro = membroRepository.findByUserId(userId)
+        return membroProfileCache.get(userId, this::carregarPerfil);
+    }
+
+    private MembroProfileResponse carregarPerfil(UUID userId) {
+        Membro membro = membroRepository.findPerfilByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Membro não encontrado"));
 
         return MembroProfileResponse.builder()
@@ -140,7 +152,7 @@ public class AutoCadastroServiceImpl implements AutoCadastroService {
                 .cidade(membro.getCidade())
                 .estado(membro.getEstado())
                 .cep(membro.getCep())
-                .fotoBase64(membro.getFotoBase64())
+                .fotoUrl(FotoUrls.membro(membro))
                 .fotoTipo(membro.getFotoTipo())
                 .fotoNome(membro.getFotoNome())
                 .temFoto(membro.hasPhoto())
@@ -199,7 +211,7 @@ public class AutoCadastroServiceImpl implements AutoCadastroService {
         }
 
         // Atualizar cargo (se existir no DTO)
-        if (request.getCargoAtualId() != null) {
+        if (request.getCargoAtualId() != null && !request.getCargoAtualId().equals(membro.getCargoAtualId())) {
             membro.setCargoAtualId(request.getCargoAtualId());
         }
 
@@ -223,17 +235,32 @@ public class AutoCadastroServiceImpl implements AutoCadastroService {
 
         log.info("Perfil atualizado com sucesso - Membro: {}", membro.getId());
 
-        return getMembroProfile(savedMembro.getUserId());
+        return carregarPerfil(savedMembro.getUserId());
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean canMembroCreateUser(String email, String cpf) {
-        return membroRepository.findByEmailAndCpf(email, cpf)
+        return findByEmailAndCpf(email, cpf)
                 .map(Membro::canCreateUser)
                 .orElse(false);
     }
 
+    /**
+     * Membro com o email informado cujo CPF confere. A busca usa o índice de email; o CPF é
+     * conferido em memória.
+     */
+    private Optional<Membro> findByEmailAndCpf(String email, String cpf) {
+        String emailNormalizado = Membro.normalizarEmail(email);
+        String cpfNormalizado = Membro.normalizarCpf(cpf);
+        if (emailNormalizado == null || emailNormalizado.isEmpty() || cpfNormalizado == null) {
+            return Optional.empty();
+        }
+
+        return membroLookupNegativeCache.porEmail(emailNormalizado, () -> membroRepository.findByEmail(emailNormalizado))
+                .filter(membro -> cpfNormalizado.equals(Membro.normalizarCpf(membro.getCpf())));
+    }
+
     private boolean isBasicProfileComplete(Membro membro) {
         return membro.getNome() != null && !membro.getNome().trim().isEmpty() &&
                 membro.getEmail() != null && !membro.getEmail().trim().isEmpty() &&
@@ -2,12 +2,15 @@ package com.br.ibetelvote.application.services;
 
 import com.br.ibetelvote.application.candidato.dto.*;
 import com.br.ibetelvote.application.mapper.CandidatoMapper;
+import com.br.ibetelvote.application.shared.dto.StoredFile;
+import com.br.ibetelvote.application.shared.dto.StoredImage;
 import com.br.ibetelvote.application.shared.dto.UploadPhotoResponse;
 import com.br.ibetelvote.domain.entities.Candidato;
 import com.br.ibetelvote.domain.entities.Cargo;
 import com.br.ibetelvote.domain.entities.Eleicao;
 import com.br.ibetelvote.domain.entities.Membro;
 import com.br.ibetelvote.domain.services.CandidatoService;
+import com.br.ibetelvote.domain.services.FileStorageService;
 import com.br.ibetelvote.infrastructure.repositories.CandidatoJpaRepository;
 import com.br.ibetelvote.infrastructure.repositories.CargoJpaRepository;
 import com.br.ibetelvote.infrastructure.repositories.EleicaoJpaRepository;
@@ -37,8 +40,11 @@ public class CandidatoServiceImpl implements CandidatoService {
     private final EleicaoJpaRepository eleicaoRepository;
     private final CargoJpaRepository cargoRepository;
     private final CandidatoMapper candidatoMapper;
+    private final FileStorageService fileStorageService;
 
     private static final long MAX_FILE_SIZE = 500 * 1024; // 500KB
+    // Variante exibida na tela de votação
+    private static final String FOTO_CAMPANHA_VARIANTE_VOTACAO = "card";
     private static final List<String> ALLOWED_CONTENT_TYPES = List.of(
             "image/jpeg", "image/jpg", "image/png", "image/webp"
     );
@@ -166,6 +172,7 @@ public class CandidatoServiceImpl implements CandidatoService {
         }
 
         candidatoRepository.delete(candidato);
+        fileStorageService.release(candidato.getFotoCampanhaKey());
         log.info("Candidato removido com sucesso - ID: {}", id);
     }
 
@@ -286,36 +293,38 @@ public class CandidatoServiceImpl implements CandidatoService {
 
     // === OPERAÇÕES DE FOTO ===
 
+    @Override
+    @Transactional(readOnly = true)
+    public void validarFotoCampanha(UUID id, MultipartFile file) {
+        if (!candidatoRepository.existsById(id)) {
+            throw new IllegalArgumentException("Candidato não encontrado com ID: " + id);
+        }
+        validatePhotoFile(file);
+    }
+
     @Override
     @CacheEvict(value = "candidatos", key = "#id")
-    public UploadPhotoResponse uploadFotoCampanha(UUID id, MultipartFile file) {
-        log.info("Fazendo upload de foto de campanha para candidato ID: {}", id);
+    public UploadPhotoResponse aplicarFotoCampanha(UUID id, StoredImage imagem, String fileName) {
+        log.info("Aplicando foto de campanha ao candidato ID: {} - Arquivo: {}", id, imagem.key());
 
         Candidato candidato = candidatoRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Candidato não encontrado com ID: " + id));
 
-        try {
-            validatePhotoFile(file);
-
-            byte[] fotoData = file.getBytes();
-            String contentType = file.getContentType();
-            String fileName = file.getOriginalFilename();
-
-            candidato.updateFotoCampanha(fotoData, contentType, fileName);
-            candidatoRepository.save(candidato);
+        String chaveAnterior = candidato.getFotoCampanhaKey();
+        candidato.updateFotoCampanha(imagem.key(), imagem.contentHash(), imagem.contentType(), fileName,
+                imagem.size(), imagem.width(), imagem.height());
+        candidatoRepository.saveAndFlush(candidato);
 
-            log.info("Upload de foto de campanha concluído para candidato ID: {} - Arquivo: {}", id, fileName);
+        fileStorageService.retain(imagem.key());
+        fileStorageService.release(chaveAnterior);
 
-            return UploadPhotoResponse.builder()
-                    .fileName(fileName)
-                    .fotoBase64(candidato.getFotoCampanhaDataUri())
-                    .message("Upload realizado com sucesso")
-                    .build();
+        log.info("Foto de campanha atualizada para candidato ID: {}", id);
 
-        } catch (IOException e) {
-            log.error("Erro ao fazer upload de foto para candidato ID: {}", id, e);
-            throw new RuntimeException("Erro ao fazer upload da foto: " + e.getMessage());
-        }
+        return UploadPhotoResponse.builder()
+                .fileName(fileName)
+                .fotoUrl(candidatoMapper.buildFotoCampanhaUrl(candidato))
+                .message("Upload realizado com sucesso")
+                .build();
     }
 
     @Override
@@ -327,21 +336,50 @@ public class CandidatoServiceImpl implements CandidatoService {
                 .orElseThrow(() -> new IllegalArgumentException("Candidato não encontrado com ID: " + id));
 
         if (candidato.temFotoCampanha()) {
+            String chave = candidato.getFotoCampanhaKey();
             candidato.removeFotoCampanha();
             candidatoRepository.save(candidato);
+            fileStorageService.release(chave);
             log.info("Foto de campanha removida com sucesso - ID: {}", id);
         }
     }
 
     @Override
     @Transactional(readOnly = true)
-    public String getFotoCampanhaBase64(UUID id) {
-        log.debug("Buscando foto de campanha em Base64 para candidato ID: {}", id);
+    public StoredFile getFotoCampanhaArquivo(UUID id, String variante, boolean aceitaWebp) {
+        String chave = candidatoRepository.findFotoCampanhaKeyById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Candidato não possui foto de campanha: " + id));
 
-        Candidato candidato = candidatoRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Candidato não encontrado com ID: " + id));
+        try {
+            return fileStorageService.findImage(chave, variante, aceitaWebp)
+                    .orElseThrow(() -> new IllegalArgumentException("Arquivo da foto de campanha não encontrado: " + id));
+        } catch (IOException e) {
+            log.error("Erro ao carregar foto de campanha do candidato ID: {}", id, e);
+            throw new IllegalStateException("Foto de campanha indisponível para o candidato: " + id);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int warmUpFotosCampanha(UUID eleicaoId) {
+        int carregadas = 0;
+        for (String chave : candidatoRepository.findFotoCampanhaKeysAprovadosByEleicaoId(eleicaoId)) {
+            try {
+                // findImage mantém o arquivo no cache de conteúdo; os dois formatos são pedidos na votação
+                boolean webp = fileStorageService.findImage(chave, FOTO_CAMPANHA_VARIANTE_VOTACAO, true)
+                        .map(StoredFile::isResident).orElse(false);
+                boolean jpeg = fileStorageService.findImage(chave, FOTO_CAMPANHA_VARIANTE_VOTACAO, false)
+                        .map(StoredFile::isResident).orElse(false);
+                if (webp || jpeg) {
+                    carregadas++;
+                }
+            } catch (IOException e) {
+                log.warn("Não foi possível pré-carregar a foto {}: {}", chave, e.getMessage());
+            }
+        }
 
-        return candidato.getFotoCampanhaDataUri();
+        log.info("Cache de fotos aquecido para eleição {}: {} fotos de campanha", eleicaoId, carregadas);
+        return carregadas;
     }
 
     // === CONSULTAS ESPECÍFICAS ===
@@ -11,6 +11,7 @@ import com.br.ibetelvote.domain.entities.enums.HierarquiaCargo;
 import com.br.ibetelvote.domain.services.CargoService;
 import com.br.ibetelvote.infrastructure.repositories.CargoJpaRepository;
 import com.br.ibetelvote.infrastructure.repositories.CategoriaJpaRepository;
+import com.br.ibetelvote.infrastructure.service.ElegibilidadeMatrix;
 import com.br.ibetelvote.infrastructure.specifications.CargoSpecifications;
 import org.springframework.data.jpa.domain.Specification;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +36,7 @@ public class CargoServiceImpl implements CargoService {
     private final CargoJpaRepository cargoRepository;
     private final CategoriaJpaRepository categoriaRepository;
     private final CargoMapper cargoMapper;
+    private final ElegibilidadeMatrix elegibilidadeMatrix;
 
     // === OPERAÇÕES BÁSICAS ===
 
@@ -70,6 +72,7 @@ public class CargoServiceImpl implements CargoService {
 
         Cargo cargo = cargoMapper.toEntity(request);
         Cargo savedCargo = cargoRepository.save(cargo);
+        elegibilidadeMatrix.invalidate();
 
         log.info("Cargo criado com sucesso - ID: {}, Nome: {}", savedCargo.getId(), savedCargo.getNome());
         return cargoMapper.toResponse(savedCargo);
@@ -141,6 +144,8 @@ public class CargoServiceImpl implements CargoService {
         cargoMapper.updateEntityFromRequest(request, cargo);
         Cargo updatedCargo = cargoRepository.save(cargo);
 
+        elegibilidadeMatrix.invalidate();
+
         log.info("Cargo atualizado com sucesso - ID: {}", updatedCargo.getId());
         return cargoMapper.toResponse(updatedCargo);
     }
@@ -159,6 +164,7 @@ public class CargoServiceImpl implements CargoService {
         }
 
         cargoRepository.delete(cargo);
+        elegibilidadeMatrix.invalidate();
         log.info("Cargo removido com sucesso - ID: {}", id);
     }
 
@@ -364,6 +370,8 @@ public class CargoServiceImpl implements CargoService {
         cargo.activate();
         Cargo savedCargo = cargoRepository.save(cargo);
 
+        elegibilidadeMatrix.invalidate();
+
         log.info("Cargo ativado com sucesso - ID: {}", savedCargo.getId());
         return cargoMapper.toResponse(savedCargo);
     }
@@ -382,6 +390,8 @@ public class CargoServiceImpl implements CargoService {
 
         Cargo savedCargo = cargoRepository.save(cargo);
 
+        elegibilidadeMatrix.invalidate();
+
         log.info("Cargo desativado com sucesso - ID: {}", savedCargo.getId());
         return cargoMapper.toResponse(savedCargo);
     }
@@ -796,6 +806,7 @@ public class CargoServiceImpl implements CargoService {
 
         cargos.forEach(Cargo::activate);
         List<Cargo> savedCargos = cargoRepository.saveAll(cargos);
+        elegibilidadeMatrix.invalidate();
 
         return cargoMapper.toResponseList(savedCargos);
     }
@@ -812,6 +823,7 @@ public class CargoServiceImpl implements CargoService {
             cargo.desativarParaEleicao(); // Remove também das eleições
         });
         List<Cargo> savedCargos = cargoRepository.saveAll(cargos);
+        elegibilidadeMatrix.invalidate();
 
         return cargoMapper.toResponseList(savedCargos);
     }
@@ -829,6 +841,7 @@ public class CargoServiceImpl implements CargoService {
         }
 
         cargoRepository.deleteAllById(ids);
+        elegibilidadeMatrix.invalidate();
         log.info("Cargos removidos com sucesso: {}", ids.size());
     }
 
@@ -6,12 +6,14 @@ import com.br.ibetelvote.application.eleicao.dto.VagasEleicaoResponse;
 import com.br.ibetelvote.application.mapper.EleicaoMapper;
 import com.br.ibetelvote.domain.entities.Cargo;
 import com.br.ibetelvote.domain.entities.Eleicao;
+import com.br.ibetelvote.domain.events.EleicaoAtivadaEvent;
 import com.br.ibetelvote.domain.repositories.CargoRepository;
 import com.br.ibetelvote.domain.repositories.EleicaoRepository;
 import com.br.ibetelvote.infrastructure.repositories.CargoJpaRepository;
 import com.br.ibetelvote.infrastructure.repositories.EleicaoJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ public class EleicaoConfigService {
     private final EleicaoJpaRepository eleicaoRepository;
     private final CargoJpaRepository cargoRepository;
     private final EleicaoMapper eleicaoMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     // === CONFIGURAÇÃO DE VAGAS ===
 
@@ -145,6 +148,7 @@ public class EleicaoConfigService {
         // Ativar
         eleicao.activate();
         eleicaoRepository.save(eleicao);
+        eventPublisher.publishEvent(new EleicaoAtivadaEvent(eleicaoId));
 
         log.info("Eleição {} ativada com sucesso", eleicaoId);
     }
@@ -0,0 +1,552 @@
+package com.br.ibetelvote.application.services;
+
+import com.br.ibetelvote.application.mapper.MembroMapper;
+import com.br.ibetelvote.application.membro.dto.CreateMembroRequest;
+import com.br.ibetelvote.application.membro.dto.MembroImportErro;
+import com.br.ibetelvote.application.membro.dto.MembroImportJobResponse;
+import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.domain.entities.enums.UploadJobStatus;
+import com.br.ibetelvote.domain.handlers.exceptions.ProcessamentoIndisponivelException;
+import com.br.ibetelvote.domain.services.FileStorageService;
+import com.br.ibetelvote.domain.services.MembroImportService;
+import com.br.ibetelvote.infrastructure.cache.MembroListCache;
+import com.br.ibetelvote.infrastructure.cache.MembroLookupNegativeCache;
+import com.br.ibetelvote.infrastructure.cache.MembroStatsCache;
+import com.br.ibetelvote.infrastructure.importacao.CsvReader;
+import com.br.ibetelvote.infrastructure.repositories.MembroJpaRepository;
+import com.br.ibetelvote.infrastructure.service.MembroSearchIndex;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.util.Map.entry;
+
+/**
+ * Importação de membros em lote a partir de um arquivo CSV.
+ *
+ * A requisição grava o arquivo no spool e confere o cabeçalho; o processamento roda em segundo
+ * plano, um registro por vez, sem carregar o arquivo na memória. Cada linha passa pelas mesmas
+ * validações do cadastro individual, com CPF, e-mail e nome normalizados pelo mapper, e a
+ * duplicidade é checada contra conjuntos em memória com as chaves já cadastradas (carregados uma
+ * vez) e as do próprio arquivo. As linhas válidas são gravadas em lotes JDBC de {@code batch-size};
+ * as recusadas entram no relatório do job com o número da linha e o motivo.
+ *
+ * Uma importação roda por vez; as seguintes esperam em uma fila curta e, com ela cheia, o envio é
+ * recusado. A situação de cada job fica em memória pelo tempo de {@code app.membros.importacao.retention}.
+ */
+@Service
+@Slf4j
+public class MembroImportServiceImpl implements MembroImportService {
+
+    private static final String STATUS_PATH = "/api/v1/membros/importacao/";
+    private static final long RETRY_AFTER_SECONDS = 30;
+    private static final int QUEUE_CAPACITY = 4;
+
+    private static final Set<String> COLUNAS_OBRIGATORIAS = Set.of("nome", "cpf", "email");
+
+    // Cabeçalho sem acentos, espaços e pontuação → campo de CreateMembroRequest
+    private static final Map<String, String> COLUNAS = Map.ofEntries(
+            entry("nome", "nome"),
+            entry("nomecompleto", "nome"),
+            entry("cpf", "cpf"),
+            entry("email", "email"),
+            entry("datanascimento", "dataNascimento"),
+            entry("datadenascimento", "dataNascimento"),
+            entry("nascimento", "dataNascimento"),
+            entry("departamento", "departamento"),
+            entry("databatismo", "dataBatismo"),
+            entry("datadebatismo", "dataBatismo"),
+            entry("batismo", "dataBatismo"),
+            entry("datamembrodesde", "dataMembroDesde"),
+            entry("membrodesde", "dataMembroDesde"),
+            entry("telefone", "telefone"),
+            entry("celular", "celular"),
+            entry("endereco", "endereco"),
+            entry("cidade", "cidade"),
+            entry("estado", "estado"),
+            entry("uf", "estado"),
+            entry("cep", "cep"),
+            entry("observacoes", "observacoes"),
+            entry("observacao", "observacoes")
+    );
+
+    private static final List<DateTimeFormatter> FORMATOS_DATA = List.of(
+            DateTimeFormatter.ofPattern("dd/MM/uuuu"),
+            DateTimeFormatter.ISO_LOCAL_DATE
+    );
+
+    private static final String INSERT_SQL = "INSERT INTO membros (id, nome, cpf, email, data_nascimento, " +
+            "departamento, data_batismo, data_membro_desde, telefone, celular, endereco, cidade, estado, cep, " +
+            "observacoes, ativo, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final FileStorageService fileStorageService;
+    private final MembroJpaRepository membroRepository;
+    private final MembroMapper membroMapper;
+    private final Validator validator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MembroSearchIndex membroSearchIndex;
+    private final MembroListCache membroListCache;
+    private final MembroStatsCache membroStatsCache;
+    private final MembroLookupNegativeCache membroLookupNegativeCache;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxErros;
+    private final Cache<UUID, ImportJob> jobs;
+    private final ThreadPoolExecutor executor;
+
+    public MembroImportServiceImpl(FileStorageService fileStorageService,
+                                   MembroJpaRepository membroRepository,
+                                   MembroMapper membroMapper,
+                                   Validator validator,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   MembroSearchIndex membroSearchIndex,
+                                   MembroListCache membroListCache,
+                                   MembroStatsCache membroStatsCache,
+                                   MembroLookupNegativeCache membroLookupNegativeCache,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.membros.importacao.batch-size:500}") int batchSize,
+                                   @Value("${app.membros.importacao.max-erros:1000}") int maxErros,
+                                   @Value("${app.membros.importacao.retention:1h}") Duration retention) {
+        this.fileStorageService = fileStorageService;
+        this.membroRepository = membroRepository;
+        this.membroMapper = membroMapper;
+        this.validator = validator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.membroSearchIndex = membroSearchIndex;
+        this.membroListCache = membroListCache;
+        this.membroStatsCache = membroStatsCache;
+        this.membroLookupNegativeCache = membroLookupNegativeCache;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxErros = maxErros;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .build();
+        this.executor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "membro-import");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public MembroImportJobResponse submit(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Arquivo de importação vazio");
+        }
+
+        Path spooled;
+        try {
+            spooled = fileStorageService.spoolUpload(file);
+        } catch (IOException e) {
+            log.error("Erro ao receber arquivo de importação {}: {}", file.getOriginalFilename(), e.getMessage());
+            throw new IllegalStateException("Erro ao receber o arquivo: " + e.getMessage());
+        }
+
+        try {
+            lerCabecalho(spooled);
+        } catch (IllegalArgumentException e) {
+            deleteSpooled(spooled);
+            contar("invalido");
+            throw e;
+        } catch (IOException e) {
+            deleteSpooled(spooled);
+            throw new IllegalStateException("Erro ao ler o arquivo: " + e.getMessage());
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID(), file.getOriginalFilename());
+        jobs.put(job.id, job);
+
+        try {
+            executor.execute(() -> process(job, spooled));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.id);
+            deleteSpooled(spooled);
+            contar("rejeitado");
+            log.warn("Fila de importação de membros cheia; arquivo {} recusado", file.getOriginalFilename());
+            throw new ProcessamentoIndisponivelException(
+                    "Há importações demais em andamento. Tente novamente em instantes.", RETRY_AFTER_SECONDS);
+        }
+
+        log.info("Importação {} enfileirada: {} ({} bytes)", job.id, file.getOriginalFilename(), file.getSize());
+        return job.toResponse();
+    }
+
+    @Override
+    public Optional<MembroImportJobResponse> getStatus(UUID jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId)).map(ImportJob::toResponse);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // === PROCESSAMENTO ===
+
+    private void process(ImportJob job, Path spooled) {
+        job.status = UploadJobStatus.PROCESSANDO;
+
+        try (SeekableByteChannel canal = Files.newByteChannel(spooled);
+             CsvReader csv = new CsvReader(Channels.newInputStream(canal))) {
+
+            long tamanho = Math.max(1, canal.size());
+            Map<String, Integer> colunas = mapearColunas(csv.readRecord());
+
+            Set<String> emails = new HashSet<>(membroRepository.findAllEmails());
+            Set<String> cpfs = membroRepository.findAllCpfs().stream()
+                    .filter(Objects::nonNull)
+                    .map(Membro::normalizarCpf)
+                    .collect(Collectors.toCollection(HashSet::new));
+
+            List<LinhaValida> lote = new ArrayList<>(batchSize);
+            List<String> registro;
+            while ((registro = csv.readRecord()) != null) {
+                long linha = csv.getLineNumber();
+                job.linhasLidas++;
+                try {
+                    lote.add(new LinhaValida(linha, converter(registro, colunas, emails, cpfs)));
+                } catch (IllegalArgumentException e) {
+                    job.rejeitar(linha, e.getMessage(), maxErros);
+                }
+
+                if (lote.size() >= batchSize) {
+                    gravar(job, lote);
+                    lote.clear();
+                    job.progresso = (int) Math.min(99, canal.position() * 100 / tamanho);
+                }
+            }
+            gravar(job, lote);
+
+            job.concluir();
+            contar("concluido");
+            log.info("Importação {} concluída: {} linhas, {} importados, {} recusados",
+                    job.id, job.linhasLidas, job.importados, job.rejeitados);
+        } catch (Exception e) {
+            // Lotes já gravados permanecem; o relatório mostra até onde o arquivo foi lido.
+            // Erros de formato vão para o cliente; os demais ficam só no log
+            job.falhar(e instanceof IllegalArgumentException ? e.getMessage() : "Erro ao processar o arquivo");
+            contar("falhou");
+            log.error("Importação {} falhou após {} linhas: {}", job.id, job.linhasLidas, e.getMessage(), e);
+        } finally {
+            deleteSpooled(spooled);
+            meterRegistry.counter("membros.importacao.linhas", "resultado", "importado").increment(job.importados);
+            meterRegistry.counter("membros.importacao.linhas", "resultado", "recusado").increment(job.rejeitados);
+            if (job.importados > 0) {
+                membroListCache.invalidate();
+                membroStatsCache.invalidate();
+                membroLookupNegativeCache.invalidate();
+                membroSearchIndex.rebuild();
+            }
+        }
+    }
+
+    private Membro converter(List<String> registro, Map<String, Integer> colunas,
+                             Set<String> emails, Set<String> cpfs) {
+        CreateMembroRequest request = CreateMembroRequest.builder()
+                .nome(valor(registro, colunas, "nome"))
+                .cpf(valor(registro, colunas, "cpf"))
+                .email(valor(registro, colunas, "email"))
+                .dataNascimento(data(registro, colunas, "dataNascimento"))
+                .departamento(valor(registro, colunas, "departamento"))
+                .dataBatismo(data(registro, colunas, "dataBatismo"))
+                .dataMembroDesde(data(registro, colunas, "dataMembroDesde"))
+                .telefone(valor(registro, colunas, "telefone"))
+                .celular(valor(registro, colunas, "celular"))
+                .endereco(valor(registro, colunas, "endereco"))
+                .cidade(valor(registro, colunas, "cidade"))
+                .estado(valor(registro, colunas, "estado"))
+                .cep(valor(registro, colunas, "cep"))
+                .observacoes(valor(registro, colunas, "observacoes"))
+                .build();
+
+        Set<ConstraintViolation<CreateMembroRequest>> violacoes = validator.validate(request);
+        if (!violacoes.isEmpty()) {
+            throw new IllegalArgumentException(violacoes.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        if (!Membro.isValidCPF(request.getCpf())) {
+            throw new IllegalArgumentException("CPF inválido: " + request.getCpf());
+        }
+
+        // Normaliza CPF (só dígitos), e-mail (minúsculo) e nome
+        Membro membro = membroMapper.toEntity(request);
+
+        if (cpfs.contains(membro.getCpf())) {
+            throw new IllegalArgumentException("CPF já cadastrado ou repetido no arquivo: " + request.getCpf());
+        }
+        if (emails.contains(membro.getEmail())) {
+            throw new IllegalArgumentException("Email já cadastrado ou repetido no arquivo: " + membro.getEmail());
+        }
+        cpfs.add(membro.getCpf());
+        emails.add(membro.getEmail());
+        return membro;
+    }
+
+    private void gravar(ImportJob job, List<LinhaValida> lote) {
+        if (lote.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        List<Object[]> parametros = lote.stream()
+                .map(linha -> parametros(linha.membro(), agora))
+                .toList();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, parametros));
+            job.importados += lote.size();
+        } catch (DataAccessException e) {
+            // Um membro cadastrado por outra via durante a importação derruba o lote inteiro;
+            // regrava linha a linha para aproveitar as demais
+            log.warn("Lote da importação {} recusado ({}); gravando linha a linha", job.id, e.getMessage());
+            for (int i = 0; i < lote.size(); i++) {
+                Object[] linhaParametros = parametros.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, linhaParametros));
+                    job.importados++;
+                } catch (DuplicateKeyException ex) {
+                    job.rejeitar(lote.get(i).linha(), "Email ou CPF já cadastrado", maxErros);
+                } catch (DataAccessException ex) {
+                    log.warn("Importação {}: erro ao gravar a linha {}: {}", job.id, lote.get(i).linha(), ex.getMessage());
+                    job.rejeitar(lote.get(i).linha(), "Erro ao gravar o membro", maxErros);
+                }
+            }
+        }
+    }
+
+    private static Object[] parametros(Membro membro, LocalDateTime agora) {
+        return new Object[]{
+                UUID.randomUUID(),
+                membro.getNome(),
+                membro.getCpf(),
+                membro.getEmail(),
+                membro.getDataNascimento(),
+                membro.getDepartamento(),
+                membro.getDataBatismo(),
+                membro.getDataMembroDesde(),
+                membro.getTelefone(),
+                membro.getCelular(),
+                membro.getEndereco(),
+                membro.getCidade(),
+                membro.getEstado(),
+                membro.getCep(),
+                membro.getObservacoes(),
+                membro.getAtivo() == null || membro.getAtivo(),
+                agora,
+                agora
+        };
+    }
+
+    // === CABEÇALHO E CAMPOS ===
+
+    private void lerCabecalho(Path spooled) throws IOException {
+        try (InputStream input = Files.newInputStream(spooled)) {
+            byte[] assinatura = input.readNBytes(4);
+            // Planilhas .xlsx são arquivos ZIP
+            if (assinatura.length == 4 && assinatura[0] == 'P' && assinatura[1] == 'K'
+                    && assinatura[2] == 3 && assinatura[3] == 4) {
+                throw new IllegalArgumentException(
+                        "Planilhas Excel não são aceitas; salve a planilha como CSV e envie novamente");
+            }
+        }
+        try (CsvReader csv = new CsvReader(Files.newInputStream(spooled))) {
+            mapearColunas(csv.readRecord());
+        }
+    }
+
+    private static Map<String, Integer> mapearColunas(List<String> cabecalho) {
+        if (cabecalho == null) {
+            throw new IllegalArgumentException("Arquivo de importação vazio");
+        }
+
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < cabecalho.size(); i++) {
+            String campo = COLUNAS.get(normalizarCabecalho(cabecalho.get(i)));
+            if (campo != null) {
+                colunas.putIfAbsent(campo, i);
+            }
+        }
+
+        List<String> ausentes = COLUNAS_OBRIGATORIAS.stream()
+                .filter(coluna -> !colunas.containsKey(coluna))
+                .sorted()
+                .toList();
+        if (!ausentes.isEmpty()) {
+            throw new IllegalArgumentException("Colunas obrigatórias ausentes no cabeçalho: " + String.join(", ", ausentes));
+        }
+        return colunas;
+    }
+
+    private static String normalizarCabecalho(String coluna) {
+        return Normalizer.normalize(coluna, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9]", "");
+    }
+
+    private static String valor(List<String> registro, Map<String, Integer> colunas, String campo) {
+        Integer indice = colunas.get(campo);
+        if (indice == null || indice >= registro.size()) {
+            return null;
+        }
+        String valor = registro.get(indice).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private static LocalDate data(List<String> registro, Map<String, Integer> colunas, String campo) {
+        String valor = valor(registro, colunas, campo);
+        if (valor == null) {
+            return null;
+        }
+        for (DateTimeFormatter formato : FORMATOS_DATA) {
+            try {
+                return LocalDate.parse(valor, formato);
+            } catch (DateTimeParseException e) {
+                // tenta o próximo formato
+            }
+        }
+        throw new IllegalArgumentException("Data inválida em " + campo + ": " + valor + " (use dd/mm/aaaa)");
+    }
+
+    private void deleteSpooled(Path spooled) {
+        try {
+            Files.deleteIfExists(spooled);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o arquivo temporário {}: {}", spooled, e.getMessage());
+        }
+    }
+
+    private void contar(String resultado) {
+        meterRegistry.counter("membros.importacao.jobs", "resultado", resultado).increment();
+    }
+
+    private record LinhaValida(long linha, Membro membro) {
+    }
+
+    /**
+     * Estado mutável de uma importação; escrito pela thread de importação e lido pelas consultas de status.
+     */
+    private static final class ImportJob {
+
+        private final UUID id;
+        private final String fileName;
+        private final LocalDateTime criadoEm = LocalDateTime.now();
+        private final List<MembroImportErro> erros = Collections.synchronizedList(new ArrayList<>());
+
+        private volatile UploadJobStatus status = UploadJobStatus.PENDENTE;
+        private volatile int progresso;
+        private volatile long linhasLidas;
+        private volatile long importados;
+        private volatile long rejeitados;
+        private volatile String erro;
+        private volatile LocalDateTime concluidoEm;
+
+        private ImportJob(UUID id, String fileName) {
+            this.id = id;
+            this.fileName = fileName;
+        }
+
+        private void rejeitar(long linha, String mensagem, int maxErros) {
+            rejeitados++;
+            if (erros.size() < maxErros) {
+                erros.add(new MembroImportErro(linha, mensagem));
+            }
+        }
+
+        private void concluir() {
+            this.concluidoEm = LocalDateTime.now();
+            this.progresso = 100;
+            this.status = UploadJobStatus.CONCLUIDO;
+        }
+
+        private void falhar(String erro) {
+            this.erro = erro;
+            this.concluidoEm = LocalDateTime.now();
+            this.progresso = 100;
+            this.status = UploadJobStatus.FALHOU;
+        }
+
+        private MembroImportJobResponse toResponse() {
+            List<MembroImportErro> copiaErros;
+            synchronized (erros) {
+                copiaErros = List.copyOf(erros);
+            }
+
+            return MembroImportJobResponse.builder()
+                    .jobId(id)
+                    .status(status)
+                    .progresso(progresso)
+                    .statusUrl(STATUS_PATH + id)
+                    .fileName(fileName)
+                    .linhasLidas(linhasLidas)
+                    .importados(importados)
+                    .rejeitados(rejeitados)
+                    .erros(copiaErros)
+                    .erro(erro)
+                    .criadoEm(criadoEm)
+                    .concluidoEm(concluidoEm)
+                    .build();
+        }
+    }
+}
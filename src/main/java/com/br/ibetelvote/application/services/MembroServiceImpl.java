@@ -3,22 +3,43 @@ package com.br.ibetelvote.application.services;
 import com.br.ibetelvote.application.mapper.MembroMapper;
 import com.br.ibetelvote.application.membro.dto.MembroBasicInfo;
 import com.br.ibetelvote.application.membro.dto.*;
+import com.br.ibetelvote.application.shared.dto.CursorPage;
+import com.br.ibetelvote.application.shared.dto.StoredFile;
+import com.br.ibetelvote.application.shared.dto.StoredImage;
 import com.br.ibetelvote.domain.entities.Cargo;
 import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.domain.services.FileStorageService;
 import com.br.ibetelvote.domain.services.MembroService;
+import com.br.ibetelvote.infrastructure.cache.MembroListCache;
+import com.br.ibetelvote.infrastructure.cache.MembroLookupNegativeCache;
+import com.br.ibetelvote.infrastructure.cache.MembroStatsCache;
 import com.br.ibetelvote.infrastructure.repositories.CargoJpaRepository;
 import com.br.ibetelvote.infrastructure.repositories.MembroJpaRepository;
+import com.br.ibetelvote.infrastructure.repositories.projections.MembroContagemView;
+import com.br.ibetelvote.infrastructure.repositories.projections.MembroListagemView;
+import com.br.ibetelvote.infrastructure.service.ElegibilidadeMatrix;
+import com.br.ibetelvote.infrastructure.service.MembroArchiveJob;
+import com.br.ibetelvote.infrastructure.service.MembroSearchIndex;
+import com.br.ibetelvote.infrastructure.specifications.MembroSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -27,9 +48,18 @@ import java.util.UUID;
 @Transactional
 public class MembroServiceImpl implements MembroService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MembroJpaRepository membroRepository;
     private final CargoJpaRepository cargoRepository;
     private final MembroMapper membroMapper;
+    private final FileStorageService fileStorageService;
+    private final MembroSearchIndex membroSearchIndex;
+    private final MembroStatsCache membroStatsCache;
+    private final MembroListCache membroListCache;
+    private final MembroLookupNegativeCache membroLookupNegativeCache;
+    private final ElegibilidadeMatrix elegibilidadeMatrix;
+    private final MembroArchiveJob membroArchiveJob;
 
     // === OPERAÇÕES BÁSICAS ===
 
@@ -80,18 +110,17 @@ public class MembroServiceImpl implements MembroService {
     public Page<MembroResponse> getAllMembros(Pageable pageable) {
         log.debug("Buscando todos os membros com paginação");
 
-        Page<Membro> membros = membroRepository.findAll(pageable);
+        Page<Membro> membros = membroRepository.findPaginaComCargo(pageable);
         return membros.map(membroMapper::toResponse);
     }
 
     @Override
-    @Cacheable(value = "membros-all")
     @Transactional(readOnly = true)
     public List<MembroResponse> getAllMembros() {
-        log.debug("Buscando todos os membros");
-
-        List<Membro> membros = membroRepository.findAllByOrderByNomeAsc();
-        return membroMapper.toResponseList(membros);
+        return membroListCache.todos(() -> {
+            log.debug("Buscando todos os membros");
+            return membroMapper.toResponseList(membroRepository.findAllComCargoOrderByNome());
+        });
     }
 
     @Override
@@ -122,6 +151,9 @@ public class MembroServiceImpl implements MembroService {
         }
 
         membroMapper.updateEntityFromRequest(request, membro);
+        if (membro.isActive()) {
+            membroArchiveJob.restaurar(membro);
+        }
         Membro updatedMembro = membroRepository.save(membro);
 
         log.info("Membro atualizado com sucesso - ID: {}", updatedMembro.getId());
@@ -141,20 +173,21 @@ public class MembroServiceImpl implements MembroService {
             throw new IllegalStateException("Membro não pode ser removido pois está em uso");
         }
 
+        membroArchiveJob.descartar(membro);
         membroRepository.delete(membro);
+        fileStorageService.release(membro.getFotoKey());
         log.info("Membro removido com sucesso - ID: {}", id);
     }
 
     // === CONSULTAS ESPECÍFICAS ===
 
     @Override
-    @Cacheable(value = "membros-ativos")
     @Transactional(readOnly = true)
     public List<MembroResponse> getMembrosAtivos() {
-        log.debug("Buscando membros ativos");
-
-        List<Membro> membros = membroRepository.findByAtivoTrueOrderByNomeAsc();
-        return membroMapper.toResponseList(membros);
+        return membroListCache.ativos(() -> {
+            log.debug("Buscando membros ativos");
+            return membroMapper.toResponseList(membroRepository.findAtivosComCargoOrderByNome());
+        });
     }
 
     @Override
@@ -163,7 +196,7 @@ public class MembroServiceImpl implements MembroService {
     public Page<MembroResponse> getMembrosAtivos(Pageable pageable) {
         log.debug("Buscando membros ativos com paginação");
 
-        Page<Membro> membros = membroRepository.findByAtivoTrueOrderByNomeAsc(pageable);
+        Page<Membro> membros = membroRepository.findAtivosComCargo(pageable);
         return membros.map(membroMapper::toResponse);
     }
 
@@ -185,6 +218,27 @@ public class MembroServiceImpl implements MembroService {
         return membroMapper.toResponseList(membros);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<MembroBasicInfo> searchMembros(String termo, Pageable pageable) {
+        if (termo == null || termo.isBlank()) {
+            return Page.empty(pageable);
+        }
+        if (membroSearchIndex.isLoaded()) {
+            return membroSearchIndex.search(termo, pageable);
+        }
+
+        // Índice ainda carregando: cai para a busca por nome no banco
+        log.debug("Índice de busca de membros indisponível; buscando no banco: {}", termo);
+        List<MembroBasicInfo> membros = membroRepository.findByNomeContainingIgnoreCase(termo.trim()).stream()
+                .filter(Membro::isActive)
+                .map(membroMapper::toBasicInfo)
+                .toList();
+        int from = (int) Math.min(pageable.getOffset(), membros.size());
+        int to = Math.min(from + pageable.getPageSize(), membros.size());
+        return new PageImpl<>(membros.subList(from, to), pageable, membros.size());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public MembroResponse getMembroByEmail(String email) {
@@ -202,7 +256,7 @@ public class MembroServiceImpl implements MembroService {
         log.debug("Buscando membro por CPF: {}", cpf);
 
         // Normalizar CPF
-        String cpfNormalizado = cpf.replaceAll("[^0-9]", "");
+        String cpfNormalizado = Membro.normalizarCpf(cpf);
 
         Membro membro = membroRepository.findByCpf(cpfNormalizado)
                 .orElseThrow(() -> new IllegalArgumentException("Membro não encontrado com CPF: " + cpf));
@@ -235,7 +289,21 @@ public class MembroServiceImpl implements MembroService {
     public List<MembroResponse> getMembrosElegiveisParaCargo(String nomeCargo) {
         log.debug("Buscando membros elegíveis para cargo: {}", nomeCargo);
 
-        List<Membro> membros = membroRepository.findMembrosElegiveisParaCargo(nomeCargo);
+        UUID cargoId = elegibilidadeMatrix.findCargoAtivoIdByNome(nomeCargo).orElse(null);
+        if (cargoId == null) {
+            return List.of();
+        }
+
+        ElegibilidadeMatrix.Origens origens = elegibilidadeMatrix.origensElegiveis(cargoId);
+        if (origens.isEmpty()) {
+            return List.of();
+        }
+
+        Specification<Membro> spec = Specification
+                .where(MembroSpecifications.ativo(true))
+                .and(MembroSpecifications.comCargoAtualEm(origens.cargoIds(), origens.semCargo()));
+
+        List<Membro> membros = membroRepository.findAll(spec, Sort.by("nome", "id"));
         return membroMapper.toResponseList(membros);
     }
 
@@ -250,6 +318,7 @@ public class MembroServiceImpl implements MembroService {
                 .orElseThrow(() -> new IllegalArgumentException("Membro não encontrado com ID: " + id));
 
         membro.activate();
+        membroArchiveJob.restaurar(membro);
         Membro savedMembro = membroRepository.save(membro);
 
         log.info("Membro ativado com sucesso - ID: {}", savedMembro.getId());
@@ -321,8 +390,35 @@ public class MembroServiceImpl implements MembroService {
             throw new IllegalArgumentException("Foto deve ter no máximo 5MB");
         }
 
-        membro.updatePhoto(request.getFotoData(), request.getFotoTipo(), request.getFotoNome());
-        Membro savedMembro = membroRepository.save(membro);
+        StoredImage imagem;
+        try {
+            imagem = fileStorageService.storeImage(request.getFotoData(), request.getFotoTipo());
+        } catch (IOException e) {
+            log.error("Erro ao gravar foto do membro ID: {}", id, e);
+            throw new IllegalStateException("Erro ao gravar a foto: " + e.getMessage());
+        }
+
+        // Se a transação falhar o blob fica sem referências e sai na varredura de órfãos
+        return aplicarFotoMembro(membro, imagem, request.getFotoNome());
+    }
+
+    @Override
+    @CacheEvict(value = "membros", allEntries = true)
+    public MembroResponse aplicarFotoMembro(UUID userId, StoredImage imagem, String fotoNome) {
+        Membro membro = membroRepository.findByUserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("Membro não encontrado com ID: " + userId));
+        return aplicarFotoMembro(membro, imagem, fotoNome);
+    }
+
+    private MembroResponse aplicarFotoMembro(Membro membro, StoredImage imagem, String fotoNome) {
+        String chaveAnterior = membro.getFotoKey();
+
+        membro.updatePhoto(imagem.key(), imagem.contentHash(), imagem.contentType(), fotoNome,
+                imagem.size(), imagem.width(), imagem.height());
+        Membro savedMembro = membroRepository.saveAndFlush(membro);
+
+        fileStorageService.retain(imagem.key());
+        fileStorageService.release(chaveAnterior);
 
         log.info("Foto do membro atualizada com sucesso - ID: {}", savedMembro.getId());
         return membroMapper.toResponse(savedMembro);
@@ -336,8 +432,10 @@ public class MembroServiceImpl implements MembroService {
         Membro membro = membroRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Membro não encontrado com ID: " + id));
 
+        String chave = membro.getFotoKey();
         membro.removePhoto();
         Membro savedMembro = membroRepository.save(membro);
+        fileStorageService.release(chave);
 
         log.info("Foto do membro removida com sucesso - ID: {}", savedMembro.getId());
         return membroMapper.toResponse(savedMembro);
@@ -345,13 +443,19 @@ public class MembroServiceImpl implements MembroService {
 
     @Override
     @Transactional(readOnly = true)
-    public String getFotoMembroBase64(UUID id) {
-        log.debug("Buscando foto Base64 do membro ID: {}", id);
+    public StoredFile getFotoMembro(UUID id, String variante, boolean aceitaWebp) {
+        log.debug("Buscando foto do membro ID: {} ({})", id, variante);
 
-        Membro membro = membroRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Membro não encontrado com ID: " + id));
+        String chave = membroRepository.findFotoKeyById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Membro não possui foto: " + id));
 
-        return membro.getFotoBase64();
+        try {
+            return fileStorageService.findImage(chave, variante, aceitaWebp)
+                    .orElseThrow(() -> new IllegalArgumentException("Arquivo da foto não encontrado: " + id));
+        } catch (IOException e) {
+            log.error("Erro ao carregar foto do membro ID: {}", id, e);
+            throw new IllegalStateException("Foto indisponível para o membro: " + id);
+        }
     }
 
     // === OPERAÇÕES DE PERFIL ===
@@ -361,7 +465,7 @@ public class MembroServiceImpl implements MembroService {
     public MembroProfileResponse getMembroProfile(UUID id) {
         log.debug("Buscando perfil do membro ID: {}", id);
 
-        Membro membro = membroRepository.findById(id)
+        Membro membro = membroRepository.findPerfilById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Membro não encontrado com ID: " + id));
 
         return membroMapper.toProfileResponse(membro);
@@ -401,12 +505,13 @@ public class MembroServiceImpl implements MembroService {
     public ValidarMembroResponse validarMembro(ValidarMembroRequest request) {
         log.debug("Validando membro - Email: {}, CPF: {}", request.getEmail(), request.getCpf());
 
-        // Normalizar CPF
-        String cpfNormalizado = request.getCpf().replaceAll("[^0-9]", "");
+        // Normalizar email e CPF
+        String emailNormalizado = Membro.normalizarEmail(request.getEmail());
+        String cpfNormalizado = Membro.normalizarCpf(request.getCpf());
 
         // Buscar por email ou CPF
-        Membro membro = membroRepository.findByEmail(request.getEmail())
-                .or(() -> membroRepository.findByCpf(cpfNormalizado))
+        Membro membro = membroLookupNegativeCache.porEmail(emailNormalizado, () -> membroRepository.findByEmail(emailNormalizado))
+                .or(() -> membroLookupNegativeCache.porCpf(cpfNormalizado, () -> membroRepository.findByCpf(cpfNormalizado)))
                 .orElse(null);
 
         if (membro == null) {
@@ -441,9 +546,8 @@ public class MembroServiceImpl implements MembroService {
             motivoInelegibilidade = "Membro inativo";
         } else if (cargosDisponiveis != null) {
             for (String cargo : cargosDisponiveis) {
-                // Buscar cargo por nome
-                Cargo cargoEntity = (Cargo) cargoRepository.findByNome(cargo).orElse(null);
-                if (cargoEntity != null && membro.podeSeCandidarPara(cargoEntity)) {
+                UUID cargoId = elegibilidadeMatrix.findCargoAtivoIdByNome(cargo).orElse(null);
+                if (cargoId != null && elegibilidadeMatrix.podeSeCandidatar(membro.getCargoAtualId(), cargoId)) {
                     cargosElegiveis.add(cargo);
                 }
             }
@@ -480,28 +584,53 @@ public class MembroServiceImpl implements MembroService {
     public Page<MembroListResponse> buscarMembrosComFiltros(MembroFilterRequest filtros, Pageable pageable) {
         log.debug("Buscando membros com filtros: {}", filtros);
 
-        // Implementação simplificada - em um caso real, usaria Specifications ou Criteria API
-        Page<Membro> membros;
+        return membroRepository.findListagem(especificacao(filtros), pageable)
+                .map(membroMapper::toListResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<MembroListResponse> buscarMembrosComCursor(MembroFilterRequest filtros) {
+        log.debug("Buscando membros com filtros por cursor: {}", filtros);
+
+        int size = Math.min(Math.max(filtros.getSize(), 1), MAX_PAGE_SIZE);
+        Specification<Membro> spec = especificacao(filtros);
+
+        if (filtros.getCursor() != null && !filtros.getCursor().isBlank()) {
+            String cursor = decodificarCursor(filtros.getCursor());
+            int separador = cursor.lastIndexOf('|');
+            spec = spec.and(MembroSpecifications.aposNomeEId(
+                    cursor.substring(0, separador), UUID.fromString(cursor.substring(separador + 1))));
+        }
+
+        // Uma linha a mais indica se existe próxima página sem precisar de COUNT
+        List<MembroListagemView> linhas = membroRepository.findListagemOrdenadaPorNome(spec, size + 1);
+        boolean hasNext = linhas.size() > size;
+        if (hasNext) {
+            linhas = linhas.subList(0, size);
+        }
 
-        if (filtros.getCargoAtualId() != null) {
-            membros = membroRepository.findByCargoAtualId(filtros.getCargoAtualId(), pageable);
-        } else if (filtros.getAtivo() != null) {
-            membros = membroRepository.findByAtivo(filtros.getAtivo(), pageable);
-        } else {
-            membros = membroRepository.findAll(pageable);
+        String nextCursor = null;
+        if (hasNext) {
+            MembroListagemView ultima = linhas.get(linhas.size() - 1);
+            nextCursor = codificarCursor(ultima.nome(), ultima.id());
         }
 
-        return membros.map(membroMapper::toListResponse);
+        List<MembroListResponse> content = linhas.stream()
+                .map(membroMapper::toListResponse)
+                .toList();
+        return new CursorPage<>(content, size, hasNext, nextCursor);
     }
 
     @Override
-    @Cacheable(value = "membros-listagem")
     @Transactional(readOnly = true)
     public List<MembroListResponse> getMembrosParaListagem() {
-        log.debug("Buscando membros para listagem");
-
-        List<Membro> membros = membroRepository.findByAtivoTrueOrderByNomeAsc();
-        return membroMapper.toListResponseList(membros);
+        return membroListCache.listagem(() -> {
+            log.debug("Buscando membros para listagem");
+            return membroRepository.findListagemAtivos().stream()
+                    .map(membroMapper::toListResponse)
+                    .toList();
+        });
     }
 
     // === VALIDAÇÕES ===
@@ -521,14 +650,14 @@ public class MembroServiceImpl implements MembroService {
     @Override
     @Transactional(readOnly = true)
     public boolean isCpfDisponivel(String cpf) {
-        String cpfNormalizado = cpf.replaceAll("[^0-9]", "");
+        String cpfNormalizado = Membro.normalizarCpf(cpf);
         return !membroRepository.existsByCpf(cpfNormalizado);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean isCpfDisponivelParaAtualizacao(String cpf, UUID membroId) {
-        String cpfNormalizado = cpf.replaceAll("[^0-9]", "");
+        String cpfNormalizado = Membro.normalizarCpf(cpf);
         return !membroRepository.existsByCpfAndIdNot(cpfNormalizado, membroId);
     }
 
@@ -592,53 +721,92 @@ public class MembroServiceImpl implements MembroService {
     // === ESTATÍSTICAS ===
 
     @Override
-    @Cacheable(value = "membro-stats-total")
+    @Transactional(readOnly = true)
+    public MembroStatsResponse getMembroStats() {
+        return membroStatsCache.get(this::calcularEstatisticas);
+    }
+
+    @Override
     @Transactional(readOnly = true)
     public long getTotalMembros() {
-        return membroRepository.count();
+        return getMembroStats().getTotalMembros();
     }
 
     @Override
-    @Cacheable(value = "membro-stats-ativos")
     @Transactional(readOnly = true)
     public long getTotalMembrosAtivos() {
-        return membroRepository.countByAtivo(true);
+        return getMembroStats().getMembrosAtivos();
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getTotalMembrosInativos() {
-        return membroRepository.countByAtivo(false);
+        return getMembroStats().getMembrosInativos();
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getTotalMembrosPorCargo(UUID cargoId) {
-        return membroRepository.countMembrosPorCargo(cargoId);
+        return getMembroStats().getMembrosPorCargo().getOrDefault(cargoId, 0L);
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getTotalMembrosSemCargo() {
-        return membroRepository.findMembrosSemCargo().size();
+        return getMembroStats().getMembrosSemCargo();
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getTotalMembrosAptosParaVotacao() {
-        return membroRepository.findMembrosAptosParaVotacao().size();
+        return getMembroStats().getMembrosAptosParaVotacao();
+    }
+
+    /**
+     * Todos os contadores a partir de uma única consulta agrupada por cargo e situação.
+     * Apto para votação é o membro ativo, o mesmo critério de {@code podeVotar} na elegibilidade.
+     */
+    private MembroStatsResponse calcularEstatisticas() {
+        log.debug("Calculando estatísticas de membros");
+
+        long total = 0;
+        long ativos = 0;
+        long semCargo = 0;
+        Map<UUID, Long> porCargo = new HashMap<>();
+
+        for (MembroContagemView linha : membroRepository.contarPorCargoEStatus()) {
+            total += linha.getTotal();
+            if (Boolean.TRUE.equals(linha.getAtivo())) {
+                ativos += linha.getTotal();
+            }
+            if (linha.getCargoId() == null) {
+                semCargo += linha.getTotal();
+            } else {
+                porCargo.merge(linha.getCargoId(), linha.getTotal(), Long::sum);
+            }
+        }
+
+        return MembroStatsResponse.builder()
+                .totalMembros(total)
+                .membrosAtivos(ativos)
+                .membrosInativos(total - ativos)
+                .membrosSemCargo(semCargo)
+                .membrosAptosParaVotacao(ativos)
+                .membrosPorCargo(Map.copyOf(porCargo))
+                .build();
     }
 
     // === UTILITÁRIOS ===
 
     @Override
-    @Cacheable(value = "membros-basic-info")
     @Transactional(readOnly = true)
     public List<MembroBasicInfo> getMembrosBasicInfo() {
-        log.debug("Buscando informações básicas dos membros ativos");
-
-        List<Membro> membros = membroRepository.findByAtivoTrueOrderByNomeAsc();
-        return membroMapper.toBasicInfoList(membros);
+        return membroListCache.basicInfo(() -> {
+            log.debug("Buscando informações básicas dos membros ativos");
+            return membroRepository.findBasicInfoAtivos().stream()
+                    .map(membroMapper::toBasicInfo)
+                    .toList();
+        });
     }
 
     @Override
@@ -669,6 +837,37 @@ public class MembroServiceImpl implements MembroService {
 
     // === MÉTODOS PRIVADOS ===
 
+    private Specification<Membro> especificacao(MembroFilterRequest filtros) {
+        return MembroSpecifications.comNome(filtros.getNome())
+                .and(MembroSpecifications.comEmail(filtros.getEmail()))
+                .and(MembroSpecifications.doCargo(filtros.getCargoAtualId()))
+                .and(MembroSpecifications.comNomeCargo(filtros.getNomeCargo()))
+                .and(MembroSpecifications.ativo(filtros.getAtivo()))
+                .and(MembroSpecifications.comUsuario(filtros.getHasUser()));
+    }
+
+    private static String codificarCursor(String nome, UUID id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((nome + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Cursor no formato {@code nome|id} (o nome pode conter '|'; o id vem depois do último).
+     */
+    private static String decodificarCursor(String cursor) {
+        try {
+            String decodificado = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = decodificado.lastIndexOf('|');
+            if (separador < 0) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            UUID.fromString(decodificado.substring(separador + 1));
+            return decodificado;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+
     /**
      * Valida se o cargo existe e está ativo
      */
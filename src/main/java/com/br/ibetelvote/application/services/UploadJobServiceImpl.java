@@ -0,0 +1,244 @@
+package com.br.ibetelvote.application.services;
+
+import com.br.ibetelvote.application.shared.dto.StoredImage;
+import com.br.ibetelvote.application.shared.dto.UploadJobResponse;
+import com.br.ibetelvote.domain.entities.enums.UploadJobStatus;
+import com.br.ibetelvote.domain.handlers.exceptions.ProcessamentoIndisponivelException;
+import com.br.ibetelvote.domain.services.CandidatoService;
+import com.br.ibetelvote.domain.services.FileStorageService;
+import com.br.ibetelvote.domain.services.MembroService;
+import com.br.ibetelvote.domain.services.UploadJobService;
+import com.br.ibetelvote.infrastructure.image.ImageProcessingExecutor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
+
+/**
+ * Uploads de foto processados em segundo plano.
+ *
+ * A requisição só valida o pedido e grava o arquivo recebido no spool do armazenamento, em blocos;
+ * a gravação definitiva, a geração das variantes e a atualização da entidade rodam no
+ * {@link ImageProcessingExecutor}. Com a fila cheia o upload é recusado na hora, e o cliente
+ * tenta de novo depois do {@code Retry-After}.
+ *
+ * A situação de cada job fica em memória pelo tempo de {@code app.upload.jobs.retention} e só é
+ * visível para o usuário que enviou o arquivo e para administradores.
+ */
+@Service
+@Slf4j
+public class UploadJobServiceImpl implements UploadJobService {
+
+    private static final String STATUS_PATH = "/api/v1/uploads/";
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    private final FileStorageService fileStorageService;
+    private final CandidatoService candidatoService;
+    private final MembroService membroService;
+    private final ImageProcessingExecutor imageProcessingExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Cache<UUID, UploadJob> jobs;
+
+    public UploadJobServiceImpl(FileStorageService fileStorageService,
+                                CandidatoService candidatoService,
+                                MembroService membroService,
+                                ImageProcessingExecutor imageProcessingExecutor,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.upload.jobs.retention:1h}") Duration retention) {
+        this.fileStorageService = fileStorageService;
+        this.candidatoService = candidatoService;
+        this.membroService = membroService;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+        this.meterRegistry = meterRegistry;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    @Override
+    public UploadJobResponse submitFotoCampanha(UUID candidatoId, MultipartFile file, UUID userId) {
+        candidatoService.validarFotoCampanha(candidatoId, file);
+
+        return submit(userId, file, (imagem, nome) ->
+                candidatoService.aplicarFotoCampanha(candidatoId, imagem, nome).getFotoUrl());
+    }
+
+    @Override
+    public UploadJobResponse submitFotoMembro(UUID userId, MultipartFile file) {
+        return submit(userId, file, (imagem, nome) ->
+                membroService.aplicarFotoMembro(userId, imagem, nome).getFotoUrl());
+    }
+
+    @Override
+    public Optional<UploadJobResponse> getStatus(UUID jobId, UUID userId, boolean administrador) {
+        // Job de outro usuário responde como inexistente, sem revelar que o id é válido
+        return Optional.ofNullable(jobs.getIfPresent(jobId))
+                .filter(job -> administrador || job.userId.equals(userId))
+                .map(UploadJob::toResponse);
+    }
+
+    // === PROCESSAMENTO ===
+
+    private UploadJobResponse submit(UUID userId, MultipartFile file,
+                                     BiFunction<StoredImage, String, String> aplicar) {
+        Path spooled;
+        try {
+            spooled = fileStorageService.spoolUpload(file);
+        } catch (IOException e) {
+            log.error("Erro ao receber upload {}: {}", file.getOriginalFilename(), e.getMessage());
+            throw new IllegalStateException("Erro ao receber o arquivo: " + e.getMessage());
+        }
+
+        try {
+            fileStorageService.validateImage(spooled);
+        } catch (IllegalArgumentException e) {
+            // Tipo, tamanho ou dimensões inválidos: recusa já no envio, sem enfileirar
+            deleteSpooled(spooled);
+            contar("invalido");
+            throw e;
+        } catch (IOException e) {
+            deleteSpooled(spooled);
+            throw new IllegalStateException("Erro ao ler o arquivo: " + e.getMessage());
+        }
+
+        UploadJob job = new UploadJob(UUID.randomUUID(), userId, file.getOriginalFilename(), file.getContentType());
+        jobs.put(job.id, job);
+
+        try {
+            imageProcessingExecutor.execute(() -> process(job, spooled, aplicar));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.id);
+            deleteSpooled(spooled);
+            contar("rejeitado");
+            log.warn("Fila de processamento de imagens cheia; upload {} recusado", file.getOriginalFilename());
+            throw new ProcessamentoIndisponivelException(
+                    "Muitas imagens em processamento. Tente novamente em instantes.", RETRY_AFTER_SECONDS);
+        }
+
+        log.info("Upload {} enfileirado: {} ({} bytes)", job.id, file.getOriginalFilename(), file.getSize());
+        return job.toResponse();
+    }
+
+    private void process(UploadJob job, Path spooled, BiFunction<StoredImage, String, String> aplicar) {
+        job.atualizar(UploadJobStatus.PROCESSANDO, 10);
+
+        try {
+            StoredImage imagem = fileStorageService.storeImage(spooled, job.contentType);
+            job.atualizar(UploadJobStatus.PROCESSANDO, 40);
+
+            Set<String> variantes = fileStorageService.generateVariants(imagem.key());
+            job.atualizar(UploadJobStatus.PROCESSANDO, 80);
+
+            String fotoUrl = aplicar.apply(imagem, job.fileName);
+            job.concluir(fotoUrl, variantes);
+            contar("concluido");
+
+            log.info("Upload {} concluído: {}", job.id, imagem.key());
+        } catch (Exception e) {
+            // Um blob já gravado fica sem referências e sai na varredura de órfãos.
+            // Erros de validação vão para o cliente; os demais ficam só no log
+            job.falhar(e instanceof IllegalArgumentException ? e.getMessage() : "Erro ao processar a imagem");
+            contar("falhou");
+
+            log.error("Upload {} falhou: {}", job.id, e.getMessage(), e);
+        } finally {
+            deleteSpooled(spooled);
+        }
+    }
+
+    private void deleteSpooled(Path spooled) {
+        try {
+            Files.deleteIfExists(spooled);
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o arquivo temporário {}: {}", spooled, e.getMessage());
+        }
+    }
+
+    private void contar(String resultado) {
+        meterRegistry.counter("files.upload.jobs", "resultado", resultado).increment();
+    }
+
+    /**
+     * Estado mutável de um job; escrito pela thread de processamento e lido pelas consultas de status.
+     */
+    private static final class UploadJob {
+
+        private final UUID id;
+        private final UUID userId;
+        private final String fileName;
+        private final String contentType;
+        private final LocalDateTime criadoEm = LocalDateTime.now();
+
+        private volatile UploadJobStatus status = UploadJobStatus.PENDENTE;
+        private volatile int progresso;
+        private volatile String fotoUrl;
+        private volatile Set<String> variantes = Set.of();
+        private volatile String erro;
+        private volatile LocalDateTime concluidoEm;
+
+        private UploadJob(UUID id, UUID userId, String fileName, String contentType) {
+            this.id = id;
+            this.userId = userId;
+            this.fileName = fileName;
+            this.contentType = contentType;
+        }
+
+        private void atualizar(UploadJobStatus status, int progresso) {
+            this.status = status;
+            this.progresso = progresso;
+        }
+
+        private void concluir(String fotoUrl, Set<String> variantes) {
+            this.fotoUrl = fotoUrl;
+            this.variantes = variantes;
+            this.concluidoEm = LocalDateTime.now();
+            atualizar(UploadJobStatus.CONCLUIDO, 100);
+        }
+
+        private void falhar(String erro) {
+            this.erro = erro;
+            this.concluidoEm = LocalDateTime.now();
+            atualizar(UploadJobStatus.FALHOU, 100);
+        }
+
+        private UploadJobResponse toResponse() {
+            Map<String, String> urls = null;
+            if (fotoUrl != null && !variantes.isEmpty()) {
+                urls = new LinkedHashMap<>();
+                String separador = fotoUrl.contains("?") ? "&" : "?";
+                for (String variante : variantes) {
+                    urls.put(variante, fotoUrl + separador + "size=" + variante);
+                }
+            }
+
+            return UploadJobResponse.builder()
+                    .jobId(id)
+                    .status(status)
+                    .progresso(progresso)
+                    .statusUrl(STATUS_PATH + id)
+                    .fileName(fileName)
+                    .fotoUrl(fotoUrl)
+                    .variantes(urls)
+                    .erro(erro)
+                    .criadoEm(criadoEm)
+                    .concluidoEm(concluidoEm)
+                    .build();
+        }
+    }
+}
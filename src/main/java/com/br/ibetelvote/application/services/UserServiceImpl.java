@@ -5,6 +5,7 @@ import com.br.ibetelvote.application.mapper.UserMapper;
 import com.br.ibetelvote.domain.entities.User;
 import com.br.ibetelvote.domain.entities.enums.UserRole;
 import com.br.ibetelvote.domain.services.UserService;
+import com.br.ibetelvote.infrastructure.cache.UserProfileCache;
 import com.br.ibetelvote.infrastructure.repositories.UserJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +31,7 @@ public class UserServiceImpl implements UserService {
     private final UserJpaRepository userRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final UserProfileCache userProfileCache;
 
     // === OPERAÇÕES BÁSICAS ===
 
@@ -103,6 +105,7 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.delete(user);
+        userProfileCache.evict(id);
         log.info("Usuário removido com sucesso - ID: {}", id);
     }
 
@@ -116,6 +119,7 @@ public class UserServiceImpl implements UserService {
 
         user.activate();
         userRepository.save(user);
+        userProfileCache.evict(id);
 
         log.info("Usuário ativado com sucesso - ID: {}", id);
     }
@@ -130,6 +134,7 @@ public class UserServiceImpl implements UserService {
 
         user.deactivate();
         userRepository.save(user);
+        userProfileCache.evict(id);
 
         log.info("Usuário desativado com sucesso - ID: {}", id);
     }
@@ -173,6 +178,7 @@ public class UserServiceImpl implements UserService {
         UserRole oldRole = user.getRole();
         user.changeRole(request.getNewRole());
         userRepository.save(user);
+        userProfileCache.evict(id);
 
         log.info("Role alterada com sucesso - ID: {}, De: {} Para: {}",
                 id, oldRole, request.getNewRole());
@@ -7,6 +7,7 @@ import com.br.ibetelvote.application.voto.dto.VotoFilterRequest;
 import com.br.ibetelvote.application.voto.dto.VotoResponse;
 import com.br.ibetelvote.domain.entities.*;
 import com.br.ibetelvote.domain.entities.enums.TipoVoto;
+import com.br.ibetelvote.domain.services.MembroService;
 import com.br.ibetelvote.domain.services.VotoService;
 import com.br.ibetelvote.infrastructure.repositories.*;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +36,7 @@ public class VotoServiceImpl implements VotoService {
     private final CandidatoJpaRepository candidatoRepository;
     private final VotoMapper votoMapper;
     private final EleicaoConfigService eleicaoConfigService;
+    private final MembroService membroService;
 
     // === OPERAÇÃO PRINCIPAL REFATORADA ===
 
@@ -699,13 +701,14 @@ public class VotoServiceImpl implements VotoService {
 
     private Double calcularParticipacaoAtual(UUID eleicaoId) {
         Long totalVotantes = votoRepository.countDistinctMembroByEleicaoId(eleicaoId);
-        Long totalMembrosElegiveis = membroRepository.countMembrosAtivos();
+        // Contadores de membros vêm do cache de estatísticas, não de uma contagem por chamada
+        long totalMembrosElegiveis = membroService.getMembroStats().getMembrosAptosParaVotacao();
 
         if (totalMembrosElegiveis == 0) {
             return 0.0;
         }
 
-        return (totalVotantes.doubleValue() / totalMembrosElegiveis.doubleValue()) * 100.0;
+        return (totalVotantes.doubleValue() / totalMembrosElegiveis) * 100.0;
     }
 
     // === MÉTODOS UTILITÁRIOS ===
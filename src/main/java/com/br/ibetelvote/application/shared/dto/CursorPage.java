@@ -0,0 +1,16 @@
+package com.br.ibetelvote.application.shared.dto;
+
+import java.util.List;
+
+/**
+ * Página de uma listagem paginada por chave.
+ * {@code nextCursor} é opaco para o cliente e deve ser reenviado para buscar a próxima página;
+ * é {@code null} quando não há mais resultados.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -0,0 +1,21 @@
+package com.br.ibetelvote.application.shared.dto;
+
+/**
+ * Metadados de um arquivo do armazenamento, mantidos em memória pelo índice de arquivos.
+ * Nas variantes de imagem, {@code original} é a chave da imagem de origem e não há hash.
+ */
+public record FileMetadata(
+        String key,
+        String contentHash,
+        String contentType,
+        long size,
+        Integer width,
+        Integer height,
+        String original,
+        long createdAt
+) {
+
+    public boolean isVariant() {
+        return original != null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.br.ibetelvote.application.shared.dto;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * Metadados de um arquivo armazenado, obtidos com uma única leitura de atributos.
+ *
+ * Arquivos lidos do disco carregam apenas o {@link #path()}: quem serve o arquivo transmite direto dele.
+ * Arquivos residentes no cache em memória carregam também o {@link #content()} (buffer somente leitura).
+ * Blobs do armazenamento endereçado por conteúdo trazem o {@link #contentHash()} extraído da chave.
+ */
+public record StoredFile(
+        String fileName,
+        Path path,
+        long size,
+        long lastModified,
+        String contentType,
+        String contentHash,
+        ByteBuffer content
+) {
+
+    public static StoredFile onDisk(String fileName, Path path, long size, long lastModified,
+                                    String contentType, String contentHash) {
+        return new StoredFile(fileName, path, size, lastModified, contentType, contentHash, null);
+    }
+
+    public StoredFile withContent(ByteBuffer content) {
+        return new StoredFile(fileName, path, size, lastModified, contentType, contentHash, content.asReadOnlyBuffer());
+    }
+
+    public boolean isResident() {
+        return content != null;
+    }
+
+    /**
+     * Cópia do conteúdo residente para o heap, para chamadores que precisam de {@code byte[]}.
+     */
+    public byte[] contentBytes() {
+        ByteBuffer view = content.duplicate();
+        byte[] bytes = new byte[view.remaining()];
+        view.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * ETag forte: o hash do conteúdo quando a chave é endereçada por conteúdo; nos demais arquivos,
+     * tamanho e data de modificação (nomes nunca são reescritos, então o par identifica o conteúdo).
+     */
+    public String eTag() {
+        if (contentHash != null) {
+            return "\"" + contentHash + "\"";
+        }
+        return "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+    }
+}
@@ -0,0 +1,22 @@
+package com.br.ibetelvote.application.shared.dto;
+
+/**
+ * Resultado da gravação de uma imagem no armazenamento de arquivos.
+ * A entidade guarda apenas estes metadados; o conteúdo fica no {@code FileStorageService}.
+ */
+public record StoredImage(
+        String key,
+        String contentHash,
+        String contentType,
+        long size,
+        Integer width,
+        Integer height
+) {
+
+    /**
+     * Versão curta do hash, usada para versionar URLs de imagem.
+     */
+    public String version() {
+        return contentHash.substring(0, Math.min(12, contentHash.length()));
+    }
+}
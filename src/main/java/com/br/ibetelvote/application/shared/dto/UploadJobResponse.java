@@ -0,0 +1,28 @@
+package com.br.ibetelvote.application.shared.dto;
+
+import com.br.ibetelvote.domain.entities.enums.UploadJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadJobResponse {
+    private UUID jobId;
+    private UploadJobStatus status;
+    private Integer progresso;
+    private String statusUrl;
+    private String fileName;
+    private String fotoUrl;
+    private Map<String, String> variantes;
+    private String erro;
+    private LocalDateTime criadoEm;
+    private LocalDateTime concluidoEm;
+}
@@ -11,6 +11,6 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class UploadPhotoResponse {
     private String fileName;
-    private String fotoBase64;
+    private String fotoUrl;
     private String message;
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.br.ibetelvote.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Arquivo do armazenamento endereçado por conteúdo.
+ *
+ * A chave é derivada do SHA-256 do conteúdo ({@code ab/cd/<sha256>.<ext>}), então o mesmo arquivo
+ * enviado duas vezes, ou usado como foto do membro e como foto de campanha, ocupa um único blob.
+ * {@code referencias} conta quantas entidades apontam para a chave; blobs sem referências por mais
+ * que o período de carência são removidos pela varredura de órfãos.
+ *
+ * As variantes geradas também têm linha aqui, com {@code original} apontando para a chave da imagem;
+ * elas não são contadas nem varridas, e saem junto com o original.
+ */
+@Entity
+@Table(name = "arquivos", indexes = {
+        @Index(name = "idx_arquivo_referencias_updated_at", columnList = "referencias, updated_at"),
+        @Index(name = "idx_arquivo_original", columnList = "original")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "chave")
+public class Arquivo {
+
+    @Id
+    @Column(name = "chave", length = 255, updatable = false, nullable = false)
+    private String chave;
+
+    /**
+     * SHA-256 do conteúdo; vazio nas variantes.
+     */
+    @Column(name = "hash", length = 64, updatable = false)
+    private String hash;
+
+    @Column(name = "original", length = 255, updatable = false)
+    private String original;
+
+    @Column(name = "content_type", length = 50)
+    private String contentType;
+
+    @Column(name = "tamanho", nullable = false)
+    private Long tamanho;
+
+    @Column(name = "largura")
+    private Integer largura;
+
+    @Column(name = "altura")
+    private Integer altura;
+
+    @Builder.Default
+    @Column(name = "referencias", nullable = false)
+    private Integer referencias = 0;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Último registro, referência ou liberação; a carência da varredura conta a partir daqui.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
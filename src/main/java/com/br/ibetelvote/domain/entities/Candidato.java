@@ -9,7 +9,6 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 
@@ -66,9 +65,12 @@ public class Candidato {
     @Column(name = "experiencia", columnDefinition = "TEXT")
     private String experiencia;
 
-    @Lob
-    @Column(name = "foto_campanha_data")
-    private byte[] fotoCampanhaData;
+    // === FOTO DE CAMPANHA (conteúdo no FileStorageService) ===
+    @Column(name = "foto_campanha_key", length = 255)
+    private String fotoCampanhaKey;
+
+    @Column(name = "foto_campanha_hash", length = 64)
+    private String fotoCampanhaHash;
 
     @Column(name = "foto_campanha_tipo", length = 50)
     private String fotoCampanhaTipo;
@@ -76,6 +78,15 @@ public class Candidato {
     @Column(name = "foto_campanha_nome", length = 255)
     private String fotoCampanhaNome;
 
+    @Column(name = "foto_campanha_tamanho")
+    private Long fotoCampanhaTamanho;
+
+    @Column(name = "foto_campanha_largura")
+    private Integer fotoCampanhaLargura;
+
+    @Column(name = "foto_campanha_altura")
+    private Integer fotoCampanhaAltura;
+
     @Builder.Default
     @Column(name = "ativo", nullable = false)
     private Boolean ativo = true;
@@ -127,21 +138,31 @@ public class Candidato {
     }
 
     /**
-     * Atualiza foto da campanha
+     * Atualiza foto da campanha com a referência do arquivo armazenado
      */
-    public void updateFotoCampanha(byte[] fotoCampanhaData, String fotoCampanhaTipo, String fotoCampanhaNome) {
-        this.fotoCampanhaData = fotoCampanhaData;
+    public void updateFotoCampanha(String fotoCampanhaKey, String fotoCampanhaHash, String fotoCampanhaTipo,
+                                   String fotoCampanhaNome, Long fotoCampanhaTamanho,
+                                   Integer fotoCampanhaLargura, Integer fotoCampanhaAltura) {
+        this.fotoCampanhaKey = fotoCampanhaKey;
+        this.fotoCampanhaHash = fotoCampanhaHash;
         this.fotoCampanhaTipo = fotoCampanhaTipo;
         this.fotoCampanhaNome = fotoCampanhaNome;
+        this.fotoCampanhaTamanho = fotoCampanhaTamanho;
+        this.fotoCampanhaLargura = fotoCampanhaLargura;
+        this.fotoCampanhaAltura = fotoCampanhaAltura;
     }
 
     /**
      * Remove foto da campanha
      */
     public void removeFotoCampanha() {
-        this.fotoCampanhaData = null;
+        this.fotoCampanhaKey = null;
+        this.fotoCampanhaHash = null;
         this.fotoCampanhaTipo = null;
         this.fotoCampanhaNome = null;
+        this.fotoCampanhaTamanho = null;
+        this.fotoCampanhaLargura = null;
+        this.fotoCampanhaAltura = null;
     }
 
     /**
@@ -223,7 +244,7 @@ public class Candidato {
      * Verifica se tem foto de campanha
      */
     public boolean temFotoCampanha() {
-        return fotoCampanhaData != null && fotoCampanhaData.length > 0;
+        return fotoCampanhaKey != null && !fotoCampanhaKey.isBlank();
     }
 
     /**
@@ -354,33 +375,11 @@ public class Candidato {
         return String.format("%d votos (%.1f%%)", votos, percentual);
     }
 
-    /**
-     * Retorna foto de campanha como Base64
-     */
-    @Transient
-    public String getFotoCampanhaBase64() {
-        if (temFotoCampanha()) {
-            return Base64.getEncoder().encodeToString(fotoCampanhaData);
-        }
-        return null;
-    }
-
-    /**
-     * Retorna foto como Data URI
-     */
-    public String getFotoCampanhaDataUri() {
-        if (temFotoCampanha() && fotoCampanhaTipo != null) {
-            String base64 = getFotoCampanhaBase64();
-            return "data:" + fotoCampanhaTipo + ";base64," + base64;
-        }
-        return null;
-    }
-
     /**
      * Retorna tamanho da foto em bytes
      */
     public long getFotoCampanhaSize() {
-        return temFotoCampanha() ? fotoCampanhaData.length : 0;
+        return temFotoCampanha() && fotoCampanhaTamanho != null ? fotoCampanhaTamanho : 0;
     }
 
     // === MÉTODOS DE INFORMAÇÃO ===
@@ -9,13 +9,13 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Base64;
+import java.util.Locale;
 import java.util.UUID;
 
 @Entity
 @Table(name = "membros", indexes = {
         @Index(name = "idx_membro_email", columnList = "email", unique = true),
-        @Index(name = "idx_membro_nome", columnList = "nome"),
+        @Index(name = "idx_membro_nome_id", columnList = "nome, id"),
         @Index(name = "idx_membro_ativo", columnList = "ativo"),
         @Index(name = "idx_membro_user_id", columnList = "user_id", unique = true),
         @Index(name = "idx_membro_cargo_atual", columnList = "cargo_atual_id")
@@ -87,10 +87,12 @@ public class Membro {
     @Column(name = "cep", length = 10)
     private String cep;
 
-    // === DADOS DA FOTO ===
-    @Lob
-    @Column(name = "foto_data")
-    private byte[] fotoData;
+    // === DADOS DA FOTO (conteúdo no FileStorageService) ===
+    @Column(name = "foto_key", length = 255)
+    private String fotoKey;
+
+    @Column(name = "foto_hash", length = 64)
+    private String fotoHash;
 
     @Column(name = "foto_tipo", length = 50)
     private String fotoTipo;
@@ -98,6 +100,15 @@ public class Membro {
     @Column(name = "foto_nome", length = 255)
     private String fotoNome;
 
+    @Column(name = "foto_tamanho")
+    private Long fotoTamanho;
+
+    @Column(name = "foto_largura")
+    private Integer fotoLargura;
+
+    @Column(name = "foto_altura")
+    private Integer fotoAltura;
+
     // === DADOS ADICIONAIS ===
     @Column(name = "observacoes", columnDefinition = "TEXT")
     private String observacoes;
@@ -107,6 +118,10 @@ public class Membro {
     @Column(name = "ativo", nullable = false)
     private Boolean ativo = true;
 
+    // Preenchido quando os dados do membro inativo foram movidos para membros_arquivo
+    @Column(name = "arquivado_em")
+    private LocalDateTime arquivadoEm;
+
     // === RELACIONAMENTO COM USER ===
     @Column(name = "user_id", unique = true)
     private UUID userId;
@@ -173,21 +188,30 @@ public class Membro {
     }
 
     /**
-     * Atualiza a foto do membro
+     * Atualiza a foto do membro com a referência do arquivo armazenado
      */
-    public void updatePhoto(byte[] fotoData, String fotoTipo, String fotoNome) {
-        this.fotoData = fotoData;
+    public void updatePhoto(String fotoKey, String fotoHash, String fotoTipo, String fotoNome,
+                            Long fotoTamanho, Integer fotoLargura, Integer fotoAltura) {
+        this.fotoKey = fotoKey;
+        this.fotoHash = fotoHash;
         this.fotoTipo = fotoTipo;
         this.fotoNome = fotoNome;
+        this.fotoTamanho = fotoTamanho;
+        this.fotoLargura = fotoLargura;
+        this.fotoAltura = fotoAltura;
     }
 
     /**
      * Remove a foto do membro
      */
     public void removePhoto() {
-        this.fotoData = null;
+        this.fotoKey = null;
+        this.fotoHash = null;
         this.fotoTipo = null;
         this.fotoNome = null;
+        this.fotoTamanho = null;
+        this.fotoLargura = null;
+        this.fotoAltura = null;
     }
 
     /**
@@ -234,11 +258,18 @@ public class Membro {
         return this.ativo != null && this.ativo;
     }
 
+    /**
+     * Verifica se os dados do membro estão em membros_arquivo
+     */
+    public boolean isArquivado() {
+        return this.arquivadoEm != null;
+    }
+
     /**
      * Verifica se o membro tem foto
      */
     public boolean hasPhoto() {
-        return this.fotoData != null && this.fotoData.length > 0;
+        return this.fotoKey != null && !this.fotoKey.isBlank();
     }
 
     /**
@@ -273,26 +304,23 @@ public class Membro {
             return false;
         }
 
-        // Se não tem cargo atual, só pode se candidatar para Diácono
-        if (!hasCargoAtual()) {
-            return "Diácono".equalsIgnoreCase(cargoDesejado.getNome());
+        if (hasCargoAtual() && cargoAtual == null) {
+            return false;
         }
 
-        // Lógica de hierarquia baseada no cargo atual
-        return validarHierarquiaEletiva(cargoDesejado);
+        return hierarquiaPermiteCandidatura(hasCargoAtual() ? cargoAtual.getNome() : null, cargoDesejado.getNome());
     }
 
     /**
-     * Valida hierarquia para eleições
+     * Valida hierarquia para eleições a partir do nome do cargo atual ({@code null} para membro sem
+     * cargo) e do cargo desejado. É a mesma regra usada pela matriz de elegibilidade.
      */
-    private boolean validarHierarquiaEletiva(Cargo cargoDesejado) {
-        if (cargoAtual == null) {
-            return false;
+    public static boolean hierarquiaPermiteCandidatura(String cargoAtualNome, String cargoDesejadoNome) {
+        // Se não tem cargo atual, só pode se candidatar para Diácono
+        if (cargoAtualNome == null) {
+            return "Diácono".equalsIgnoreCase(cargoDesejadoNome);
         }
 
-        String cargoAtualNome = cargoAtual.getNome();
-        String cargoDesejadoNome = cargoDesejado.getNome();
-
         // Obreiro pode se candidatar apenas para Diácono
         if ("Obreiro".equalsIgnoreCase(cargoAtualNome)) {
             return "Diácono".equalsIgnoreCase(cargoDesejadoNome);
@@ -322,18 +350,6 @@ public class Membro {
         return this.nome;
     }
 
-    /**
-     * Retorna foto como Base64 para envio ao frontend
-     */
-    @Transient
-    public String getFotoBase64() {
-        if (hasPhoto()) {
-            return "data:" + fotoTipo + ";base64," +
-                    Base64.getEncoder().encodeToString(fotoData);
-        }
-        return null;
-    }
-
     /**
      * Retorna nome do cargo atual
      */
@@ -418,13 +434,14 @@ public class Membro {
         if (cpf == null) return false;
 
         // Remove caracteres especiais
-        cpf = cpf.replaceAll("[^0-9]", "");
+        cpf = normalizarCpf(cpf);
 
         // Verifica se tem 11 dígitos
         if (cpf.length() != 11) return false;
 
         // Verifica se todos os dígitos são iguais
-        if (cpf.matches("(\\d)\\1{10}")) return false;
+        char primeiro = cpf.charAt(0);
+        if (cpf.chars().allMatch(c -> c == primeiro)) return false;
 
         // Validação dos dígitos verificadores (algoritmo CPF)
         try {
@@ -452,6 +469,29 @@ public class Membro {
         }
     }
 
+    /**
+     * CPF só com dígitos, forma em que é gravado e consultado.
+     */
+    public static String normalizarCpf(String cpf) {
+        if (cpf == null) return null;
+
+        StringBuilder digitos = new StringBuilder(11);
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digitos.append(c);
+            }
+        }
+        return digitos.toString();
+    }
+
+    /**
+     * Email sem espaços nas pontas e em minúsculas, forma em que é gravado e consultado.
+     */
+    public static String normalizarEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public String toString() {
         return String.format("Membro{id=%s, nome='%s', cargo='%s', ativo=%s}",
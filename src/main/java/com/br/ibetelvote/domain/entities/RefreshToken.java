@@ -0,0 +1,67 @@
+package com.br.ibetelvote.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Registro de um refresh token emitido.
+ *
+ * Cada login inicia uma família de tokens; a cada refresh um novo token da mesma família
+ * é emitido e o anterior é marcado como usado. A reutilização de um token já usado
+ * revoga a família inteira.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_token_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_token_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "id")
+public class RefreshToken {
+
+    /**
+     * Identificador do token (claim {@code jti}).
+     */
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "family_id", nullable = false, updatable = false)
+    private UUID familyId;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    @Builder.Default
+    @Column(name = "revoked", nullable = false)
+    private Boolean revoked = false;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // === MÉTODOS DE NEGÓCIO ===
+
+    public boolean isUsed() {
+        return this.usedAt != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return this.expiresAt.isBefore(now);
+    }
+}
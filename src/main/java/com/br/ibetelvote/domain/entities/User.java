@@ -199,10 +199,6 @@ public class User implements UserDetails {
         return hasMembro() ? membro.getNome() : null;
     }
 
-    public String getFotoBase64() {
-        return hasMembro() ? membro.getFotoBase64() : null;
-    }
-
     public boolean hasFoto() {
         return hasMembro() && membro.hasPhoto();
     }
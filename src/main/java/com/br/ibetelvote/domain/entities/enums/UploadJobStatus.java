@@ -0,0 +1,27 @@
+package com.br.ibetelvote.domain.entities.enums;
+
+import lombok.Getter;
+
+/**
+ * Situação de um upload processado em segundo plano.
+ */
+@Getter
+public enum UploadJobStatus {
+
+    PENDENTE("Pendente", "Aguardando na fila de processamento"),
+    PROCESSANDO("Processando", "Imagem sendo gravada e redimensionada"),
+    CONCLUIDO("Concluído", "Foto atualizada"),
+    FALHOU("Falhou", "O processamento não foi concluído");
+
+    private final String displayName;
+    private final String descricao;
+
+    UploadJobStatus(String displayName, String descricao) {
+        this.displayName = displayName;
+        this.descricao = descricao;
+    }
+
+    public boolean isFinalizado() {
+        return this == CONCLUIDO || this == FALHOU;
+    }
+}
@@ -0,0 +1,8 @@
+package com.br.ibetelvote.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Publicado quando uma eleição é ativada. Os ouvintes rodam após o commit da ativação.
+ */
+public record EleicaoAtivadaEvent(UUID eleicaoId) {}
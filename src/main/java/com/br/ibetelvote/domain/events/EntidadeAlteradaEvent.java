@@ -0,0 +1,27 @@
+package com.br.ibetelvote.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Alteração confirmada de uma entidade. Entregue pelo {@code EntidadeEventBus} após o commit,
+ * em ordem para o mesmo {@code id}; várias alterações da mesma entidade numa transação viram um
+ * único evento.
+ */
+public record EntidadeAlteradaEvent(Class<?> tipo, UUID id, Operacao operacao) {
+
+    public enum Operacao {
+        CRIADA,
+        ALTERADA,
+        REMOVIDA;
+
+        /**
+         * Operação resultante de duas alterações seguidas na mesma transação.
+         */
+        public Operacao seguidaDe(Operacao proxima) {
+            if (proxima == REMOVIDA || this == REMOVIDA) {
+                return REMOVIDA;
+            }
+            return this == CRIADA ? CRIADA : proxima;
+        }
+    }
+}
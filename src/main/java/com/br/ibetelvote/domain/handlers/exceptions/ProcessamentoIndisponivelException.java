@@ -0,0 +1,16 @@
+package com.br.ibetelvote.domain.handlers.exceptions;
+
+public class ProcessamentoIndisponivelException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public ProcessamentoIndisponivelException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
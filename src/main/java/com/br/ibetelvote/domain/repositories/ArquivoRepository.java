@@ -0,0 +1,30 @@
+package com.br.ibetelvote.domain.repositories;
+
+import com.br.ibetelvote.domain.entities.Arquivo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interface de domínio para ArquivoRepository.
+ * Contém apenas métodos específicos de negócio.
+ * Métodos CRUD básicos são fornecidos automaticamente pelo JpaRepository.
+ */
+public interface ArquivoRepository {
+
+    // === CONSULTAS ===
+    boolean existsById(String chave);
+    Optional<Arquivo> findByHash(String hash);
+    List<String> findChavesOrfas(LocalDateTime limite, int limit);
+    Optional<String> lockOrfa(String chave, LocalDateTime limite);
+    Integer travarChave(String chave);
+
+    // === ATUALIZAÇÕES ===
+    int registrar(String chave, String hash, String contentType, long tamanho,
+                  Integer largura, Integer altura, String original, LocalDateTime agora);
+    int incrementarReferencias(String chave, LocalDateTime agora);
+    int decrementarReferencias(String chave, LocalDateTime agora);
+    int deleteOrfa(String chave);
+    int deleteComVariantes(String chave);
+}
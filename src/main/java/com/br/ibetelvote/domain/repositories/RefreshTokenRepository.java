@@ -0,0 +1,24 @@
+package com.br.ibetelvote.domain.repositories;
+
+import com.br.ibetelvote.domain.entities.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Interface de domínio para RefreshTokenRepository.
+ * Contém apenas métodos específicos de negócio.
+ * Métodos CRUD básicos são fornecidos automaticamente pelo JpaRepository.
+ */
+public interface RefreshTokenRepository {
+
+    // === CONSULTAS ===
+    List<RefreshToken> findByRevokedFalseAndExpiresAtAfter(LocalDateTime now);
+
+    // === ATUALIZAÇÕES ===
+    int markUsed(UUID id, LocalDateTime usedAt);
+    int revokeFamily(UUID familyId);
+    int revokeByUserId(UUID userId);
+    int deleteExpired(LocalDateTime now);
+}
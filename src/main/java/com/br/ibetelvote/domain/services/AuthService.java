@@ -5,7 +5,6 @@ import com.br.ibetelvote.application.auth.dto.LoginResponse;
 import com.br.ibetelvote.application.auth.dto.RefreshTokenRequest;
 import com.br.ibetelvote.application.auth.dto.RefreshTokenResponse;
 import com.br.ibetelvote.application.auth.dto.UserProfileResponse;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
@@ -35,15 +34,14 @@ public interface AuthService {
 
     /**
      * Busca os dados do perfil do usuário logado.
-     * O resultado desta consulta é armazenado em cache para otimização.
+     * O resultado desta consulta é armazenado em cache por usuário; a foto é exposta apenas por URL.
      * @param userId ID do usuário.
      * @return DTO com os dados do perfil do usuário.
      */
-    @Cacheable(value = "userProfile", key = "#userId")
     UserProfileResponse getCurrentUser(UUID userId);
 
     /**
-     * Invalida o token de acesso, simulando um logout.
+     * Invalida o token de acesso, simulando um logout, e remove o perfil do usuário do cache.
      * @param token O token de acesso a ser invalidado.
      */
     void logout(String token);
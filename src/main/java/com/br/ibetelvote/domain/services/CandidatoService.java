@@ -1,6 +1,8 @@
 package com.br.ibetelvote.domain.services;
 
 import com.br.ibetelvote.application.candidato.dto.*;
+import com.br.ibetelvote.application.shared.dto.StoredFile;
+import com.br.ibetelvote.application.shared.dto.StoredImage;
 import com.br.ibetelvote.application.shared.dto.UploadPhotoResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -33,9 +35,11 @@ public interface CandidatoService {
     void updateCargoPretendido(UUID id, UUID novoCargoPretendidoId);
 
     // === OPERAÇÕES DE FOTO ===
-    UploadPhotoResponse uploadFotoCampanha(UUID id, MultipartFile file);
+    void validarFotoCampanha(UUID id, MultipartFile file);
+    UploadPhotoResponse aplicarFotoCampanha(UUID id, StoredImage imagem, String fileName);
     void removeFotoCampanha(UUID id);
-    String getFotoCampanhaBase64(UUID id);
+    StoredFile getFotoCampanhaArquivo(UUID id, String variante, boolean aceitaWebp);
+    int warmUpFotosCampanha(UUID eleicaoId);
 
     // === CONSULTAS ESPECÍFICAS ===
     List<CandidatoResponse> getCandidatosAprovados(UUID cargoId);
@@ -1,13 +1,29 @@
 package com.br.ibetelvote.domain.services;
 
+import com.br.ibetelvote.application.shared.dto.StoredFile;
+import com.br.ibetelvote.application.shared.dto.StoredImage;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
 
 public interface FileStorageService {
     String storeFile(MultipartFile file, String directory) throws IOException;
+    StoredImage storeImage(byte[] data, String contentType) throws IOException;
+    StoredImage storeImage(Path source, String contentType) throws IOException;
+    StoredImage storeLegacyImage(byte[] data, String contentType) throws IOException;
+    Path spoolUpload(MultipartFile file) throws IOException;
+    void validateImage(Path source) throws IOException;
+    Set<String> generateVariants(String fileName);
     void deleteFile(String fileName);
+    void retain(String fileName);
+    void release(String fileName);
     boolean fileExists(String fileName);
     byte[] loadFile(String fileName) throws IOException;
+    Optional<StoredFile> findFile(String fileName) throws IOException;
+    Optional<StoredFile> findImage(String fileName, String variant, boolean acceptsWebp) throws IOException;
+    Optional<String> findRedirectUrl(String fileName, String variant, boolean acceptsWebp) throws IOException;
     String getFileUrl(String fileName);
 }
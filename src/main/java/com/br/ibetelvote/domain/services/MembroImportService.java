@@ -0,0 +1,20 @@
+package com.br.ibetelvote.domain.services;
+
+import com.br.ibetelvote.application.membro.dto.MembroImportJobResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface MembroImportService {
+
+    /**
+     * Valida o cabeçalho do arquivo CSV e enfileira a importação dos membros em segundo plano
+     */
+    MembroImportJobResponse submit(MultipartFile file);
+
+    /**
+     * Situação atual de uma importação enfileirada
+     */
+    Optional<MembroImportJobResponse> getStatus(UUID jobId);
+}
@@ -2,6 +2,9 @@ package com.br.ibetelvote.domain.services;
 
 import com.br.ibetelvote.application.membro.dto.MembroBasicInfo;
 import com.br.ibetelvote.application.membro.dto.*;
+import com.br.ibetelvote.application.shared.dto.CursorPage;
+import com.br.ibetelvote.application.shared.dto.StoredFile;
+import com.br.ibetelvote.application.shared.dto.StoredImage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -62,6 +65,11 @@ public interface MembroService {
      */
     List<MembroResponse> getMembrosByNome(String nome);
 
+    /**
+     * Busca membros ativos por nome, email ou CPF, paginada
+     */
+    Page<MembroBasicInfo> searchMembros(String termo, Pageable pageable);
+
     /**
      * Busca membro por email
      */
@@ -112,15 +120,20 @@ public interface MembroService {
      */
     MembroResponse uploadFotoMembro(UUID id, MembroUploadFotoRequest request);
 
+    /**
+     * Associa ao membro (pelo ID do usuário) uma foto já gravada no armazenamento
+     */
+    MembroResponse aplicarFotoMembro(UUID userId, StoredImage imagem, String fotoNome);
+
     /**
      * Remove foto do membro
      */
     MembroResponse removeFotoMembro(UUID id);
 
     /**
-     * Busca foto do membro em Base64
+     * Busca o conteúdo binário da foto do membro na variante pedida (thumbnail, card, full)
      */
-    String getFotoMembroBase64(UUID id);
+    StoredFile getFotoMembro(UUID id, String variante, boolean aceitaWebp);
 
     /**
      * Busca perfil completo do membro
@@ -152,6 +165,11 @@ public interface MembroService {
      */
     Page<MembroListResponse> buscarMembrosComFiltros(MembroFilterRequest filtros, Pageable pageable);
 
+    /**
+     * Busca membros com filtros, paginando por chave (nome, id) a partir de {@code filtros.cursor}
+     */
+    CursorPage<MembroListResponse> buscarMembrosComCursor(MembroFilterRequest filtros);
+
     /**
      * Lista membros para listagem simples
      */
@@ -197,6 +215,11 @@ public interface MembroService {
      */
     List<MembroResponse> getMembrosQuePodemCriarUsuario();
 
+    /**
+     * Retorna todos os contadores de membros
+     */
+    MembroStatsResponse getMembroStats();
+
     /**
      * Conta total de membros
      */
@@ -0,0 +1,27 @@
+package com.br.ibetelvote.domain.services;
+
+import com.br.ibetelvote.application.shared.dto.UploadJobResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UploadJobService {
+
+    /**
+     * Valida e enfileira o upload da foto de campanha; o processamento acontece em segundo plano.
+     * O job fica visível para o usuário que o enviou
+     */
+    UploadJobResponse submitFotoCampanha(UUID candidatoId, MultipartFile file, UUID userId);
+
+    /**
+     * Valida e enfileira o upload da foto do membro (pelo ID do usuário)
+     */
+    UploadJobResponse submitFotoMembro(UUID userId, MultipartFile file);
+
+    /**
+     * Situação atual de um upload enfileirado; vazio se o job não existir ou não for do usuário,
+     * a não ser que ele seja administrador
+     */
+    Optional<UploadJobResponse> getStatus(UUID jobId, UUID userId, boolean administrador);
+}
@@ -1,55 +1,100 @@
 package com.br.ibetelvote.infrastructure.auth;
 
-import com.br.ibetelvote.domain.entities.User;
-import lombok.AllArgsConstructor;
+import com.br.ibetelvote.domain.entities.enums.UserRole;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
-@AllArgsConstructor
-public class CustomUserDetails implements UserDetails {
+/**
+ * Principal imutável usado na autenticação por email e senha.
+ *
+ * É construído diretamente pela consulta {@code UserJpaRepository.findAuthByEmail},
+ * que traz apenas as colunas necessárias, sem carregar a entidade {@code User}
+ * nem a associação com o membro. As authorities são compartilhadas por role.
+ */
+public final class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private static final Map<UserRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserRole.class);
+
+    static {
+        for (UserRole role : UserRole.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    private final UUID id;
+    private final String email;
+    private final String password;
+    private final UserRole role;
+    private final boolean ativo;
+    private final boolean accountNonExpired;
+    private final boolean accountNonLocked;
+    private final boolean credentialsNonExpired;
+
+    public CustomUserDetails(UUID id, String email, String password, UserRole role, Boolean ativo,
+                             Boolean accountNonExpired, Boolean accountNonLocked, Boolean credentialsNonExpired) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+        this.ativo = Boolean.TRUE.equals(ativo);
+        this.accountNonExpired = Boolean.TRUE.equals(accountNonExpired);
+        this.accountNonLocked = Boolean.TRUE.equals(accountNonLocked);
+        this.credentialsNonExpired = Boolean.TRUE.equals(credentialsNonExpired);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole()));
+        return AUTHORITIES.get(role);
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword(); // hash do banco
+        return password; // hash do banco
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
     public boolean isAccountNonExpired() {
-        return user.isAccountNonExpired();
+        return accountNonExpired;
     }
 
     @Override
     public boolean isAccountNonLocked() {
-        return user.isAccountNonLocked();
+        return accountNonLocked;
     }
 
     @Override
     public boolean isCredentialsNonExpired() {
-        return user.isCredentialsNonExpired();
+        return credentialsNonExpired;
     }
 
     @Override
     public boolean isEnabled() {
-        return user.getAtivo();
+        return ativo;
     }
 
-    public User getDomainUser() {
-        return user;
+    @Override
+    public String toString() {
+        // Nunca expor o hash da senha em logs
+        return "CustomUserDetails[id=" + id + ", email=" + email + ", role=" + role + "]";
     }
 }
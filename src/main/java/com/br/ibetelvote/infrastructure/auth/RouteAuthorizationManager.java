@@ -0,0 +1,36 @@
+package com.br.ibetelvote.infrastructure.auth;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.function.Supplier;
+
+/**
+ * AuthorizationManager das requisições HTTP: resolve a regra na {@link RouteAuthorizationTable}
+ * e delega a decisão ao gerenciador pré-construído da regra.
+ */
+@RequiredArgsConstructor
+public class RouteAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final RouteAuthorizationTable routeAuthorizationTable;
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return routeAuthorizationTable.match(context.getRequest())
+                .authorizationManager()
+                .authorize(authentication, context);
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("deprecation")
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return routeAuthorizationTable.match(context.getRequest())
+                .authorizationManager()
+                .check(authentication, context);
+    }
+}
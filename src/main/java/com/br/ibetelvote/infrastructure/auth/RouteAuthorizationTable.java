@@ -0,0 +1,228 @@
+package com.br.ibetelvote.infrastructure.auth;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tabela de autorização por rota, compilada uma única vez na inicialização.
+ *
+ * As regras são declaradas em ordem (específico → geral), com a mesma semântica dos
+ * {@code requestMatchers} do Spring Security: vale a primeira regra que casar com o
+ * método e o caminho. Internamente os padrões ficam em uma trie por segmento de caminho
+ * ({@code literal}, {@code *} para um segmento e {@code **} no final para o restante), e
+ * a busca devolve a regra de menor ordem entre as que casam, sem percorrer a lista inteira.
+ *
+ * A mesma tabela é usada pelo {@link RouteAuthorizationManager} e pelo
+ * {@code JwtAuthenticationFilter}, que não processa o token em rotas públicas.
+ */
+public final class RouteAuthorizationTable {
+
+    private static final UrlPathHelper PATH_HELPER = UrlPathHelper.defaultInstance;
+
+    private final Node root;
+    private final Route fallback;
+    private final List<Route> routes;
+
+    private RouteAuthorizationTable(Node root, Route fallback, List<Route> routes) {
+        this.root = root;
+        this.fallback = fallback;
+        this.routes = routes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Regra aplicável à requisição (ou a regra padrão, quando nenhuma casar).
+     */
+    public Route match(HttpServletRequest request) {
+        return match(request.getMethod(), PATH_HELPER.getPathWithinApplication(request));
+    }
+
+    public Route match(String method, String path) {
+        String[] segments = split(path);
+        Route best = search(root, segments, 0, method, null);
+        return best != null ? best : fallback;
+    }
+
+    public boolean isPublic(HttpServletRequest request) {
+        return match(request).access() == Access.PERMIT_ALL;
+    }
+
+    public int size() {
+        return routes.size();
+    }
+
+    /**
+     * Regras na ordem de declaração, sem a regra padrão.
+     */
+    public List<Route> routes() {
+        return routes;
+    }
+
+    private Route search(Node node, String[] segments, int index, String method, Route best) {
+        if (best != null && node.minOrder >= best.order()) {
+            return best;
+        }
+
+        // "**" casa com zero ou mais segmentos restantes
+        best = pick(node.catchAll, method, best);
+
+        if (index == segments.length) {
+            return pick(node.terminal, method, best);
+        }
+
+        String segment = segments[index];
+        if (segment.isEmpty()) {
+            // Barra final: como no PathPattern, "*" no fim do padrão casa com o segmento vazio
+            if (index == segments.length - 1 && node.wildcard != null) {
+                best = pick(node.wildcard.terminal, method, best);
+            }
+            return best;
+        }
+
+        Node literal = node.literals.get(segment);
+        if (literal != null) {
+            best = search(literal, segments, index + 1, method, best);
+        }
+        if (node.wildcard != null) {
+            best = search(node.wildcard, segments, index + 1, method, best);
+        }
+        return best;
+    }
+
+    private static Route pick(List<Route> routes, String method, Route best) {
+        // Listas em ordem crescente: a primeira que casar é a de menor ordem
+        for (Route route : routes) {
+            if (best != null && route.order() >= best.order()) {
+                return best;
+            }
+            if (route.matchesMethod(method)) {
+                return route;
+            }
+        }
+        return best;
+    }
+
+    private static String[] split(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        return path.substring(start).split("/", -1);
+    }
+
+    // === TIPOS ===
+
+    public enum Access {
+        PERMIT_ALL,
+        AUTHENTICATED,
+        ROLE
+    }
+
+    /**
+     * Regra compilada: ordem de declaração, método (nulo = todos), padrão e a decisão de acesso.
+     */
+    public record Route(int order,
+                        HttpMethod method,
+                        String pattern,
+                        Access access,
+                        AuthorizationManager<RequestAuthorizationContext> authorizationManager) {
+
+        boolean matchesMethod(String requestMethod) {
+            return method == null || method.matches(requestMethod);
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node wildcard;
+        private final List<Route> terminal = new ArrayList<>();
+        private final List<Route> catchAll = new ArrayList<>();
+        private int minOrder = Integer.MAX_VALUE;
+    }
+
+    // === BUILDER ===
+
+    public static final class Builder {
+
+        private static final AuthorizationManager<RequestAuthorizationContext> PERMIT_ALL =
+                (authentication, context) -> new AuthorizationDecision(true);
+
+        private final Node root = new Node();
+        private final List<Route> routes = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder permitAll(String... patterns) {
+            for (String pattern : patterns) {
+                add(null, pattern, Access.PERMIT_ALL, PERMIT_ALL);
+            }
+            return this;
+        }
+
+        public Builder permitAll(HttpMethod method, String pattern) {
+            return add(method, pattern, Access.PERMIT_ALL, PERMIT_ALL);
+        }
+
+        public Builder authenticated(HttpMethod method, String pattern) {
+            return add(method, pattern, Access.AUTHENTICATED, AuthenticatedAuthorizationManager.authenticated());
+        }
+
+        public Builder hasRole(HttpMethod method, String pattern, String role) {
+            return add(method, pattern, Access.ROLE, AuthorityAuthorizationManager.hasRole(role));
+        }
+
+        public Builder hasAnyRole(HttpMethod method, String pattern, String... roles) {
+            return add(method, pattern, Access.ROLE, AuthorityAuthorizationManager.hasAnyRole(roles));
+        }
+
+        /**
+         * Finaliza a tabela; requisições sem regra exigem apenas autenticação.
+         */
+        public RouteAuthorizationTable build() {
+            Route fallback = new Route(Integer.MAX_VALUE, null, "/**", Access.AUTHENTICATED,
+                    AuthenticatedAuthorizationManager.authenticated());
+            return new RouteAuthorizationTable(root, fallback, List.copyOf(routes));
+        }
+
+        private Builder add(HttpMethod method, String pattern,
+                            Access access, AuthorizationManager<RequestAuthorizationContext> manager) {
+            Route route = new Route(routes.size(), method, pattern, access, manager);
+            routes.add(route);
+            String[] segments = split(pattern);
+
+            Node node = root;
+            node.minOrder = Math.min(node.minOrder, route.order());
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if ("**".equals(segment)) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("'**' só é suportado no final do padrão: " + pattern);
+                    }
+                    node.catchAll.add(route);
+                    return this;
+                }
+                if (segment.isEmpty() || (!"*".equals(segment) && (segment.contains("*") || segment.contains("{")))) {
+                    throw new IllegalArgumentException("Segmento não suportado no padrão: " + pattern);
+                }
+                node = "*".equals(segment)
+                        ? (node.wildcard != null ? node.wildcard : (node.wildcard = new Node()))
+                        : node.literals.computeIfAbsent(segment, key -> new Node());
+                node.minOrder = Math.min(node.minOrder, route.order());
+            }
+            node.terminal.add(route);
+            return this;
+        }
+    }
+}
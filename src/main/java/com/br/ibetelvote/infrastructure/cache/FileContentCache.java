@@ -0,0 +1,76 @@
+package com.br.ibetelvote.infrastructure.cache;
+
+import com.br.ibetelvote.application.shared.dto.StoredFile;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache dos arquivos mais acessados (fotos de candidatos e membros).
+ *
+ * O conteúdo fica em buffers diretos, fora do heap, e o cache é limitado pelo total de bytes
+ * residentes, não pela quantidade de arquivos. Arquivos maiores que {@code max-entry-bytes}
+ * nunca entram: esses continuam sendo transmitidos direto do disco.
+ */
+@Component
+@Slf4j
+public class FileContentCache {
+
+    public static final String CACHE_NAME = "fileContent";
+
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final Cache<String, StoredFile> cache;
+    private final long maxEntryBytes;
+
+    public FileContentCache(
+            @Value("${app.cache.file-content.max-weight-bytes:67108864}") long maxWeightBytes,
+            @Value("${app.cache.file-content.max-entry-bytes:2097152}") long maxEntryBytes,
+            MeterRegistry meterRegistry) {
+
+        this.maxEntryBytes = maxEntryBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, StoredFile file) -> (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD + file.size()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        Gauge.builder("files.cache.resident.bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("Bytes residentes no cache de arquivos")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        Gauge.builder("files.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Taxa de acertos do cache de arquivos")
+                .register(meterRegistry);
+    }
+
+    public StoredFile getIfPresent(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public void put(StoredFile file) {
+        if (file.isResident() && isCacheable(file.size())) {
+            cache.put(file.fileName(), file);
+        }
+    }
+
+    public boolean isCacheable(long size) {
+        return size > 0 && size <= maxEntryBytes;
+    }
+
+    public void invalidate(String key) {
+        if (key != null) {
+            cache.invalidate(key);
+            log.debug("Arquivo removido do cache: {}", key);
+        }
+    }
+}
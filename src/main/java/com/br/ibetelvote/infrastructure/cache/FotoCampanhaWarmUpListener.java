@@ -0,0 +1,45 @@
+package com.br.ibetelvote.infrastructure.cache;
+
+import com.br.ibetelvote.domain.events.EleicaoAtivadaEvent;
+import com.br.ibetelvote.domain.services.CandidatoService;
+import com.br.ibetelvote.infrastructure.image.ImageProcessingExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Pré-carrega no {@link FileContentCache} as fotos de campanha dos candidatos aprovados
+ * assim que a eleição é ativada, antes da primeira tela de votação.
+ *
+ * O carregamento vai para o {@link ImageProcessingExecutor}: a requisição que ativou a eleição
+ * responde logo após o commit, sem esperar a leitura (ou o download) das fotos.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FotoCampanhaWarmUpListener {
+
+    private final CandidatoService candidatoService;
+    private final ImageProcessingExecutor imageProcessingExecutor;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEleicaoAtivada(EleicaoAtivadaEvent event) {
+        try {
+            imageProcessingExecutor.execute(() -> warmUp(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("Fila de processamento de imagens cheia; fotos da eleição {} carregadas sob demanda", event.eleicaoId());
+        }
+    }
+
+    private void warmUp(EleicaoAtivadaEvent event) {
+        try {
+            candidatoService.warmUpFotosCampanha(event.eleicaoId());
+        } catch (Exception e) {
+            // A ativação já foi confirmada; o cache é preenchido sob demanda
+            log.warn("Falha ao pré-carregar fotos da eleição {}: {}", event.eleicaoId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.br.ibetelvote.infrastructure.cache;
+
+import com.br.ibetelvote.application.cargo.dto.CargoBasicInfo;
+import com.br.ibetelvote.application.membro.dto.MembroBasicInfo;
+import com.br.ibetelvote.application.membro.dto.MembroListResponse;
+import com.br.ibetelvote.application.membro.dto.MembroResponse;
+import com.br.ibetelvote.domain.entities.Cargo;
+import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.domain.entities.User;
+import com.br.ibetelvote.infrastructure.events.EntidadeEventBus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Cache das listas completas de membros (todos, ativos, listagem e dados básicos).
+ *
+ * Cada lista é uma entrada, pesada pelo tamanho estimado em bytes dos itens; uma lista maior que
+ * o limite simplesmente não fica em cache. Qualquer alteração de membro, cargo ou usuário entregue
+ * pelo {@link EntidadeEventBus} descarta todas as listas. Gravações que não passam pelo JPA (importação
+ * e arquivamento) chamam {@link #invalidate()}. Mudanças feitas em outro nó ficam visíveis no máximo
+ * após {@code expire-after-write}.
+ */
+@Component
+@Slf4j
+public class MembroListCache {
+
+    public static final String CACHE_NAME = "membroListas";
+
+    private static final int OBJECT_OVERHEAD = 128;
+    private static final int STRING_OVERHEAD = 40;
+    // UUIDs, datas e campos primitivos de MembroResponse
+    private static final int FULL_RESPONSE_FIXED = 384;
+
+    private final Cache<String, Lista> cache;
+
+    private record Lista(List<?> itens, int peso) {
+    }
+
+    public MembroListCache(
+            @Value("${app.cache.membro-listas.max-weight-bytes:16777216}") long maxWeightBytes,
+            @Value("${app.cache.membro-listas.expire-after-write:10m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry,
+            EntidadeEventBus eventBus) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, Lista lista) -> lista.peso())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        // As listas trazem o nome do cargo atual e o papel do usuário associado
+        eventBus.subscribe(Membro.class, event -> evict());
+        eventBus.subscribe(Cargo.class, event -> evict());
+        eventBus.subscribe(User.class, event -> evict());
+    }
+
+    // === CONSULTAS ===
+
+    public List<MembroResponse> todos(Supplier<List<MembroResponse>> loader) {
+        return get("todos", loader, MembroListCache::estimateSize);
+    }
+
+    public List<MembroResponse> ativos(Supplier<List<MembroResponse>> loader) {
+        return get("ativos", loader, MembroListCache::estimateSize);
+    }
+
+    public List<MembroListResponse> listagem(Supplier<List<MembroListResponse>> loader) {
+        return get("listagem", loader, MembroListCache::estimateSize);
+    }
+
+    public List<MembroBasicInfo> basicInfo(Supplier<List<MembroBasicInfo>> loader) {
+        return get("basic-info", loader, MembroListCache::estimateSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> get(String key, Supplier<List<T>> loader, ToIntFunction<T> weigher) {
+        return (List<T>) cache.get(key, k -> {
+            List<T> itens = List.copyOf(loader.get());
+            long peso = OBJECT_OVERHEAD;
+            for (T item : itens) {
+                peso += weigher.applyAsInt(item);
+            }
+            log.debug("Lista de membros '{}' carregada: {} itens, ~{} bytes", k, itens.size(), peso);
+            return new Lista(itens, (int) Math.min(peso, Integer.MAX_VALUE));
+        }).itens();
+    }
+
+    // === INVALIDAÇÃO ===
+
+    /**
+     * Descarta todas as listas após o commit da transação corrente, para que uma leitura concorrente
+     * não volte a carregar o estado anterior à alteração.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict();
+                }
+            });
+        } else {
+            evict();
+        }
+    }
+
+    private void evict() {
+        cache.invalidateAll();
+        log.debug("Listas de membros removidas do cache");
+    }
+
+    // === ESTIMATIVA DE TAMANHO ===
+
+    private static int estimateSize(MembroResponse membro) {
+        return OBJECT_OVERHEAD + FULL_RESPONSE_FIXED
+                + sizeOf(membro.getNome())
+                + sizeOf(membro.getCpf())
+                + sizeOf(membro.getEmail())
+                + sizeOf(membro.getNomeCargoAtual())
+                + sizeOf(membro.getDepartamento())
+                + sizeOf(membro.getTelefone())
+                + sizeOf(membro.getCelular())
+                + sizeOf(membro.getEndereco())
+                + sizeOf(membro.getCidade())
+                + sizeOf(membro.getEstado())
+                + sizeOf(membro.getCep())
+                + sizeOf(membro.getFotoUrl())
+                + sizeOf(membro.getObservacoes())
+                + sizeOf(membro.getDisplayName())
+                + sizeOf(membro.getPrimaryPhone())
+                + sizeOf(membro.getFullAddress())
+                + estimateSize(membro.getCargoAtual());
+    }
+
+    private static int estimateSize(CargoBasicInfo cargo) {
+        return cargo == null ? 0 : OBJECT_OVERHEAD + sizeOf(cargo.getNome()) + sizeOf(cargo.getStatus());
+    }
+
+    private static int estimateSize(MembroListResponse membro) {
+        return OBJECT_OVERHEAD
+                + sizeOf(membro.getNome())
+                + sizeOf(membro.getEmail())
+                + sizeOf(membro.getNomeCargoAtual())
+                + sizeOf(membro.getDepartamento())
+                + sizeOf(membro.getFotoUrl())
+                + sizeOf(membro.getPrimaryPhone())
+                + sizeOf(membro.getUserRole());
+    }
+
+    private static int estimateSize(MembroBasicInfo membro) {
+        return OBJECT_OVERHEAD
+                + sizeOf(membro.getNome())
+                + sizeOf(membro.getEmail())
+                + sizeOf(membro.getNomeCargoAtual());
+    }
+
+    private static int sizeOf(String value) {
+        return value == null ? 0 : STRING_OVERHEAD + value.length() * 2;
+    }
+}
@@ -0,0 +1,109 @@
+package com.br.ibetelvote.infrastructure.cache;
+
+import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.infrastructure.events.EntidadeEventBus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache de consultas de membro por email ou CPF que não encontraram ninguém.
+ *
+ * Na validação do auto-cadastro os mesmos dados inexistentes costumam ser tentados várias vezes
+ * seguidas; a partir da segunda tentativa a resposta sai daqui, sem ir ao banco. Só resultados
+ * vazios são guardados. Cada alteração de membro entregue pelo {@link EntidadeEventBus} descarta tudo,
+ * e a importação, que grava sem passar pelo JPA, chama {@link #invalidate()}. Em outro nó da
+ * aplicação o membro novo passa a ser encontrado no máximo após {@code expire-after-write}.
+ */
+@Component
+@Slf4j
+public class MembroLookupNegativeCache {
+
+    public static final String CACHE_NAME = "membroLookupNegativo";
+
+    private final Cache<String, Boolean> cache;
+    private final AtomicLong versao = new AtomicLong();
+
+    public MembroLookupNegativeCache(
+            @Value("${app.cache.membro-lookup-negativo.max-size:10000}") long maxSize,
+            @Value("${app.cache.membro-lookup-negativo.expire-after-write:1m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry,
+            EntidadeEventBus eventBus) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        eventBus.subscribe(Membro.class, event -> evict());
+    }
+
+    // === CONSULTAS ===
+
+    /**
+     * Busca por email já normalizado ({@link Membro#normalizarEmail}).
+     */
+    public <T> Optional<T> porEmail(String email, Supplier<Optional<T>> loader) {
+        return buscar("email:" + email, loader);
+    }
+
+    /**
+     * Busca por CPF já normalizado ({@link Membro#normalizarCpf}).
+     */
+    public <T> Optional<T> porCpf(String cpf, Supplier<Optional<T>> loader) {
+        return buscar("cpf:" + cpf, loader);
+    }
+
+    private <T> Optional<T> buscar(String chave, Supplier<Optional<T>> loader) {
+        if (cache.getIfPresent(chave) != null) {
+            return Optional.empty();
+        }
+
+        long versaoLida = versao.get();
+        Optional<T> resultado = loader.get();
+        // Se um membro foi criado ou alterado durante a consulta, o vazio pode já estar desatualizado
+        if (resultado.isEmpty() && versao.get() == versaoLida) {
+            cache.put(chave, Boolean.TRUE);
+        }
+        return resultado;
+    }
+
+    // === INVALIDAÇÃO ===
+
+    /**
+     * Descarta os resultados vazios após o commit da transação corrente, quando o membro criado ou
+     * alterado passa a ser visível para as outras consultas.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict();
+                }
+            });
+        } else {
+            evict();
+        }
+    }
+
+    private void evict() {
+        versao.incrementAndGet();
+        cache.invalidateAll();
+        log.debug("Consultas vazias de membros removidas do cache");
+    }
+}
@@ -0,0 +1,76 @@
+package com.br.ibetelvote.infrastructure.cache;
+
+import com.br.ibetelvote.application.membro.dto.MembroProfileResponse;
+import com.br.ibetelvote.domain.entities.Cargo;
+import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.infrastructure.events.EntidadeEventBus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache do perfil do membro autenticado ({@code /auto-cadastro/meu-perfil}), por usuário.
+ *
+ * O perfil não carrega a foto, apenas URL, tipo e nome. A entrada de um membro é descartada quando
+ * o {@link EntidadeEventBus} entrega uma alteração dele; uma alteração de cargo descarta tudo, já
+ * que o perfil mostra o nome do cargo.
+ */
+@Component
+@Slf4j
+public class MembroProfileCache {
+
+    public static final String CACHE_NAME = "membroProfile";
+
+    private final Cache<UUID, MembroProfileResponse> cache;
+    private final AtomicLong versao = new AtomicLong();
+
+    public MembroProfileCache(
+            @Value("${app.cache.membro-profile.max-size:10000}") long maxSize,
+            @Value("${app.cache.membro-profile.expire-after-write:30m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry,
+            EntidadeEventBus eventBus) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        eventBus.subscribe(Membro.class, event -> evictMembro(event.id()));
+        eventBus.subscribe(Cargo.class, event -> evictAll());
+    }
+
+    public MembroProfileResponse get(UUID userId, Function<UUID, MembroProfileResponse> loader) {
+        long versaoLida = versao.get();
+        MembroProfileResponse profile = cache.get(userId, loader);
+        // Uma alteração confirmada durante a carga pode ter deixado o perfil carregado desatualizado
+        if (versao.get() != versaoLida) {
+            cache.invalidate(userId);
+        }
+        return profile;
+    }
+
+    // === INVALIDAÇÃO ===
+
+    private void evictMembro(UUID membroId) {
+        versao.incrementAndGet();
+        cache.asMap().values().removeIf(profile -> membroId.equals(profile.getId()));
+    }
+
+    private void evictAll() {
+        versao.incrementAndGet();
+        cache.invalidateAll();
+        log.debug("Perfis de membros removidos do cache");
+    }
+}
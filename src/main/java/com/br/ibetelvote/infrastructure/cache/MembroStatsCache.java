@@ -0,0 +1,78 @@
+package com.br.ibetelvote.infrastructure.cache;
+
+import com.br.ibetelvote.application.membro.dto.MembroStatsResponse;
+import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.infrastructure.events.EntidadeEventBus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Cache dos contadores de membros (total, ativos, por cargo, aptos para votação).
+ *
+ * Todos os contadores saem de uma única consulta agregada e ficam em uma só entrada. A entrada é
+ * descartada a cada alteração de membro entregue pelo {@link EntidadeEventBus}; o evento não diz
+ * quais campos mudaram, e recalcular é uma consulta só. Gravações que não passam pelo JPA
+ * (importação e arquivamento) chamam {@link #invalidate()}.
+ */
+@Component
+@Slf4j
+public class MembroStatsCache {
+
+    public static final String CACHE_NAME = "membroStats";
+
+    private static final String KEY = "stats";
+
+    private final Cache<String, MembroStatsResponse> cache;
+
+    public MembroStatsCache(
+            @Value("${app.cache.membro-stats.expire-after-write:5m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry,
+            EntidadeEventBus eventBus) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        eventBus.subscribe(Membro.class, event -> evict());
+    }
+
+    public MembroStatsResponse get(Supplier<MembroStatsResponse> loader) {
+        return cache.get(KEY, key -> loader.get());
+    }
+
+    /**
+     * Descarta os contadores após o commit da transação corrente, para que uma leitura concorrente
+     * não volte a carregar o estado anterior à alteração.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict();
+                }
+            });
+        } else {
+            evict();
+        }
+    }
+
+    private void evict() {
+        cache.invalidate(KEY);
+        log.debug("Estatísticas de membros removidas do cache");
+    }
+}
@@ -0,0 +1,130 @@
+package com.br.ibetelvote.infrastructure.cache;
+
+import com.br.ibetelvote.application.auth.dto.UserProfileResponse;
+import com.br.ibetelvote.domain.entities.Cargo;
+import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.domain.entities.User;
+import com.br.ibetelvote.infrastructure.events.EntidadeEventBus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache dos perfis de usuário retornados por {@code /auth/me} e no login.
+ *
+ * O perfil não carrega a foto (apenas URL e versão), e o cache é limitado pelo
+ * tamanho estimado em bytes das entradas, não pela quantidade.
+ * A invalidação é sempre após o commit: pelos serviços de usuário e a cada alteração de {@link User}
+ * ou {@link Membro} entregue pelo {@link EntidadeEventBus}. Descartar antes do commit deixaria um
+ * login concorrente recarregar a linha antiga e guardá-la até a expiração.
+ *
+ * O evento de membro traz só o id do membro: saem os perfis ligados a ele e os perfis sem membro,
+ * que podem ser do usuário que acabou de ser associado. Renomear um cargo descarta tudo, já que
+ * o perfil mostra o nome do cargo.
+ */
+@Component
+@Slf4j
+public class UserProfileCache {
+
+    public static final String CACHE_NAME = "userProfile";
+
+    private static final int OBJECT_OVERHEAD = 128;
+    private static final int STRING_OVERHEAD = 40;
+
+    private final Cache<UUID, UserProfileResponse> cache;
+    private final AtomicLong versao = new AtomicLong();
+
+    public UserProfileCache(
+            @Value("${app.cache.user-profile.max-weight-bytes:4194304}") long maxWeightBytes,
+            @Value("${app.cache.user-profile.expire-after-write:30m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry,
+            EntidadeEventBus eventBus) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((UUID userId, UserProfileResponse profile) -> estimateSize(profile))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        // Papel, status e email do usuário mudam por vários caminhos; a entrega é após o commit
+        eventBus.subscribe(User.class, event -> evictNow(event.id()));
+        eventBus.subscribe(Membro.class, event -> evictMembro(event.id()));
+        eventBus.subscribe(Cargo.class, event -> evictAll());
+    }
+
+    public UserProfileResponse get(UUID userId, Function<UUID, UserProfileResponse> loader) {
+        long versaoLida = versao.get();
+        UserProfileResponse profile = cache.get(userId, loader);
+        // Uma alteração confirmada durante a carga pode ter deixado o perfil carregado desatualizado
+        if (versao.get() != versaoLida) {
+            cache.invalidate(userId);
+        }
+        return profile;
+    }
+
+    public void put(UserProfileResponse profile) {
+        cache.put(profile.getId(), profile);
+    }
+
+    /**
+     * Descarta o perfil do usuário após o commit da transação corrente.
+     */
+    public void evict(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        } else {
+            evictNow(userId);
+        }
+    }
+
+    private void evictNow(UUID userId) {
+        versao.incrementAndGet();
+        cache.invalidate(userId);
+        log.debug("Perfil removido do cache: {}", userId);
+    }
+
+    private void evictMembro(UUID membroId) {
+        versao.incrementAndGet();
+        cache.asMap().values().removeIf(profile -> profile.getMembroId() == null || membroId.equals(profile.getMembroId()));
+    }
+
+    private void evictAll() {
+        versao.incrementAndGet();
+        cache.invalidateAll();
+        log.debug("Perfis removidos do cache");
+    }
+
+    private static int estimateSize(UserProfileResponse profile) {
+        return OBJECT_OVERHEAD
+                + sizeOf(profile.getNome())
+                + sizeOf(profile.getEmail())
+                + sizeOf(profile.getCargo())
+                + sizeOf(profile.getFotoUrl());
+    }
+
+    private static int sizeOf(String value) {
+        return value == null ? 0 : STRING_OVERHEAD + value.length() * 2;
+    }
+}
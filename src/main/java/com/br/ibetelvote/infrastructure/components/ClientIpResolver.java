@@ -0,0 +1,35 @@
+package com.br.ibetelvote.infrastructure.components;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolve o IP de origem do cliente considerando os headers de proxy reverso.
+ */
+@Component
+public class ClientIpResolver {
+
+    public String resolve(HttpServletRequest request) {
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            return firstValue(xForwardedFor);
+        }
+
+        String xRealIp = request.getHeader("X-Real-IP");
+        if (xRealIp != null && !xRealIp.isEmpty()) {
+            return xRealIp;
+        }
+
+        String xOriginalForwardedFor = request.getHeader("X-Original-Forwarded-For");
+        if (xOriginalForwardedFor != null && !xOriginalForwardedFor.isEmpty()) {
+            return firstValue(xOriginalForwardedFor);
+        }
+
+        return request.getRemoteAddr();
+    }
+
+    private String firstValue(String header) {
+        int comma = header.indexOf(',');
+        return (comma < 0 ? header : header.substring(0, comma)).trim();
+    }
+}
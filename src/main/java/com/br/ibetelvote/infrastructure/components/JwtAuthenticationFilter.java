@@ -1,5 +1,6 @@
 package com.br.ibetelvote.infrastructure.components;
 
+import com.br.ibetelvote.infrastructure.auth.RouteAuthorizationTable;
 import com.br.ibetelvote.infrastructure.jwt.JwtService;
 import com.br.ibetelvote.infrastructure.repositories.UserJpaRepository;
 import jakarta.servlet.FilterChain;
@@ -26,6 +27,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserJpaRepository userJpaRepository;
+    private final RouteAuthorizationTable routeAuthorizationTable;
 
     @Override
     protected void doFilterInternal(
@@ -94,16 +96,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        String path = request.getRequestURI();
-
-        // Pular filtro para endpoints públicos
-        return path.startsWith("/api/v1/auth/login") ||
-                path.startsWith("/api/v1/auth/refresh") ||
-                path.startsWith("/api/v1/auth/validate") ||
-                path.startsWith("/swagger-ui") ||
-                path.startsWith("/v3/api-docs") ||
-                path.startsWith("/actuator") ||
-                path.startsWith("/files/") ||
-                path.equals("/favicon.ico");
+        // Pular filtro para endpoints públicos (mesma tabela usada na autorização)
+        return routeAuthorizationTable.isPublic(request);
     }
 }
\ No newline at end of file
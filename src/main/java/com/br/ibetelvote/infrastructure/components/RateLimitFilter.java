@@ -0,0 +1,134 @@
+package com.br.ibetelvote.infrastructure.components;
+
+import com.br.ibetelvote.application.auth.dto.AuthErrorResponse;
+import com.br.ibetelvote.infrastructure.jwt.JwtService;
+import com.br.ibetelvote.infrastructure.ratelimit.RateLimitProperties;
+import com.br.ibetelvote.infrastructure.ratelimit.RateLimiterRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aplica o rate limiting configurado em {@code app.security.rate-limit} antes da autenticação JWT,
+ * de modo que requisições excedentes são rejeitadas sem nenhum acesso ao banco.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final ClientIpResolver clientIpResolver;
+    private final JwtService jwtService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<CompiledRule> rules;
+
+    public RateLimitFilter(RateLimitProperties properties,
+                           RateLimiterRegistry rateLimiterRegistry,
+                           ClientIpResolver clientIpResolver,
+                           JwtService jwtService,
+                           ObjectMapper objectMapper) {
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.clientIpResolver = clientIpResolver;
+        this.jwtService = jwtService;
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(rule, parser.parse(rule.getPattern())))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || rules.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        CompiledRule match = null;
+        for (CompiledRule candidate : rules) {
+            if (candidate.matches(request.getMethod(), path)) {
+                match = candidate;
+                break;
+            }
+        }
+
+        if (match == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String clientKey = resolveClientKey(match.rule(), request);
+        long waitNanos = rateLimiterRegistry.tryConsume(match.rule(), clientKey);
+
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        log.warn("Rate limit excedido - regra: {}, cliente: {}", match.rule().getName(), clientKey);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), AuthErrorResponse.of(
+                "TOO_MANY_REQUESTS",
+                "Muitas requisições. Tente novamente em " + retryAfterSeconds + " segundos.",
+                request.getRequestURI()));
+    }
+
+    private String resolveClientKey(RateLimitProperties.Rule rule, HttpServletRequest request) {
+        if (rule.getKey() == RateLimitProperties.KeyType.USER) {
+            String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                // Apenas verifica a assinatura do token; nenhuma consulta ao usuário é feita aqui
+                try {
+                    UUID userId = jwtService.extractUserId(authHeader.substring(7));
+                    if (userId != null) {
+                        return "user:" + userId;
+                    }
+                } catch (IllegalArgumentException e) {
+                    log.debug("Token inválido no rate limiter, usando IP como chave");
+                }
+            }
+        }
+        return "ip:" + clientIpResolver.resolve(request);
+    }
+
+    private record CompiledRule(RateLimitProperties.Rule rule, PathPattern pattern) {
+
+        boolean matches(String method, PathContainer path) {
+            if (rule.getMethod() != null && !rule.getMethod().equalsIgnoreCase(method)) {
+                return false;
+            }
+            return pattern.matches(path);
+        }
+    }
+}
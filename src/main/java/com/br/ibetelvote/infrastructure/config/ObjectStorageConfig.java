@@ -0,0 +1,36 @@
+package com.br.ibetelvote.infrastructure.config;
+
+import com.br.ibetelvote.infrastructure.image.UploadProperties;
+import com.br.ibetelvote.infrastructure.storage.LocalObjectStorage;
+import com.br.ibetelvote.infrastructure.storage.MeteredObjectStorage;
+import com.br.ibetelvote.infrastructure.storage.ObjectStorage;
+import com.br.ibetelvote.infrastructure.storage.S3ObjectStorage;
+import com.br.ibetelvote.infrastructure.storage.StorageProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Path;
+
+@Configuration
+public class ObjectStorageConfig {
+
+    @Bean
+    public ObjectStorage objectStorage(StorageProperties storageProperties,
+                                       UploadProperties uploadProperties,
+                                       MeterRegistry meterRegistry) {
+        Path uploadRoot = Path.of(uploadProperties.getPath());
+
+        ObjectStorage backend = switch (storageProperties.getType().toLowerCase()) {
+            case "local" -> {
+                String path = storageProperties.getLocal().getPath();
+                yield new LocalObjectStorage(StringUtils.hasText(path) ? Path.of(path) : uploadRoot, uploadRoot);
+            }
+            case "s3" -> new S3ObjectStorage(storageProperties.getS3());
+            default -> throw new IllegalStateException("Tipo de armazenamento inválido: " + storageProperties.getType());
+        };
+
+        return new MeteredObjectStorage(backend, meterRegistry);
+    }
+}
@@ -0,0 +1,431 @@
+package com.br.ibetelvote.infrastructure.config;
+
+import com.br.ibetelvote.infrastructure.auth.RouteAuthorizationManager;
+import com.br.ibetelvote.infrastructure.auth.RouteAuthorizationTable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Regras de autorização por rota - Sistema IBetel Vote
+ *
+ * Declaradas em ordem (específico → geral); vale a primeira regra que casar.
+ * A tabela é compilada uma vez e compartilhada entre o SecurityConfig e o JwtAuthenticationFilter.
+ * Rotas sem regra exigem apenas autenticação.
+ *
+ * HIERARQUIA DE ROLES:
+ * - MEMBRO: Acesso básico (votar, ver eleições ativas)
+ * - UTILIZADOR_PRO: Gestão intermediária (relatórios, consultas)
+ * - ADMINISTRADOR: Controle total (CRUD, configurações)
+ */
+@Configuration
+public class RouteAuthorizationConfig {
+
+    @Bean
+    public RouteAuthorizationTable routeAuthorizationTable() {
+        return RouteAuthorizationTable.builder()
+
+                // ===============================================
+                // ENDPOINTS PÚBLICOS (SEM AUTENTICAÇÃO)
+                // ===============================================
+
+                // AUTENTICAÇÃO BÁSICA
+                .permitAll(HttpMethod.POST, "/api/v1/auth/login")
+                .permitAll(HttpMethod.POST, "/api/v1/auth/refresh")
+                .permitAll(HttpMethod.GET, "/api/v1/auth/validate")
+
+                // AUTO-CADASTRO PÚBLICO (DEVE VIR ANTES DE MATCHERS GERAIS)
+                .permitAll(HttpMethod.POST, "/api/v1/auto-cadastro/validar-membro")
+                .permitAll(HttpMethod.POST, "/api/v1/auto-cadastro/criar-usuario")
+                .permitAll(HttpMethod.GET, "/api/v1/auto-cadastro/verificar-elegibilidade")
+
+                // ARQUIVOS ESTÁTICOS (IMAGENS, DOCUMENTOS)
+                .permitAll(HttpMethod.GET, "/api/v1/files/**")
+                .permitAll(HttpMethod.OPTIONS, "/api/v1/files/**")
+
+                // FERRAMENTAS DE DESENVOLVIMENTO
+                .permitAll("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html")
+                .permitAll("/h2-console/**")
+                .permitAll("/actuator/**")
+                .permitAll("/favicon.ico", "/error")
+
+                // ===============================================
+                // ENDPOINTS AUTENTICADOS
+                // ===============================================
+
+                // AUTENTICAÇÃO COM TOKEN
+                .authenticated(HttpMethod.GET, "/api/v1/auth/me")
+                .authenticated(HttpMethod.POST, "/api/v1/auth/logout")
+
+                // ===============================================
+                // AUTO-CADASTRO (PERFIL PRÓPRIO)
+                // ===============================================
+                .hasAnyRole(HttpMethod.GET, "/api/v1/auto-cadastro/meu-perfil", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.PUT, "/api/v1/auto-cadastro/meu-perfil", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.POST, "/api/v1/auto-cadastro/meu-perfil/foto", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.DELETE, "/api/v1/auto-cadastro/meu-perfil/foto", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // ===============================================
+                // UPLOADS EM PROCESSAMENTO
+                // ===============================================
+                .hasAnyRole(HttpMethod.GET, "/api/v1/uploads/*", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // ===============================================
+                // ELEIÇÕES (ORDEM ESPECÍFICA → GERAL)
+                // ===============================================
+
+                //ESTATÍSTICAS (PRIMEIRO - MAIS ESPECÍFICO)
+                .hasAnyRole(HttpMethod.GET, "/api/v1/eleicoes/stats/**", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // CONSULTAS ESPECÍFICAS
+                .hasAnyRole(HttpMethod.GET, "/api/v1/eleicoes/ativa", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/eleicoes/abertas", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/eleicoes/encerradas", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/eleicoes/futuras", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/eleicoes/recentes", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/eleicoes/com-candidatos", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.POST, "/api/v1/eleicoes/buscar", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // VALIDAÇÕES E CONFIGURAÇÕES (ADMIN ONLY)
+                .hasRole(HttpMethod.GET, "/api/v1/eleicoes/*/validacao", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/eleicoes/*/can-activate", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PUT, "/api/v1/eleicoes/*/configuracoes", "ADMINISTRADOR")
+
+                // CONTROLE DE ESTADO (ADMIN ONLY)
+                .hasRole(HttpMethod.POST, "/api/v1/eleicoes/*/ativar", "ADMINISTRADOR")
+                .hasRole(HttpMethod.POST, "/api/v1/eleicoes/*/desativar", "ADMINISTRADOR")
+                .hasRole(HttpMethod.POST, "/api/v1/eleicoes/*/encerrar", "ADMINISTRADOR")
+
+                // CONSULTAS GERAIS
+                .hasAnyRole(HttpMethod.GET, "/api/v1/eleicoes/*/is-open", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/eleicoes/*/stats", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // CRUD BÁSICO
+                .hasAnyRole(HttpMethod.GET, "/api/v1/eleicoes/*", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/eleicoes", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasRole(HttpMethod.POST, "/api/v1/eleicoes", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PUT, "/api/v1/eleicoes/**", "ADMINISTRADOR")
+                .hasRole(HttpMethod.DELETE, "/api/v1/eleicoes/**", "ADMINISTRADOR")
+
+                // ===============================================
+                // CANDIDATOS (ORDEM ESPECÍFICA → GERAL)
+                // ===============================================
+
+                // ESTATÍSTICAS E RELATÓRIOS
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/stats/**", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // CONSULTAS ESPECÍFICAS
+                .hasRole(HttpMethod.GET, "/api/v1/candidatos/pendentes-aprovacao", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/eleicao/*/listagem", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/eleicao/*/listagem/paginada", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/eleicao/*/elegiveis", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/candidatos/eleicao/*/sem-numero", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/eleicao/*", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/cargo/*/aprovados", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/cargo/*/eleicao/*/ranking", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/cargo/*", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/membro/*", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/numero/*/eleicao/*", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/search", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // VALIDAÇÕES
+                .hasRole(HttpMethod.GET, "/api/v1/candidatos/exists/**", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/candidatos/*/can-delete", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/*/elegibilidade", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // APROVAÇÃO E CONTROLE (ADMIN ONLY)
+                .hasRole(HttpMethod.POST, "/api/v1/candidatos/*/aprovar", "ADMINISTRADOR")
+                .hasRole(HttpMethod.POST, "/api/v1/candidatos/*/reprovar", "ADMINISTRADOR")
+                .hasRole(HttpMethod.POST, "/api/v1/candidatos/aprovar-lote", "ADMINISTRADOR")
+                .hasRole(HttpMethod.POST, "/api/v1/candidatos/*/ativar", "ADMINISTRADOR")
+                .hasRole(HttpMethod.POST, "/api/v1/candidatos/*/desativar", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PUT, "/api/v1/candidatos/*/numero", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PUT, "/api/v1/candidatos/*/cargo-pretendido", "ADMINISTRADOR")
+
+                // GESTÃO DE FOTOS (ADMIN ONLY)
+                .hasRole(HttpMethod.POST, "/api/v1/candidatos/*/foto-campanha", "ADMINISTRADOR")
+                .hasRole(HttpMethod.DELETE, "/api/v1/candidatos/*/foto-campanha", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/*/foto-campanha", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/*/foto-campanha/imagem", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // BUSCA AVANÇADA
+                .hasAnyRole(HttpMethod.POST, "/api/v1/candidatos/filtros", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // CRUD BÁSICO
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/*/with-photo", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/candidatos/*", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasRole(HttpMethod.POST, "/api/v1/candidatos", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PUT, "/api/v1/candidatos/**", "ADMINISTRADOR")
+                .hasRole(HttpMethod.DELETE, "/api/v1/candidatos/**", "ADMINISTRADOR")
+
+                // ===============================================
+                // CARGOS
+                // ===============================================
+
+                // ESTATÍSTICAS
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/stats/**", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // CONSULTAS ESPECÍFICAS
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/ativos", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/ativos/page", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/cargos/inativos", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/disponiveis", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/search", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/basic-info", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/all", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // VALIDAÇÕES
+                .hasRole(HttpMethod.GET, "/api/v1/cargos/exists/**", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/cargos/disponivel/**", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/cargos/*/can-delete", "ADMINISTRADOR")
+
+                // CONTROLE DE ESTADO
+                .hasRole(HttpMethod.PATCH, "/api/v1/cargos/*/ativar", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PATCH, "/api/v1/cargos/*/desativar", "ADMINISTRADOR")
+
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/categoria/*/ordenados", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/categoria/*/ativos", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/categoria/*/disponiveis", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // CRUD BÁSICO
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/*", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasRole(HttpMethod.POST, "/api/v1/cargos", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PUT, "/api/v1/cargos/**", "ADMINISTRADOR")
+                .hasRole(HttpMethod.DELETE, "/api/v1/cargos/**", "ADMINISTRADOR")
+
+                // Hierarquia específica
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/hierarquia/*/ativos", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/ministeriais", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/ministeriais/ativos", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/lideranca", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/administrativos", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // Operações específicas
+                .hasRole(HttpMethod.GET, "/api/v1/cargos/incompletos", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/com-candidatos", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // Status avançado
+                .hasRole(HttpMethod.PATCH, "/api/v1/cargos/*/ativar-para-eleicao", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PATCH, "/api/v1/cargos/*/desativar-para-eleicao", "ADMINISTRADOR")
+
+                // Precedência
+                .hasRole(HttpMethod.PATCH, "/api/v1/cargos/*/alterar-ordem", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/cargos/categoria/*/proxima-ordem", "ADMINISTRADOR")
+                .hasRole(HttpMethod.POST, "/api/v1/cargos/categoria/*/reorganizar-ordens", "ADMINISTRADOR")
+
+                // Elegibilidade
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/elegiveis-para/**", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.POST, "/api/v1/cargos/verificar-elegibilidade", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // Validações específicas
+                .hasRole(HttpMethod.GET, "/api/v1/cargos/categoria/*/ordem/*/disponivel", "ADMINISTRADOR")
+
+                // Relatórios
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/relatorios/**", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // Utilitários
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/categoria/*/basic-info", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/hierarquias-disponiveis", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/cargos/niveis-elegibilidade", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // Operações em lote
+                .hasRole(HttpMethod.PATCH, "/api/v1/cargos/ativar-multiplos", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PATCH, "/api/v1/cargos/desativar-multiplos", "ADMINISTRADOR")
+                .hasRole(HttpMethod.DELETE, "/api/v1/cargos/deletar-multiplos", "ADMINISTRADOR")
+
+
+                // ===============================================
+                // CATEGORIA
+                // ===============================================
+
+                //CONTROLLER
+                .hasAnyRole(HttpMethod.GET, "/api/v1/categorias", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/categorias/all", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PUT, "/api/v1/categorias/**", "ADMINISTRADOR")
+                .hasRole(HttpMethod.DELETE, "/api/v1/categorias/**", "ADMINISTRADOR")
+
+                // Operações de status
+                .hasRole(HttpMethod.PATCH, "/api/v1/categorias/*/ativar", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PATCH, "/api/v1/categorias/*/desativar", "ADMINISTRADOR")
+
+                // Consultas específicas
+                .hasAnyRole(HttpMethod.GET, "/api/v1/categorias/ativas", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/categorias/ativas/page", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/categorias/inativas", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/categorias/ordenadas", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/categorias/para-selecao", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/categorias/com-cargos", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/categorias/com-cargos-ativos", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/categorias/com-cargos-disponiveis", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/categorias/search", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // Operações de ordem
+                .hasRole(HttpMethod.GET, "/api/v1/categorias/proxima-ordem", "ADMINISTRADOR")
+                .hasRole(HttpMethod.POST, "/api/v1/categorias/reorganizar-ordens", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PATCH, "/api/v1/categorias/*/alterar-ordem", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PATCH, "/api/v1/categorias/*/mover-para-cima", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PATCH, "/api/v1/categorias/*/mover-para-baixo", "ADMINISTRADOR")
+
+                // Validações
+                .hasRole(HttpMethod.GET, "/api/v1/categorias/exists/nome", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/categorias/disponivel/nome", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/categorias/*/can-delete", "ADMINISTRADOR")
+
+                // Estatísticas
+                .hasAnyRole(HttpMethod.GET, "/api/v1/categorias/stats/**", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // Relatórios
+                .hasAnyRole(HttpMethod.GET, "/api/v1/categorias/relatorios/**", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // Operações em lote
+                .hasRole(HttpMethod.PATCH, "/api/v1/categorias/desativar-multiplas", "ADMINISTRADOR")
+                .hasRole(HttpMethod.DELETE, "/api/v1/categorias/deletar-multiplas", "ADMINISTRADOR")
+
+                // Administrativas
+                .hasRole(HttpMethod.POST, "/api/v1/categorias/admin/**", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/categorias/admin/**", "ADMINISTRADOR")
+
+
+                // ===============================================
+                // MEMBROS (ORDEM ESPECÍFICA → GERAL)
+                // ===============================================
+
+                // ESTATÍSTICAS
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/stats/**", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // CONSULTAS ESPECÍFICAS
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/ativos", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/ativos/page", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/membros/inativos", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/cargo/*", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/sem-cargo", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/elegiveis/*", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/aptos-votacao", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/membros/podem-criar-usuario", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/listagem", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/basic-info", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/all", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // BUSCA
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/search/**", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.POST, "/api/v1/membros/filtros", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.POST, "/api/v1/membros/filtros/cursor", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // VALIDAÇÕES
+                .hasAnyRole(HttpMethod.POST, "/api/v1/membros/validar", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/*/elegibilidade", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/membros/disponivel/**", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/membros/*/can-delete", "ADMINISTRADOR")
+
+                // IMPORTAÇÃO
+                .hasRole(HttpMethod.POST, "/api/v1/membros/importacao", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/membros/importacao/*", "ADMINISTRADOR")
+
+                // CONTROLE DE ESTADO
+                .hasRole(HttpMethod.PATCH, "/api/v1/membros/*/ativar", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PATCH, "/api/v1/membros/*/desativar", "ADMINISTRADOR")
+
+                // GESTÃO DE CARGOS
+                .hasRole(HttpMethod.PUT, "/api/v1/membros/*/cargo", "ADMINISTRADOR")
+                .hasRole(HttpMethod.DELETE, "/api/v1/membros/*/cargo", "ADMINISTRADOR")
+
+                // GESTÃO DE USUÁRIOS
+                .hasRole(HttpMethod.PUT, "/api/v1/membros/*/usuario/*", "ADMINISTRADOR")
+                .hasRole(HttpMethod.DELETE, "/api/v1/membros/*/usuario", "ADMINISTRADOR")
+
+                // GESTÃO DE FOTOS
+                .hasAnyRole(HttpMethod.PUT, "/api/v1/membros/*/foto", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.DELETE, "/api/v1/membros/*/foto", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/*/foto", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/*/foto/imagem", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // PERFIL
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/*/profile", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.PUT, "/api/v1/membros/*/profile", "MEMBRO", "ADMINISTRADOR")
+
+                // CRUD BÁSICO
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros/*", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/membros", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasRole(HttpMethod.POST, "/api/v1/membros", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PUT, "/api/v1/membros/**", "ADMINISTRADOR")
+                .hasRole(HttpMethod.DELETE, "/api/v1/membros/**", "ADMINISTRADOR")
+
+                // ===============================================
+                // VOTAÇÃO (ORDEM ESPECÍFICA → GERAL)
+                // ===============================================
+
+                // ESTATÍSTICAS E RELATÓRIOS
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/stats/**", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/eleicao/*/estatisticas", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/eleicao/*/estatisticas-detalhadas", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/eleicao/*/resultados", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/eleicao/*/cargo-pretendido/*/ranking", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/eleicao/*/progresso", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/cargo-pretendido/*/estatisticas", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // AUDITORIA E SEGURANÇA (ADMIN ONLY)
+                .hasRole(HttpMethod.GET, "/api/v1/votos/eleicao/*/auditoria", "ADMINISTRADOR")
+                .hasRole(HttpMethod.GET, "/api/v1/votos/eleicao/*/seguranca", "ADMINISTRADOR")
+
+                // CONSULTAS POR ENTIDADE
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/eleicao/*/paginados", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/eleicao/*/total", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/eleicao/*", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/cargo-pretendido/*/total", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/cargo-pretendido/*", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/candidato/*/total", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/candidato/*", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // CONSULTAS POR MEMBRO
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/membro/*/eleicao/*/ja-votou", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/membro/*/cargo-pretendido/*/eleicao/*/ja-votou", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/membro/*/elegivel", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/membro/*", "ADMINISTRADOR", "MEMBRO")
+
+                // VALIDAÇÕES
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/eleicao/*/disponivel", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.POST, "/api/v1/votos/validar", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // OPERAÇÃO PRINCIPAL
+                .hasAnyRole(HttpMethod.POST, "/api/v1/votos/votar", "MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // BUSCA AVANÇADA
+                .hasAnyRole(HttpMethod.POST, "/api/v1/votos/buscar", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // ENDPOINTS DEPRECATED (COMPATIBILIDADE)
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/cargo/*/total", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/cargo/*", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+                // Relatórios e estatísticas específicas
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/stats/validos", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/stats/branco", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasAnyRole(HttpMethod.GET, "/api/v1/votos/stats/nulo", "UTILIZADOR_PRO", "ADMINISTRADOR")
+
+
+                // ===============================================
+                // USUÁRIOS (ADMIN ONLY)
+                // ===============================================
+                .hasRole(HttpMethod.GET, "/api/v1/users/**", "ADMINISTRADOR")
+                .hasRole(HttpMethod.POST, "/api/v1/users/**", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PUT, "/api/v1/users/**", "ADMINISTRADOR")
+                .hasRole(HttpMethod.DELETE, "/api/v1/users/**", "ADMINISTRADOR")
+                .hasRole(HttpMethod.PATCH, "/api/v1/users/**", "ADMINISTRADOR")
+
+                // ===============================================
+                // GESTÃO DE ARQUIVOS (ADMIN/UTILIZADOR_PRO)
+                // ===============================================
+                .hasAnyRole(HttpMethod.POST, "/api/v1/upload/**", "UTILIZADOR_PRO", "ADMINISTRADOR")
+                .hasRole(HttpMethod.DELETE, "/api/v1/files/**", "ADMINISTRADOR")
+
+                // ===============================================
+                // QUALQUER OUTRA REQUISIÇÃO: AUTENTICADA
+                // ===============================================
+                .build();
+    }
+
+    @Bean
+    public RouteAuthorizationManager routeAuthorizationManager(RouteAuthorizationTable routeAuthorizationTable) {
+        return new RouteAuthorizationManager(routeAuthorizationTable);
+    }
+}
@@ -1,10 +1,11 @@
 package com.br.ibetelvote.infrastructure.config;
 
+import com.br.ibetelvote.infrastructure.auth.RouteAuthorizationManager;
 import com.br.ibetelvote.infrastructure.components.JwtAuthenticationFilter;
+import com.br.ibetelvote.infrastructure.components.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -30,8 +31,7 @@ import java.util.List;
  *
  * Atualizada com base nos controllers atuais
  * Permissões consistentes com @PreAuthorize
- * Todos os endpoints mapeados
- * Ordem correta dos matchers (específico → geral)
+ * Regras por rota compiladas em RouteAuthorizationConfig (específico → geral)
  *
  * HIERARQUIA DE ROLES:
  * - MEMBRO: Acesso básico (votar, ver eleições ativas)
@@ -45,6 +45,8 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final RouteAuthorizationManager routeAuthorizationManager;
     private final UserDetailsService userDetailsService;
 
     @Bean
@@ -54,395 +56,12 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-
-                        // ===============================================
-                        // ENDPOINTS PÚBLICOS (SEM AUTENTICAÇÃO)
-                        // ===============================================
-
-                        // AUTENTICAÇÃO BÁSICA
-                        .requestMatchers(HttpMethod.POST, "/api/v1/auth/login").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/api/v1/auth/refresh").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/v1/auth/validate").permitAll()
-
-                        // AUTO-CADASTRO PÚBLICO (DEVE VIR ANTES DE MATCHERS GERAIS)
-                        .requestMatchers(HttpMethod.POST, "/api/v1/auto-cadastro/validar-membro").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/api/v1/auto-cadastro/criar-usuario").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/v1/auto-cadastro/verificar-elegibilidade").permitAll()
-
-                        // ARQUIVOS ESTÁTICOS (IMAGENS, DOCUMENTOS)
-                        .requestMatchers(HttpMethod.GET, "/api/v1/files/**").permitAll()
-                        .requestMatchers(HttpMethod.OPTIONS, "/api/v1/files/**").permitAll()
-
-                        // FERRAMENTAS DE DESENVOLVIMENTO
-                        .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
-                        .requestMatchers("/h2-console/**").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
-                        .requestMatchers("/favicon.ico", "/error").permitAll()
-
-                        // ===============================================
-                        // ENDPOINTS AUTENTICADOS
-                        // ===============================================
-
-                        // AUTENTICAÇÃO COM TOKEN
-                        .requestMatchers(HttpMethod.GET, "/api/v1/auth/me").authenticated()
-                        .requestMatchers(HttpMethod.POST, "/api/v1/auth/logout").authenticated()
-
-                        // ===============================================
-                        // AUTO-CADASTRO (PERFIL PRÓPRIO)
-                        // ===============================================
-                        .requestMatchers(HttpMethod.GET, "/api/v1/auto-cadastro/meu-perfil").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/auto-cadastro/meu-perfil").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/auto-cadastro/meu-perfil/foto").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/auto-cadastro/meu-perfil/foto").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // ===============================================
-                        // ELEIÇÕES (ORDEM ESPECÍFICA → GERAL)
-                        // ===============================================
-
-                        //ESTATÍSTICAS (PRIMEIRO - MAIS ESPECÍFICO)
-                        .requestMatchers(HttpMethod.GET, "/api/v1/eleicoes/stats/**").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // CONSULTAS ESPECÍFICAS
-                        .requestMatchers(HttpMethod.GET, "/api/v1/eleicoes/ativa").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/eleicoes/abertas").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/eleicoes/encerradas").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/eleicoes/futuras").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/eleicoes/recentes").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/eleicoes/com-candidatos").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/eleicoes/buscar").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // VALIDAÇÕES E CONFIGURAÇÕES (ADMIN ONLY)
-                        .requestMatchers(HttpMethod.GET, "/api/v1/eleicoes/*/validacao").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/eleicoes/*/can-activate").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/eleicoes/*/configuracoes").hasRole("ADMINISTRADOR")
-
-                        // CONTROLE DE ESTADO (ADMIN ONLY)
-                        .requestMatchers(HttpMethod.POST, "/api/v1/eleicoes/*/ativar").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/eleicoes/*/desativar").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/eleicoes/*/encerrar").hasRole("ADMINISTRADOR")
-
-                        // CONSULTAS GERAIS
-                        .requestMatchers(HttpMethod.GET, "/api/v1/eleicoes/*/is-open").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/eleicoes/*/stats").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // CRUD BÁSICO
-                        .requestMatchers(HttpMethod.GET, "/api/v1/eleicoes/*").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/eleicoes").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/eleicoes").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/eleicoes/**").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/eleicoes/**").hasRole("ADMINISTRADOR")
-
-                        // ===============================================
-                        // CANDIDATOS (ORDEM ESPECÍFICA → GERAL)
-                        // ===============================================
-
-                        // ESTATÍSTICAS E RELATÓRIOS
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/stats/**").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // CONSULTAS ESPECÍFICAS
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/pendentes-aprovacao").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/eleicao/*/listagem").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/eleicao/*/listagem/paginada").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/eleicao/*/elegiveis").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/eleicao/*/sem-numero").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/eleicao/*").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/cargo/*/aprovados").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/cargo/*/eleicao/*/ranking").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/cargo/*").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/membro/*").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/numero/*/eleicao/*").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/search").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // VALIDAÇÕES
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/exists/**").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/*/can-delete").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/*/elegibilidade").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // APROVAÇÃO E CONTROLE (ADMIN ONLY)
-                        .requestMatchers(HttpMethod.POST, "/api/v1/candidatos/*/aprovar").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/candidatos/*/reprovar").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/candidatos/aprovar-lote").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/candidatos/*/ativar").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/candidatos/*/desativar").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/candidatos/*/numero").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/candidatos/*/cargo-pretendido").hasRole("ADMINISTRADOR")
-
-                        // GESTÃO DE FOTOS (ADMIN ONLY)
-                        .requestMatchers(HttpMethod.POST, "/api/v1/candidatos/*/foto-campanha").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/candidatos/*/foto-campanha").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/*/foto-campanha").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // BUSCA AVANÇADA
-                        .requestMatchers(HttpMethod.POST, "/api/v1/candidatos/filtros").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // CRUD BÁSICO
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/*/with-photo").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/candidatos/*").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/candidatos").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/candidatos/**").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/candidatos/**").hasRole("ADMINISTRADOR")
-
-                        // ===============================================
-                        // CARGOS
-                        // ===============================================
-
-                        // ESTATÍSTICAS
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/stats/**").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // CONSULTAS ESPECÍFICAS
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/ativos").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/ativos/page").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/inativos").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/disponiveis").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/search").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/basic-info").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/all").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // VALIDAÇÕES
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/exists/**").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/disponivel/**").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/*/can-delete").hasRole("ADMINISTRADOR")
-
-                        // CONTROLE DE ESTADO
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/cargos/*/ativar").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/cargos/*/desativar").hasRole("ADMINISTRADOR")
-
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/categoria/*/ordenados").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/categoria/*/ativos").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/categoria/*/disponiveis").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // CRUD BÁSICO
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/*").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/cargos").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/cargos/**").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/cargos/**").hasRole("ADMINISTRADOR")
-
-                        // Hierarquia específica
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/hierarquia/*/ativos").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/ministeriais").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/ministeriais/ativos").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/lideranca").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/administrativos").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // Operações específicas
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/incompletos").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/com-candidatos").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // Status avançado
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/cargos/*/ativar-para-eleicao").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/cargos/*/desativar-para-eleicao").hasRole("ADMINISTRADOR")
-
-                        // Precedência
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/cargos/*/alterar-ordem").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/categoria/*/proxima-ordem").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/cargos/categoria/*/reorganizar-ordens").hasRole("ADMINISTRADOR")
-
-                        // Elegibilidade
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/elegiveis-para/**").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/cargos/verificar-elegibilidade").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // Validações específicas
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/categoria/*/ordem/*/disponivel").hasRole("ADMINISTRADOR")
-
-                        // Relatórios
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/relatorios/**").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // Utilitários
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/categoria/*/basic-info").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/hierarquias-disponiveis").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/cargos/niveis-elegibilidade").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // Operações em lote
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/cargos/ativar-multiplos").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/cargos/desativar-multiplos").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/cargos/deletar-multiplos").hasRole("ADMINISTRADOR")
-
-
-                        // ===============================================
-                        // CATEGORIA
-                        // ===============================================
-
-                        //CONTROLLER
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/all").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/categorias/**").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/categorias/**").hasRole("ADMINISTRADOR")
-
-                        // Operações de status
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/categorias/*/ativar").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/categorias/*/desativar").hasRole("ADMINISTRADOR")
-
-                        // Consultas específicas
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/ativas").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/ativas/page").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/inativas").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/ordenadas").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/para-selecao").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/com-cargos").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/com-cargos-ativos").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/com-cargos-disponiveis").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/search").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // Operações de ordem
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/proxima-ordem").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/categorias/reorganizar-ordens").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/categorias/*/alterar-ordem").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/categorias/*/mover-para-cima").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/categorias/*/mover-para-baixo").hasRole("ADMINISTRADOR")
-
-                        // Validações
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/exists/nome").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/disponivel/nome").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/*/can-delete").hasRole("ADMINISTRADOR")
-
-                        // Estatísticas
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/stats/**").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // Relatórios
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/relatorios/**").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // Operações em lote
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/categorias/desativar-multiplas").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/categorias/deletar-multiplas").hasRole("ADMINISTRADOR")
-
-                        // Administrativas
-                        .requestMatchers(HttpMethod.POST, "/api/v1/categorias/admin/**").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categorias/admin/**").hasRole("ADMINISTRADOR")
-
-
-                        // ===============================================
-                        // MEMBROS (ORDEM ESPECÍFICA → GERAL)
-                        // ===============================================
-
-                        // ESTATÍSTICAS
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/stats/**").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // CONSULTAS ESPECÍFICAS
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/ativos").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/ativos/page").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/inativos").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/cargo/*").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/sem-cargo").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/elegiveis/*").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/aptos-votacao").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/podem-criar-usuario").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/listagem").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/basic-info").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/all").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // BUSCA
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/search/**").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/membros/filtros").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // VALIDAÇÕES
-                        .requestMatchers(HttpMethod.POST, "/api/v1/membros/validar").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/*/elegibilidade").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/disponivel/**").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/*/can-delete").hasRole("ADMINISTRADOR")
-
-                        // CONTROLE DE ESTADO
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/membros/*/ativar").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/membros/*/desativar").hasRole("ADMINISTRADOR")
-
-                        // GESTÃO DE CARGOS
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/membros/*/cargo").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/membros/*/cargo").hasRole("ADMINISTRADOR")
-
-                        // GESTÃO DE USUÁRIOS
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/membros/*/usuario/*").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/membros/*/usuario").hasRole("ADMINISTRADOR")
-
-                        // GESTÃO DE FOTOS
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/membros/*/foto").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/membros/*/foto").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/*/foto").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // PERFIL
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/*/profile").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/membros/*/profile").hasAnyRole("MEMBRO", "ADMINISTRADOR")
-
-                        // CRUD BÁSICO
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros/*").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/membros").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/membros").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/membros/**").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/membros/**").hasRole("ADMINISTRADOR")
-
-                        // ===============================================
-                        // VOTAÇÃO (ORDEM ESPECÍFICA → GERAL)
-                        // ===============================================
-
-                        // ESTATÍSTICAS E RELATÓRIOS
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/stats/**").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/eleicao/*/estatisticas").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/eleicao/*/estatisticas-detalhadas").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/eleicao/*/resultados").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/eleicao/*/cargo-pretendido/*/ranking").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/eleicao/*/progresso").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/cargo-pretendido/*/estatisticas").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // AUDITORIA E SEGURANÇA (ADMIN ONLY)
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/eleicao/*/auditoria").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/eleicao/*/seguranca").hasRole("ADMINISTRADOR")
-
-                        // CONSULTAS POR ENTIDADE
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/eleicao/*/paginados").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/eleicao/*/total").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/eleicao/*").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/cargo-pretendido/*/total").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/cargo-pretendido/*").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/candidato/*/total").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/candidato/*").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // CONSULTAS POR MEMBRO
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/membro/*/eleicao/*/ja-votou").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/membro/*/cargo-pretendido/*/eleicao/*/ja-votou").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/membro/*/elegivel").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/membro/*").hasAnyRole("ADMINISTRADOR", "MEMBRO")
-
-                        // VALIDAÇÕES
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/eleicao/*/disponivel").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/votos/validar").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // OPERAÇÃO PRINCIPAL
-                        .requestMatchers(HttpMethod.POST, "/api/v1/votos/votar").hasAnyRole("MEMBRO", "UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // BUSCA AVANÇADA
-                        .requestMatchers(HttpMethod.POST, "/api/v1/votos/buscar").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // ENDPOINTS DEPRECATED (COMPATIBILIDADE)
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/cargo/*/total").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/cargo/*").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-                        // Relatórios e estatísticas específicas
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/stats/validos").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/stats/branco").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.GET, "/api/v1/votos/stats/nulo").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-
-
-                        // ===============================================
-                        // USUÁRIOS (ADMIN ONLY)
-                        // ===============================================
-                        .requestMatchers(HttpMethod.GET, "/api/v1/users/**").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.POST, "/api/v1/users/**").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PUT, "/api/v1/users/**").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/users/**").hasRole("ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.PATCH, "/api/v1/users/**").hasRole("ADMINISTRADOR")
-
-                        // ===============================================
-                        // GESTÃO DE ARQUIVOS (ADMIN/UTILIZADOR_PRO)
-                        // ===============================================
-                        .requestMatchers(HttpMethod.POST, "/api/v1/upload/**").hasAnyRole("UTILIZADOR_PRO", "ADMINISTRADOR")
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/files/**").hasRole("ADMINISTRADOR")
-
-                        // ===============================================
-                        // QUALQUER OUTRA REQUISIÇÃO
-                        // ===============================================
-                        .anyRequest().authenticated()
+                        // Regras declaradas em RouteAuthorizationConfig
+                        .anyRequest().access(routeAuthorizationManager)
                 )
                 .authenticationProvider(authenticationProvider())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
                 .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.sameOrigin()))
                 .build();
     }
@@ -476,7 +95,8 @@ public class SecurityConfig {
                 "Accept-Ranges",
                 "Content-Range",
                 "Authorization",
-                "X-Total-Count"
+                "X-Total-Count",
+                "Retry-After"
         ));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,59 @@
+package com.br.ibetelvote.infrastructure.events;
+
+import com.br.ibetelvote.domain.entities.Candidato;
+import com.br.ibetelvote.domain.entities.Cargo;
+import com.br.ibetelvote.domain.entities.Categoria;
+import com.br.ibetelvote.domain.entities.Eleicao;
+import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.domain.entities.User;
+import com.br.ibetelvote.domain.events.EntidadeAlteradaEvent.Operacao;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Listener JPA das entidades acompanhadas pelo {@link EntidadeEventBus}. É registrado em
+ * {@code META-INF/orm.xml}, e não nas entidades, para que o domínio não dependa da infraestrutura.
+ * O Hibernate obtém a instância do contexto do Spring, por isso o barramento pode ser injetado.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntidadeChangeListener {
+
+    private final EntidadeEventBus eventBus;
+
+    @PostPersist
+    public void criada(Object entidade) {
+        registrar(entidade, Operacao.CRIADA);
+    }
+
+    @PostUpdate
+    public void alterada(Object entidade) {
+        registrar(entidade, Operacao.ALTERADA);
+    }
+
+    @PostRemove
+    public void removida(Object entidade) {
+        registrar(entidade, Operacao.REMOVIDA);
+    }
+
+    private void registrar(Object entidade, Operacao operacao) {
+        if (entidade instanceof Membro membro) {
+            eventBus.publicarAposCommit(Membro.class, membro.getId(), operacao);
+        } else if (entidade instanceof User user) {
+            eventBus.publicarAposCommit(User.class, user.getId(), operacao);
+        } else if (entidade instanceof Candidato candidato) {
+            eventBus.publicarAposCommit(Candidato.class, candidato.getId(), operacao);
+        } else if (entidade instanceof Cargo cargo) {
+            eventBus.publicarAposCommit(Cargo.class, cargo.getId(), operacao);
+        } else if (entidade instanceof Categoria categoria) {
+            eventBus.publicarAposCommit(Categoria.class, categoria.getId(), operacao);
+        } else if (entidade instanceof Eleicao eleicao) {
+            eventBus.publicarAposCommit(Eleicao.class, eleicao.getId(), operacao);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.br.ibetelvote.infrastructure.events;
+
+import com.br.ibetelvote.domain.events.EntidadeAlteradaEvent;
+import com.br.ibetelvote.domain.events.EntidadeAlteradaEvent.Operacao;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Barramento em processo das alterações de entidades confirmadas no banco.
+ *
+ * O {@link EntidadeChangeListener} registra as alterações durante a transação; após o commit elas
+ * entram aqui, uma por entidade. Cada id é sempre atendido pela mesma fila, com uma thread por
+ * fila, o que garante a ordem de entrega por entidade. Caches e índices assinam pelo tipo da
+ * entidade em vez de descartar regiões inteiras.
+ *
+ * As filas são limitadas: com a fila cheia, quem publica espera até {@code offer-timeout} e depois
+ * o evento é descartado e contado em {@code entidades.eventos.descartados}. Os assinantes devem
+ * tolerar isso (todos os caches têm expiração ou reconstrução periódica). Alterações feitas por
+ * JDBC direto, como a importação de membros, não passam pelo barramento.
+ */
+@Component
+@Slf4j
+public class EntidadeEventBus {
+
+    private final Map<Class<?>, List<Consumer<EntidadeAlteradaEvent>>> assinantes = new ConcurrentHashMap<>();
+    private final List<BlockingQueue<EntidadeAlteradaEvent>> filas = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final Duration offerTimeout;
+    private final MeterRegistry meterRegistry;
+    private final Counter descartados;
+    private final Counter falhas;
+    private final Timer entrega;
+
+    private record Chave(Class<?> tipo, UUID id) {
+    }
+
+    public EntidadeEventBus(
+            @Value("${app.events.entidades.workers:4}") int quantidadeWorkers,
+            @Value("${app.events.entidades.queue-capacity:10000}") int capacidade,
+            @Value("${app.events.entidades.offer-timeout:100ms}") Duration offerTimeout,
+            MeterRegistry meterRegistry) {
+        this.offerTimeout = offerTimeout;
+        this.meterRegistry = meterRegistry;
+
+        for (int i = 0; i < Math.max(1, quantidadeWorkers); i++) {
+            BlockingQueue<EntidadeAlteradaEvent> fila = new ArrayBlockingQueue<>(Math.max(1, capacidade));
+            filas.add(fila);
+            Gauge.builder("entidades.eventos.fila", fila, BlockingQueue::size)
+                    .description("Eventos de entidade aguardando entrega")
+                    .tag("fila", String.valueOf(i))
+                    .register(meterRegistry);
+
+            Thread worker = new Thread(() -> entregar(fila), "entidade-events-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+
+        this.descartados = Counter.builder("entidades.eventos.descartados")
+                .description("Eventos de entidade descartados com a fila cheia")
+                .register(meterRegistry);
+        this.falhas = Counter.builder("entidades.eventos.falhas")
+                .description("Assinantes que falharam ao tratar um evento de entidade")
+                .register(meterRegistry);
+        this.entrega = Timer.builder("entidades.eventos.entrega")
+                .description("Tempo de entrega de um evento de entidade a todos os assinantes")
+                .register(meterRegistry);
+    }
+
+    // === ASSINATURA ===
+
+    /**
+     * Recebe as alterações confirmadas das entidades do tipo informado. O assinante roda na thread
+     * da fila; deve ser rápido e não bloquear.
+     */
+    public void subscribe(Class<?> tipo, Consumer<EntidadeAlteradaEvent> assinante) {
+        assinantes.computeIfAbsent(tipo, t -> new CopyOnWriteArrayList<>()).add(assinante);
+    }
+
+    // === PUBLICAÇÃO ===
+
+    /**
+     * Registra uma alteração para publicação após o commit da transação corrente. Sem transação,
+     * publica na hora.
+     */
+    public void publicarAposCommit(Class<?> tipo, UUID id, Operacao operacao) {
+        if (id == null || !assinantes.containsKey(tipo)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publicar(new EntidadeAlteradaEvent(tipo, id, operacao));
+            return;
+        }
+
+        pendentes().merge(new Chave(tipo, id), operacao, Operacao::seguidaDe);
+    }
+
+    /**
+     * Alterações pendentes da transação corrente. Procurado entre as sincronizações ativas, e não
+     * como recurso, para que uma transação {@code REQUIRES_NEW} tenha as suas próprias.
+     */
+    private Map<Chave, Operacao> pendentes() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Pendentes pendentes) {
+                return pendentes.alteracoes;
+            }
+        }
+
+        Pendentes pendentes = new Pendentes();
+        TransactionSynchronizationManager.registerSynchronization(pendentes);
+        return pendentes.alteracoes;
+    }
+
+    private final class Pendentes implements TransactionSynchronization {
+
+        private final Map<Chave, Operacao> alteracoes = new LinkedHashMap<>();
+
+        @Override
+        public void afterCommit() {
+            alteracoes.forEach((chave, operacao) ->
+                    publicar(new EntidadeAlteradaEvent(chave.tipo(), chave.id(), operacao)));
+        }
+    }
+
+    private void publicar(EntidadeAlteradaEvent event) {
+        BlockingQueue<EntidadeAlteradaEvent> fila = filas.get(Math.floorMod(event.id().hashCode(), filas.size()));
+        boolean aceito;
+        try {
+            aceito = fila.offer(event, offerTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            aceito = false;
+        }
+
+        if (aceito) {
+            meterRegistry.counter("entidades.eventos.publicados", "tipo", event.tipo().getSimpleName()).increment();
+        } else {
+            descartados.increment();
+            log.warn("Fila de eventos cheia, alteração descartada: {} {}", event.tipo().getSimpleName(), event.id());
+        }
+    }
+
+    // === ENTREGA ===
+
+    private void entregar(BlockingQueue<EntidadeAlteradaEvent> fila) {
+        while (true) {
+            EntidadeAlteradaEvent event;
+            try {
+                event = fila.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            entrega.record(() -> {
+                for (Consumer<EntidadeAlteradaEvent> assinante : assinantes.getOrDefault(event.tipo(), List.of())) {
+                    try {
+                        assinante.accept(event);
+                    } catch (Exception e) {
+                        falhas.increment();
+                        log.warn("Falha ao tratar alteração de {} {}: {}",
+                                event.tipo().getSimpleName(), event.id(), e.getMessage());
+                    }
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.forEach(Thread::interrupt);
+    }
+}
@@ -0,0 +1,253 @@
+package com.br.ibetelvote.infrastructure.image;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Validação e decodificação de imagens enviadas pelos usuários.
+ *
+ * O tipo vem da assinatura do arquivo (magic bytes), não da extensão nem do cabeçalho HTTP, e as
+ * dimensões são lidas só do cabeçalho da imagem. Imagens acima de {@code max-pixels} são recusadas
+ * antes de qualquer decodificação, o que barra "bombas de descompressão" (arquivos pequenos que
+ * declaram dimensões enormes). Na decodificação, fontes maiores que o necessário são lidas com
+ * subamostragem, de modo que o raster alocado acompanha o tamanho de destino e não o da fonte.
+ */
+@Component
+@Slf4j
+public class ImageInspector {
+
+    private static final int HEADER_LENGTH = 12;
+    private static final int BYTES_PER_PIXEL = 4;
+    private static final Map<String, String> FORMAT_NAMES = Map.of(
+            "image/jpeg", "jpeg",
+            "image/png", "png",
+            "image/webp", "webp"
+    );
+
+    private final long maxPixels;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary decodedBytes;
+
+    public ImageInspector(UploadProperties uploadProperties, MeterRegistry meterRegistry) {
+        this.maxPixels = uploadProperties.getImage().getMaxPixels();
+        this.meterRegistry = meterRegistry;
+        this.decodedBytes = DistributionSummary.builder("files.image.decode.bytes")
+                .description("Memória estimada do raster de cada imagem decodificada")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tipo e dimensões de uma imagem validada.
+     */
+    public record ImageInfo(String contentType, int width, int height) {
+        public long pixels() {
+            return (long) width * height;
+        }
+    }
+
+    // === VALIDAÇÃO ===
+
+    public ImageInfo inspect(byte[] data) throws IOException {
+        return inspect(Arrays.copyOf(data, Math.min(data.length, HEADER_LENGTH)), new ByteArrayInputStream(data));
+    }
+
+    public ImageInfo inspect(InputStream source) throws IOException {
+        InputStream input = source.markSupported() ? source : new BufferedInputStream(source);
+        input.mark(HEADER_LENGTH);
+        byte[] header = input.readNBytes(HEADER_LENGTH);
+        input.reset();
+        return inspect(header, input);
+    }
+
+    public ImageInfo inspect(Path source) throws IOException {
+        byte[] header;
+        try (InputStream input = Files.newInputStream(source)) {
+            header = input.readNBytes(HEADER_LENGTH);
+        }
+        return inspect(header, source.toFile());
+    }
+
+    private ImageInfo inspect(byte[] header, Object input) throws IOException {
+        String contentType = detectContentType(header);
+        if (contentType == null) {
+            rejeitar("formato");
+            throw new IllegalArgumentException("Arquivo não é uma imagem JPEG, PNG ou WEBP válida");
+        }
+
+        try (ImageInputStream stream = ImageIO.createImageInputStream(input)) {
+            ImageReader reader = readerFor(contentType, stream);
+            try {
+                reader.setInput(stream, true, true);
+                ImageInfo info = new ImageInfo(contentType, reader.getWidth(0), reader.getHeight(0));
+                checkDimensions(info.width(), info.height());
+                return info;
+            } finally {
+                reader.dispose();
+            }
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            rejeitar("cabecalho");
+            throw new IllegalArgumentException("Imagem corrompida ou ilegível");
+        }
+    }
+
+    /**
+     * Tipo e dimensões de um conteúdo que já estava armazenado, sem as regras de upload: nada é
+     * recusado. O tipo vem da assinatura quando reconhecida, senão do leitor que entender o
+     * cabeçalho; {@code null} se nenhum entender. As dimensões ficam zeradas quando não puderem ser lidas.
+     */
+    public ImageInfo describe(byte[] data) {
+        String contentType = detectContentType(Arrays.copyOf(data, Math.min(data.length, HEADER_LENGTH)));
+        try (ImageInputStream stream = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = stream != null ? ImageIO.getImageReaders(stream) : null;
+            if (readers == null || !readers.hasNext()) {
+                return new ImageInfo(contentType, 0, 0);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                if (contentType == null && reader.getOriginatingProvider() != null) {
+                    String[] mimeTypes = reader.getOriginatingProvider().getMIMETypes();
+                    contentType = mimeTypes != null && mimeTypes.length > 0 ? mimeTypes[0] : null;
+                }
+                return new ImageInfo(contentType, reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Cabeçalho de imagem ilegível: {}", e.getMessage());
+            return new ImageInfo(contentType, 0, 0);
+        }
+    }
+
+    /**
+     * Tipo da imagem pela assinatura dos primeiros bytes; {@code null} se não for JPEG, PNG ou WEBP.
+     */
+    public static String detectContentType(byte[] header) {
+        if (header.length >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return "image/jpeg";
+        }
+        if (header.length >= 8 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G'
+                && header[4] == 0x0D && header[5] == 0x0A && header[6] == 0x1A && header[7] == 0x0A) {
+            return "image/png";
+        }
+        if (header.length >= 12 && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return "image/webp";
+        }
+        return null;
+    }
+
+    // === DECODIFICAÇÃO ===
+
+    /**
+     * Decodifica a imagem para ser reduzida a {@code targetWidth} x {@code targetHeight}.
+     * A subamostragem mantém pelo menos o dobro do destino, para a redução final ainda ter qualidade.
+     */
+    public BufferedImage decode(Path source, int targetWidth, int targetHeight) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(source.toFile())) {
+            if (stream == null) {
+                throw new IOException("Não foi possível abrir a imagem: " + source);
+            }
+            return decode(stream, targetWidth, targetHeight);
+        }
+    }
+
+    public BufferedImage decode(InputStream source, int targetWidth, int targetHeight) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(source)) {
+            if (stream == null) {
+                throw new IOException("Não foi possível abrir a imagem");
+            }
+            return decode(stream, targetWidth, targetHeight);
+        }
+    }
+
+    private BufferedImage decode(ImageInputStream stream, int targetWidth, int targetHeight) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+        if (!readers.hasNext()) {
+            return null;
+        }
+
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(stream, true, true);
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+            // Arquivos antigos no armazenamento nunca passaram pela validação
+            checkDimensions(width, height);
+
+            ImageReadParam param = reader.getDefaultReadParam();
+            int subsampling = subsampling(width, height, targetWidth, targetHeight);
+            if (subsampling > 1) {
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+            }
+
+            BufferedImage image = reader.read(0, param);
+            decodedBytes.record((double) image.getWidth() * image.getHeight() * BYTES_PER_PIXEL);
+            log.debug("Imagem {}x{} decodificada como {}x{} (subamostragem {})",
+                    width, height, image.getWidth(), image.getHeight(), subsampling);
+            return image;
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    private static int subsampling(int width, int height, int targetWidth, int targetHeight) {
+        if (targetWidth <= 0 || targetHeight <= 0) {
+            return 1;
+        }
+        int factor = Math.min(width / targetWidth, height / targetHeight) / 2;
+        return Math.max(1, factor);
+    }
+
+    private void checkDimensions(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            rejeitar("dimensoes");
+            throw new IllegalArgumentException("Imagem com dimensões inválidas");
+        }
+        if ((long) width * height > maxPixels) {
+            rejeitar("dimensoes");
+            throw new IllegalArgumentException(String.format(
+                    "Imagem muito grande (%dx%d). Máximo permitido: %d megapixels", width, height, maxPixels / 1_000_000));
+        }
+    }
+
+    private static ImageReader readerFor(String contentType, ImageInputStream stream) throws IOException {
+        if (stream == null) {
+            throw new IOException("Não foi possível abrir a imagem");
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName(FORMAT_NAMES.get(contentType));
+        if (!readers.hasNext()) {
+            throw new IOException("Sem leitor para " + contentType);
+        }
+        return readers.next();
+    }
+
+    private void rejeitar(String motivo) {
+        Counter.builder("files.image.rejected")
+                .description("Imagens recusadas na validação")
+                .tag("motivo", motivo)
+                .register(meterRegistry)
+                .increment();
+    }
+}
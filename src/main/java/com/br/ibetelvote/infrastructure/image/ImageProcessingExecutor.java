@@ -0,0 +1,73 @@
+package com.br.ibetelvote.infrastructure.image;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor dedicado ao processamento de imagens (uploads e geração de variantes).
+ *
+ * O número de threads é limitado pela configuração e pela quantidade de processadores, e a fila
+ * tem capacidade fixa: quando ela enche, {@link #execute(Runnable)} rejeita a tarefa em vez de
+ * acumular imagens decodificadas na memória. Cabe a quem submete decidir o que fazer (recusar o
+ * upload, adiar a geração).
+ */
+@Component
+@Slf4j
+public class ImageProcessingExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public ImageProcessingExecutor(UploadProperties uploadProperties, MeterRegistry meterRegistry) {
+        UploadProperties.Image config = uploadProperties.getImage();
+        int threads = Math.max(1, Math.min(config.getProcessingThreads(), Runtime.getRuntime().availableProcessors()));
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getProcessingQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-processing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "imageProcessingExecutor");
+        log.info("Executor de imagens: {} threads, fila de {}", threads, config.getProcessingQueueCapacity());
+    }
+
+    /**
+     * Submete a tarefa. Lança {@link RejectedExecutionException} se a fila estiver cheia.
+     */
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.br.ibetelvote.infrastructure.image;
+
+import com.br.ibetelvote.application.shared.dto.FileMetadata;
+import com.br.ibetelvote.infrastructure.service.FileMetadataIndex;
+import com.br.ibetelvote.infrastructure.storage.ObjectStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.apache.commons.io.FilenameUtils;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Gera as variantes redimensionadas de cada imagem (ex.: thumbnail, card, full) em cada formato
+ * configurado, ao lado do arquivo original: {@code ab/cd/<sha256>.jpg} produz
+ * {@code ab/cd/<sha256>@card.webp}, {@code ab/cd/<sha256>@card.jpg} e assim por diante.
+ *
+ * A geração roda no {@link ImageProcessingExecutor}, com threads e fila limitadas. Se a fila estiver cheia
+ * a imagem fica sem variantes por enquanto: quem serve o arquivo cai para o original e pede a
+ * geração de novo na próxima leitura.
+ *
+ * Variantes de imagens endereçadas por conteúdo são registradas no {@link FileMetadataIndex} e, com um
+ * backend compartilhado, enviadas ao {@link ObjectStorage} para que os outros nós não as gerem de novo.
+ */
+@Component
+@Slf4j
+public class ImageVariantGenerator {
+
+    public static final String ORIGINAL = "original";
+
+    private static final String VARIANT_SEPARATOR = "@";
+    private static final Map<String, String> FORMAT_EXTENSIONS = Map.of(
+            "webp", "webp",
+            "jpeg", "jpg"
+    );
+
+    private final UploadProperties.Image config;
+    private final List<String> formats;
+    private final ImageProcessingExecutor executor;
+    private final ImageInspector imageInspector;
+    private final FileMetadataIndex fileMetadataIndex;
+    private final ObjectStorage objectStorage;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final Timer generationTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public ImageVariantGenerator(UploadProperties uploadProperties,
+                                 ImageProcessingExecutor executor,
+                                 ImageInspector imageInspector,
+                                 FileMetadataIndex fileMetadataIndex,
+                                 ObjectStorage objectStorage,
+                                 MeterRegistry meterRegistry) {
+        this.config = uploadProperties.getImage();
+        this.formats = resolveFormats(config.getFormats());
+        this.executor = executor;
+        this.imageInspector = imageInspector;
+        this.fileMetadataIndex = fileMetadataIndex;
+        this.objectStorage = objectStorage;
+
+        this.generationTimer = Timer.builder("files.image.variants.generation")
+                .description("Tempo para gerar todas as variantes de uma imagem")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("files.image.variants.rejected")
+                .description("Gerações de variantes descartadas por fila cheia")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("files.image.variants.failed")
+                .description("Gerações de variantes que falharam")
+                .register(meterRegistry);
+
+        log.info("Variantes de imagem: {} nos formatos {}", config.getVariants().keySet(), formats);
+    }
+
+    // === NOMES ===
+
+    public boolean hasVariant(String variant) {
+        return config.getVariants().containsKey(variant);
+    }
+
+    public boolean supportsFormat(String format) {
+        return formats.contains(format);
+    }
+
+    public static boolean isVariantKey(String key) {
+        return FilenameUtils.getName(key).contains(VARIANT_SEPARATOR);
+    }
+
+    /**
+     * Chave da variante de uma imagem: {@code dir/<nome>.png} + card + webp = {@code dir/<nome>@card.webp}.
+     */
+    public String variantKey(String key, String variant, String format) {
+        return FilenameUtils.removeExtension(key) + VARIANT_SEPARATOR + variant + "." + FORMAT_EXTENSIONS.get(format);
+    }
+
+    /**
+     * Todas as chaves de variantes possíveis da imagem, geradas ou não.
+     */
+    public List<String> variantKeys(String key) {
+        List<String> keys = new ArrayList<>();
+        for (String variant : config.getVariants().keySet()) {
+            for (String format : FORMAT_EXTENSIONS.keySet()) {
+                keys.add(variantKey(key, variant, format));
+            }
+        }
+        return keys;
+    }
+
+    // === GERAÇÃO ===
+
+    /**
+     * Agenda a geração das variantes da imagem. Pedidos repetidos para a mesma chave enquanto a
+     * geração anterior não terminou são ignorados.
+     */
+    public void generateAsync(String key, Path original) {
+        if (!pending.add(key)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(key, original);
+                } finally {
+                    pending.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(key);
+            rejectedCounter.increment();
+            log.warn("Fila de processamento de imagens cheia; variantes de {} ficam para depois", key);
+        }
+    }
+
+    /**
+     * Gera as variantes na thread atual e devolve os nomes das variantes gravadas.
+     * Conteúdo repetido cai na mesma chave: se todas as variantes já existem, nada é refeito.
+     */
+    public Set<String> generate(String key, Path original) {
+        if (!formats.isEmpty() && allVariantsExist(key, original)) {
+            return config.getVariants().keySet();
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            // Decodifica só o necessário para a maior variante
+            UploadProperties.Size largest = largestVariant();
+            BufferedImage source = imageInspector.decode(original, largest.getWidth(), largest.getHeight());
+            if (source == null) {
+                log.warn("Formato de imagem não suportado para gerar variantes: {}", key);
+                return Set.of();
+            }
+
+            for (Map.Entry<String, UploadProperties.Size> entry : config.getVariants().entrySet()) {
+                BufferedImage scaled = scale(source, entry.getValue());
+                for (String format : formats) {
+                    String variantKey = variantKey(key, entry.getKey(), format);
+                    Path target = original.resolveSibling(FilenameUtils.getName(variantKey));
+                    write(scaled, format, target, original);
+                    index(key, variantKey, format, target, scaled);
+                }
+            }
+
+            log.debug("Variantes geradas para {}", key);
+            return formats.isEmpty() ? Set.of() : config.getVariants().keySet();
+        } catch (NoSuchFileException e) {
+            // Imagem removida antes de a geração começar
+            log.debug("Imagem removida antes da geração de variantes: {}", key);
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("Erro ao gerar variantes de {}: {}", key, e.getMessage());
+        } finally {
+            sample.stop(generationTimer);
+        }
+        return Set.of();
+    }
+
+    /**
+     * Para imagens endereçadas por conteúdo a consulta é feita no índice, sem ir ao disco.
+     */
+    private boolean allVariantsExist(String key, Path original) {
+        boolean indexed = FileMetadataIndex.isContentAddressed(key);
+        for (String variant : config.getVariants().keySet()) {
+            for (String format : formats) {
+                String variantKey = variantKey(key, variant, format);
+                boolean exists = indexed
+                        ? fileMetadataIndex.find(variantKey).isPresent()
+                        : Files.exists(original.resolveSibling(FilenameUtils.getName(variantKey)));
+                if (!exists) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void index(String key, String variantKey, String format, Path target, BufferedImage image)
+            throws IOException {
+        if (FileMetadataIndex.isContentAddressed(key)) {
+            if (objectStorage.isShared()) {
+                objectStorage.put(variantKey, target, "image/" + format);
+            }
+            fileMetadataIndex.register(new FileMetadata(variantKey, null, "image/" + format, Files.size(target),
+                    image.getWidth(), image.getHeight(), key, 0));
+        }
+    }
+
+    private UploadProperties.Size largestVariant() {
+        UploadProperties.Size largest = new UploadProperties.Size();
+        for (UploadProperties.Size size : config.getVariants().values()) {
+            largest.setWidth(Math.max(largest.getWidth(), size.getWidth()));
+            largest.setHeight(Math.max(largest.getHeight(), size.getHeight()));
+        }
+        return largest;
+    }
+
+    /**
+     * Reduz a imagem para caber no tamanho da variante, sem ampliar imagens menores.
+     */
+    private BufferedImage scale(BufferedImage source, UploadProperties.Size size) throws IOException {
+        if (source.getWidth() <= size.getWidth() && source.getHeight() <= size.getHeight()) {
+            return source;
+        }
+        return Thumbnails.of(source)
+                .size(size.getWidth(), size.getHeight())
+                .keepAspectRatio(true)
+                .asBufferedImage();
+    }
+
+    /**
+     * Grava em arquivo temporário e move para o nome final, para que uma leitura concorrente
+     * nunca encontre a variante pela metade.
+     */
+    private void write(BufferedImage image, String format, Path target, Path original) throws IOException {
+        if (!Files.exists(original)) {
+            // O original foi removido: não deixa variantes órfãs para trás
+            throw new NoSuchFileException(target.toString());
+        }
+
+        BufferedImage output = "jpeg".equals(format) ? withoutAlpha(image) : image;
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        Path temp = Files.createTempFile(target.getParent(), ".variant-", ".tmp");
+
+        try {
+            try (ImageOutputStream stream = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(stream);
+                writer.write(null, new IIOImage(output, null, null), writeParam(writer));
+            } finally {
+                writer.dispose();
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private ImageWriteParam writeParam(ImageWriter writer) {
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (param.canWriteCompressed()) {
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            String[] types = param.getCompressionTypes();
+            if (types != null && types.length > 0) {
+                // WEBP oferece "Lossy" e "Lossless"; o primeiro é o com perdas
+                param.setCompressionType(Arrays.asList(types).contains("Lossy") ? "Lossy" : types[0]);
+            }
+            param.setCompressionQuality(config.getQuality());
+        }
+        return param;
+    }
+
+    /**
+     * JPEG não tem canal alfa: áreas transparentes (PNG/WEBP) ficam brancas.
+     */
+    private BufferedImage withoutAlpha(BufferedImage image) {
+        if (!image.getColorModel().hasAlpha()) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    private static List<String> resolveFormats(List<String> configured) {
+        List<String> available = new ArrayList<>();
+        for (String format : configured) {
+            String normalized = format.toLowerCase();
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(normalized);
+            if (FORMAT_EXTENSIONS.containsKey(normalized) && writers.hasNext()) {
+                available.add(normalized);
+            } else {
+                log.warn("Formato de variante sem suporte neste ambiente, ignorado: {}", format);
+            }
+        }
+        return available;
+    }
+}
@@ -0,0 +1,83 @@
+package com.br.ibetelvote.infrastructure.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuração de upload e processamento de imagens ({@code app.upload.*}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.upload")
+public class UploadProperties {
+
+    /**
+     * Diretório raiz dos arquivos enviados.
+     */
+    private String path = "./uploads";
+
+    private DataSize maxFileSize = DataSize.ofMegabytes(5);
+
+    private List<String> allowedExtensions = List.of("jpg", "jpeg", "png", "webp");
+
+    private Image image = new Image();
+
+    @Getter
+    @Setter
+    public static class Image {
+
+        /**
+         * Limite das imagens gravadas por {@code storeFile}.
+         */
+        private int maxWidth = 800;
+        private int maxHeight = 600;
+
+        /**
+         * Qualidade de compressão (0 a 1) das imagens e variantes geradas.
+         */
+        private float quality = 0.85f;
+
+        /**
+         * Total de pixels (largura x altura) aceito em uma imagem enviada, verificado pelo cabeçalho
+         * antes de decodificar.
+         */
+        private long maxPixels = 50_000_000;
+
+        /**
+         * Formatos de cada variante, em ordem de preferência. WEBP só é servido a clientes que o aceitam.
+         */
+        private List<String> formats = List.of("webp", "jpeg");
+
+        /**
+         * Variantes geradas para cada imagem, pelo nome usado no parâmetro {@code size}.
+         */
+        private Map<String, Size> variants = new LinkedHashMap<>(Map.of(
+                "thumbnail", new Size(160, 160),
+                "card", new Size(480, 480),
+                "full", new Size(800, 600)
+        ));
+
+        /**
+         * Threads e fila do executor que gera as variantes em segundo plano.
+         */
+        private int processingThreads = 2;
+        private int processingQueueCapacity = 100;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Size {
+        private int width;
+        private int height;
+    }
+}
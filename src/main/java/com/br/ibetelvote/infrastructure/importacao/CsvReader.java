@@ -0,0 +1,155 @@
+package com.br.ibetelvote.infrastructure.importacao;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV que percorre o arquivo registro a registro, sem carregá-lo inteiro na memória.
+ *
+ * Segue a RFC 4180: campos entre aspas podem conter o separador, quebras de linha e aspas
+ * duplicadas ({@code ""}). O separador é detectado na primeira linha entre {@code ;} (padrão das
+ * planilhas em português), {@code ,} e tabulação. O BOM do UTF-8 é ignorado e linhas em branco
+ * são puladas.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int MAX_HEADER_LENGTH = 64 * 1024;
+    private static final int MAX_FIELD_LENGTH = 10_000;
+    private static final int MAX_FIELDS = 200;
+    private static final char[] DELIMITERS = {';', ',', '\t'};
+
+    private final BufferedReader reader;
+    private final char delimiter;
+    private long linhaAtual = 1;
+    private long linhaDoRegistro;
+
+    public CsvReader(InputStream input) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        skipBom();
+        this.delimiter = detectDelimiter();
+    }
+
+    /**
+     * Próximo registro, ou {@code null} no fim do arquivo.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = reader.read();
+        while (c == '\r' || c == '\n') {
+            consumeLineBreak(c);
+            c = reader.read();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        linhaDoRegistro = linhaAtual;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Aspas não fechadas no registro da linha " + linhaDoRegistro);
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    linhaAtual++;
+                }
+                append(field, c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == delimiter) {
+                addField(fields, field);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                addField(fields, field);
+                consumeLineBreak(c);
+                return fields;
+            } else {
+                append(field, c);
+            }
+            c = reader.read();
+        }
+    }
+
+    /**
+     * Linha do arquivo (a partir de 1) em que começa o último registro lido.
+     */
+    public long getLineNumber() {
+        return linhaDoRegistro;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void append(StringBuilder field, int c) {
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            throw new IllegalArgumentException("Campo muito longo no registro da linha " + linhaDoRegistro);
+        }
+        field.append((char) c);
+    }
+
+    private void addField(List<String> fields, StringBuilder field) {
+        if (fields.size() >= MAX_FIELDS) {
+            throw new IllegalArgumentException("Colunas demais no registro da linha " + linhaDoRegistro);
+        }
+        fields.add(field.toString());
+        field.setLength(0);
+    }
+
+    private void consumeLineBreak(int c) throws IOException {
+        if (c == '\r') {
+            reader.mark(1);
+            if (reader.read() != '\n') {
+                reader.reset();
+            }
+        }
+        if (c == '\r' || c == '\n') {
+            linhaAtual++;
+        }
+    }
+
+    private void skipBom() throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    private char detectDelimiter() throws IOException {
+        reader.mark(MAX_HEADER_LENGTH);
+        int[] counts = new int[DELIMITERS.length];
+        int c;
+        int lidos = 0;
+        while ((c = reader.read()) != -1 && c != '\n' && c != '\r' && ++lidos < MAX_HEADER_LENGTH) {
+            for (int i = 0; i < DELIMITERS.length; i++) {
+                if (c == DELIMITERS[i]) {
+                    counts[i]++;
+                }
+            }
+        }
+        reader.reset();
+
+        int melhor = 0;
+        for (int i = 1; i < DELIMITERS.length; i++) {
+            if (counts[i] > counts[melhor]) {
+                melhor = i;
+            }
+        }
+        return DELIMITERS[melhor];
+    }
+}
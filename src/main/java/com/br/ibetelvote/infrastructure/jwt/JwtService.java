@@ -2,6 +2,7 @@ package com.br.ibetelvote.infrastructure.jwt;
 
 import com.br.ibetelvote.application.auth.dto.JwtClaimsResponse;
 import com.br.ibetelvote.domain.entities.User;
+import com.br.ibetelvote.domain.entities.enums.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +36,10 @@ public class JwtService {
     }
 
     public String generateAccessToken(User user) {
+        return generateAccessToken(user.getId(), user.getEmail(), user.getNome(), user.getRole(), user.getAtivo());
+    }
+
+    public String generateAccessToken(UUID userId, String email, String nome, UserRole role, Boolean ativo) {
         Instant now = Instant.now();
         Instant expiration = now.plus(accessTokenExpirationMinutes, ChronoUnit.MINUTES);
 
@@ -42,32 +47,35 @@ public class JwtService {
                 .header()
                 .type("JWT")
                 .and()
-                .subject(user.getId().toString())
+                .subject(userId.toString())
                 .issuer(issuer)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiration))
-                .claim("email", user.getEmail())
-                .claim("nome", user.getNome())
-                .claim("role", user.getRole().name())
-                .claim("ativo", user.getAtivo())
+                .claim("email", email)
+                .claim("nome", nome)
+                .claim("role", role.name())
+                .claim("ativo", ativo)
                 .claim("type", "access")
                 .signWith(secretKey, Jwts.SIG.HS512)
                 .compact();
     }
 
-    public String generateRefreshToken(User user) {
-        Instant now = Instant.now();
-        Instant expiration = now.plus(refreshTokenExpirationDays, ChronoUnit.DAYS);
-
+    /**
+     * Gera um refresh token já registrado no {@link RefreshTokenStore}.
+     * O {@code jti} identifica o token e a claim {@code fam} a família de rotação.
+     */
+    public String generateRefreshToken(UUID userId, String email, UUID tokenId, UUID familyId, Instant expiration) {
         return Jwts.builder()
                 .header()
                 .type("JWT")
                 .and()
-                .subject(user.getId().toString())
+                .id(tokenId.toString())
+                .subject(userId.toString())
                 .issuer(issuer)
-                .issuedAt(Date.from(now))
+                .issuedAt(Date.from(Instant.now()))
                 .expiration(Date.from(expiration))
-                .claim("email", user.getEmail())
+                .claim("email", email)
+                .claim("fam", familyId.toString())
                 .claim("type", "refresh")
                 .signWith(secretKey, Jwts.SIG.HS512)
                 .compact();
@@ -125,14 +133,19 @@ public class JwtService {
                     .parseSignedClaims(token)
                     .getPayload();
 
+            // Refresh tokens não carregam role/nome/ativo
+            String role = claims.get("role", String.class);
+            String familyId = claims.get("fam", String.class);
+
             return JwtClaimsResponse.builder()
                     .userId(UUID.fromString(claims.getSubject()))
                     .email(claims.get("email", String.class))
                     .nome(claims.get("nome", String.class))
-                    .role(com.br.ibetelvote.domain.entities.enums.UserRole.valueOf(
-                            claims.get("role", String.class)
-                    ))
+                    .role(role != null ? UserRole.valueOf(role) : null)
                     .ativo(claims.get("ativo", Boolean.class))
+                    .type(claims.get("type", String.class))
+                    .tokenId(claims.getId() != null ? UUID.fromString(claims.getId()) : null)
+                    .familyId(familyId != null ? UUID.fromString(familyId) : null)
                     .build();
         } catch (Exception e) {
             log.error("Erro ao extrair claims do token: {}", e.getMessage());
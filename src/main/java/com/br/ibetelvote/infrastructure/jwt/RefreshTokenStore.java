@@ -0,0 +1,230 @@
+package com.br.ibetelvote.infrastructure.jwt;
+
+import com.br.ibetelvote.domain.entities.RefreshToken;
+import com.br.ibetelvote.infrastructure.repositories.RefreshTokenJpaRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Controle de rotação dos refresh tokens.
+ *
+ * Os tokens emitidos ficam em um índice em memória por {@code jti}, carregado da tabela
+ * {@code refresh_tokens} na inicialização. A verificação de um refresh é uma consulta O(1)
+ * no índice mais um compare-and-set; a tabela só é lida quando o token não está no índice
+ * (por exemplo, emitido por outra instância).
+ *
+ * Cada refresh consome o token atual e emite outro na mesma família. Apresentar novamente
+ * um token já consumido indica vazamento, e a família inteira é revogada.
+ *
+ * O estado em memória acompanha a transação do refresh: se ela for desfeita, o token consumido
+ * volta a ficar disponível e o token emitido sai do índice, como acontece com as linhas da tabela.
+ */
+@Component
+@Slf4j
+public class RefreshTokenStore {
+
+    private final RefreshTokenJpaRepository refreshTokenRepository;
+    private final JwtService jwtService;
+    private final TransactionTemplate requiresNewTransaction;
+
+    private final ConcurrentHashMap<UUID, Entry> tokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Instant> revokedFamilies = new ConcurrentHashMap<>();
+
+    public RefreshTokenStore(RefreshTokenJpaRepository refreshTokenRepository,
+                             JwtService jwtService,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtService = jwtService;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("auth.refresh.tokens", tokens, ConcurrentHashMap::size)
+                .description("Refresh tokens mantidos no índice em memória")
+                .register(meterRegistry);
+    }
+
+    // === EMISSÃO ===
+
+    /**
+     * Emite o primeiro refresh token de uma nova família (login).
+     */
+    public String issue(UUID userId, String email) {
+        return issue(userId, email, UUID.randomUUID());
+    }
+
+    /**
+     * Emite um refresh token na família informada e o registra no índice e na tabela.
+     */
+    public String issue(UUID userId, String email, UUID familyId) {
+        UUID tokenId = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plus(jwtService.getRefreshTokenExpirationDays(), ChronoUnit.DAYS);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .id(tokenId)
+                .familyId(familyId)
+                .userId(userId)
+                .expiresAt(toLocalDateTime(expiresAt))
+                .revoked(false)
+                .build());
+
+        tokens.put(tokenId, new Entry(familyId, userId, expiresAt, false));
+        onRollback(() -> tokens.remove(tokenId));
+        return jwtService.generateRefreshToken(userId, email, tokenId, familyId, expiresAt);
+    }
+
+    // === ROTAÇÃO ===
+
+    /**
+     * Consome o refresh token. Deve ser chamado dentro da transação do refresh.
+     *
+     * @return a família do token, para emissão do próximo token
+     * @throws IllegalArgumentException se o token for desconhecido, expirado, revogado ou reutilizado
+     */
+    public UUID consume(UUID tokenId, UUID familyId, UUID userId) {
+        if (tokenId == null || familyId == null || userId == null) {
+            throw new IllegalArgumentException("Refresh token inválido ou expirado");
+        }
+
+        Instant now = Instant.now();
+        Entry entry = tokens.get(tokenId);
+        if (entry == null) {
+            entry = loadFromDatabase(tokenId);
+        }
+
+        if (entry == null || !entry.familyId.equals(familyId) || !entry.userId.equals(userId)
+                || entry.expiresAt.isBefore(now) || revokedFamilies.containsKey(familyId)) {
+            throw new IllegalArgumentException("Refresh token inválido ou expirado");
+        }
+
+        // Apenas uma requisição consegue consumir o token; as demais são reutilização
+        if (!entry.used.compareAndSet(false, true)
+                || refreshTokenRepository.markUsed(tokenId, toLocalDateTime(now)) == 0) {
+            entry.used.set(true);
+            revokeFamily(familyId, entry.expiresAt);
+            log.warn("Reutilização de refresh token detectada - usuário: {}, família: {}", userId, familyId);
+            throw new IllegalArgumentException("Refresh token já utilizado. Sessão revogada por segurança");
+        }
+
+        // O markUsed da tabela é desfeito junto com a transação; o índice precisa acompanhar
+        Entry consumed = entry;
+        onRollback(() -> consumed.used.set(false));
+        return familyId;
+    }
+
+    // === REVOGAÇÃO ===
+
+    /**
+     * Revoga todas as famílias de refresh token do usuário (logout).
+     */
+    public void revokeAllForUser(UUID userId) {
+        tokens.forEach((tokenId, entry) -> {
+            if (entry.userId.equals(userId)) {
+                revokedFamilies.merge(entry.familyId, entry.expiresAt, (a, b) -> a.isAfter(b) ? a : b);
+            }
+        });
+        requiresNewTransaction.executeWithoutResult(status -> refreshTokenRepository.revokeByUserId(userId));
+        log.debug("Refresh tokens revogados para usuário: {}", userId);
+    }
+
+    private void revokeFamily(UUID familyId, Instant expiresAt) {
+        revokedFamilies.merge(familyId, expiresAt, (a, b) -> a.isAfter(b) ? a : b);
+        // Transação própria: a transação do refresh será desfeita pela exceção
+        requiresNewTransaction.executeWithoutResult(status -> refreshTokenRepository.revokeFamily(familyId));
+    }
+
+    // === CARGA E LIMPEZA ===
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<RefreshToken> ativos = refreshTokenRepository.findByRevokedFalseAndExpiresAtAfter(LocalDateTime.now());
+        for (RefreshToken token : ativos) {
+            tokens.put(token.getId(), Entry.of(token));
+        }
+        log.info("Índice de refresh tokens carregado: {} tokens ativos", ativos.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.jwt.refresh-token-purge-interval:3600000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        tokens.values().removeIf(entry -> entry.expiresAt.isBefore(now));
+        revokedFamilies.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+
+        Integer removidos = requiresNewTransaction.execute(status ->
+                refreshTokenRepository.deleteExpired(toLocalDateTime(now)));
+        if (removidos != null && removidos > 0) {
+            log.info("Refresh tokens expirados removidos: {}", removidos);
+        }
+    }
+
+    private Entry loadFromDatabase(UUID tokenId) {
+        return refreshTokenRepository.findById(tokenId)
+                .map(token -> {
+                    if (Boolean.TRUE.equals(token.getRevoked())) {
+                        revokedFamilies.put(token.getFamilyId(), toInstant(token.getExpiresAt()));
+                    }
+                    Entry entry = Entry.of(token);
+                    Entry existing = tokens.putIfAbsent(tokenId, entry);
+                    return existing != null ? existing : entry;
+                })
+                .orElse(null);
+    }
+
+    private static void onRollback(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private static final class Entry {
+        private final UUID familyId;
+        private final UUID userId;
+        private final Instant expiresAt;
+        private final AtomicBoolean used;
+
+        private Entry(UUID familyId, UUID userId, Instant expiresAt, boolean used) {
+            this.familyId = familyId;
+            this.userId = userId;
+            this.expiresAt = expiresAt;
+            this.used = new AtomicBoolean(used);
+        }
+
+        private static Entry of(RefreshToken token) {
+            return new Entry(token.getFamilyId(), token.getUserId(), toInstant(token.getExpiresAt()), token.isUsed());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.br.ibetelvote.infrastructure.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuração do rate limiting por rota ({@code app.security.rate-limit.*}).
+ *
+ * Cada regra associa um padrão de rota (sintaxe {@code PathPattern}) e, opcionalmente,
+ * um método HTTP a um token bucket. A primeira regra que casar com a requisição é aplicada.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.security.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Número de partições do mapa de buckets (potência de 2).
+     */
+    private int shards = 16;
+
+    /**
+     * Tempo sem acesso após o qual um bucket é descartado.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String name;
+        private String method;
+        private String pattern;
+        private long capacity = 10;
+        private long refillTokens = 10;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+        private KeyType key = KeyType.IP;
+    }
+
+    public enum KeyType {
+        /** Chave pelo IP do cliente. */
+        IP,
+        /** Chave pelo usuário do token JWT (IP quando não houver token). */
+        USER
+    }
+}
@@ -0,0 +1,107 @@
+package com.br.ibetelvote.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Armazena os token buckets por regra e por cliente.
+ *
+ * Os buckets ficam em um conjunto de mapas concorrentes particionados pelo hash da chave,
+ * o que mantém as varreduras de expiração curtas e reduz a contenção no redimensionamento.
+ * Buckets sem acesso por mais de {@code idle-timeout} são removidos periodicamente.
+ */
+@Component
+@Slf4j
+public class RateLimiterRegistry {
+
+    private final ConcurrentHashMap<String, TokenBucket>[] shards;
+    private final int shardMask;
+    private final long idleTimeoutNanos;
+    private final Map<String, Counter> allowedCounters = new HashMap<>();
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public RateLimiterRegistry(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        int shardCount = Integer.highestOneBit(Math.max(1, properties.getShards()));
+        this.shards = new ConcurrentHashMap[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+        this.shardMask = shardCount - 1;
+        this.idleTimeoutNanos = properties.getIdleTimeout().toNanos();
+
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            allowedCounters.put(rule.getName(), Counter.builder("ratelimit.requests")
+                    .description("Requisições avaliadas pelo rate limiter")
+                    .tag("rule", rule.getName())
+                    .tag("outcome", "allowed")
+                    .register(meterRegistry));
+            rejectedCounters.put(rule.getName(), Counter.builder("ratelimit.requests")
+                    .description("Requisições avaliadas pelo rate limiter")
+                    .tag("rule", rule.getName())
+                    .tag("outcome", "rejected")
+                    .register(meterRegistry));
+        }
+
+        Gauge.builder("ratelimit.buckets", this, RateLimiterRegistry::size)
+                .description("Quantidade de buckets ativos")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consome um token do bucket do cliente para a regra informada.
+     *
+     * @return 0 se a requisição foi permitida, ou o tempo em nanossegundos até haver token disponível
+     */
+    public long tryConsume(RateLimitProperties.Rule rule, String clientKey) {
+        long now = System.nanoTime();
+        String key = rule.getName() + '|' + clientKey;
+
+        TokenBucket bucket = shardFor(key).computeIfAbsent(key, k -> new TokenBucket(
+                rule.getCapacity(),
+                rule.getRefillTokens(),
+                rule.getRefillPeriod().toNanos(),
+                now));
+
+        long waitNanos = bucket.tryConsume(now);
+        Counter counter = waitNanos == 0 ? allowedCounters.get(rule.getName()) : rejectedCounters.get(rule.getName());
+        if (counter != null) {
+            counter.increment();
+        }
+        return waitNanos;
+    }
+
+    public int size() {
+        int total = 0;
+        for (ConcurrentHashMap<String, TokenBucket> shard : shards) {
+            total += shard.size();
+        }
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.rate-limit.eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int before = size();
+        for (ConcurrentHashMap<String, TokenBucket> shard : shards) {
+            shard.values().removeIf(bucket -> bucket.isIdle(now, idleTimeoutNanos));
+        }
+        int removed = before - size();
+        if (removed > 0) {
+            log.debug("Rate limiter: {} buckets ociosos removidos", removed);
+        }
+    }
+
+    private ConcurrentHashMap<String, TokenBucket> shardFor(String key) {
+        int h = key.hashCode();
+        return shards[(h ^ (h >>> 16)) & shardMask];
+    }
+}
@@ -0,0 +1,59 @@
+package com.br.ibetelvote.infrastructure.ratelimit;
+
+/**
+ * Token bucket clássico com reposição contínua.
+ *
+ * O estado é protegido pelo monitor do próprio bucket; a contenção é baixa porque
+ * cada bucket pertence a uma única chave (IP ou usuário) de uma única regra.
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private volatile long lastAccessNanos;
+
+    public TokenBucket(long capacity, long refillTokens, long refillPeriodNanos, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) refillTokens / refillPeriodNanos;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+        this.lastAccessNanos = nowNanos;
+    }
+
+    /**
+     * Tenta consumir um token.
+     *
+     * @return 0 se o token foi consumido, ou o tempo em nanossegundos até o próximo token disponível
+     */
+    public synchronized long tryConsume(long nowNanos) {
+        lastAccessNanos = nowNanos;
+        refill(nowNanos);
+
+        if (tokens >= 1.0d) {
+            tokens -= 1.0d;
+            return 0L;
+        }
+
+        return (long) Math.ceil((1.0d - tokens) / tokensPerNano);
+    }
+
+    public synchronized long availableTokens() {
+        return (long) tokens;
+    }
+
+    public boolean isIdle(long nowNanos, long idleTimeoutNanos) {
+        return nowNanos - lastAccessNanos > idleTimeoutNanos;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed <= 0) {
+            return;
+        }
+        tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+        lastRefillNanos = nowNanos;
+    }
+}
@@ -0,0 +1,84 @@
+package com.br.ibetelvote.infrastructure.repositories;
+
+import com.br.ibetelvote.domain.entities.Arquivo;
+import com.br.ibetelvote.domain.repositories.ArquivoRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArquivoJpaRepository extends JpaRepository<Arquivo, String>, ArquivoRepository {
+
+    @Override
+    Optional<Arquivo> findByHash(String hash);
+
+    @Override
+    @Query(value = "SELECT chave FROM arquivos WHERE original IS NULL AND referencias <= 0 " +
+            "AND updated_at < :limite ORDER BY updated_at LIMIT :limit", nativeQuery = true)
+    List<String> findChavesOrfas(@Param("limite") LocalDateTime limite, @Param("limit") int limit);
+
+    /**
+     * Trava a linha do blob órfão para a remoção. Uma gravação concorrente do mesmo conteúdo
+     * ({@link #registrar}) espera o fim da varredura; linhas já travadas são puladas.
+     */
+    @Override
+    @Query(value = "SELECT chave FROM arquivos WHERE chave = :chave AND original IS NULL " +
+            "AND referencias <= 0 AND updated_at < :limite FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<String> lockOrfa(@Param("chave") String chave, @Param("limite") LocalDateTime limite);
+
+    /**
+     * Serializa, até o fim da transação, o registro de um blob e a remoção física do conteúdo pela
+     * varredura de órfãos, também entre instâncias.
+     */
+    @Override
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext(:chave))", nativeQuery = true)
+    Integer travarChave(@Param("chave") String chave);
+
+    /**
+     * Registra o blob, ou apenas renova {@code updated_at} se ele já existir.
+     */
+    @Override
+    @Modifying
+    @Query(value = "INSERT INTO arquivos (chave, hash, content_type, tamanho, largura, altura, original, referencias, created_at, updated_at) " +
+            "VALUES (:chave, :hash, :contentType, :tamanho, :largura, :altura, :original, 0, :agora, :agora) " +
+            "ON CONFLICT (chave) DO UPDATE SET updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int registrar(@Param("chave") String chave,
+                  @Param("hash") String hash,
+                  @Param("contentType") String contentType,
+                  @Param("tamanho") long tamanho,
+                  @Param("largura") Integer largura,
+                  @Param("altura") Integer altura,
+                  @Param("original") String original,
+                  @Param("agora") LocalDateTime agora);
+
+    @Override
+    @Modifying
+    @Query("UPDATE Arquivo a SET a.referencias = a.referencias + 1, a.updatedAt = :agora WHERE a.chave = :chave")
+    int incrementarReferencias(@Param("chave") String chave, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Só decrementa enquanto houver referências: uma liberação repetida não pode deixar a contagem
+     * negativa, senão o próximo {@link #incrementarReferencias} a levaria a zero com o blob em uso.
+     */
+    @Override
+    @Modifying
+    @Query("UPDATE Arquivo a SET a.referencias = a.referencias - 1, a.updatedAt = :agora " +
+            "WHERE a.chave = :chave AND a.referencias > 0")
+    int decrementarReferencias(@Param("chave") String chave, @Param("agora") LocalDateTime agora);
+
+    @Override
+    @Modifying
+    @Query("DELETE FROM Arquivo a WHERE a.chave = :chave AND a.referencias <= 0")
+    int deleteOrfa(@Param("chave") String chave);
+
+    @Override
+    @Modifying
+    @Query("DELETE FROM Arquivo a WHERE a.chave = :chave OR a.original = :chave")
+    int deleteComVariantes(@Param("chave") String chave);
+}
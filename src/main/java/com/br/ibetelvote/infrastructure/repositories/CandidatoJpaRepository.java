@@ -73,4 +73,12 @@ public interface CandidatoJpaRepository extends JpaRepository<Candidato, UUID>,
     @Override
     long countByAprovado(Boolean aprovado);
 
+    // === FOTOS DE CAMPANHA ===
+    @Query("SELECT c.fotoCampanhaKey FROM Candidato c WHERE c.id = :id AND c.fotoCampanhaKey IS NOT NULL")
+    Optional<String> findFotoCampanhaKeyById(@Param("id") UUID id);
+
+    @Query("SELECT c.fotoCampanhaKey FROM Candidato c " +
+            "WHERE c.eleicaoId = :eleicaoId AND c.aprovado = true AND c.ativo = true AND c.fotoCampanhaKey IS NOT NULL")
+    List<String> findFotoCampanhaKeysAprovadosByEleicaoId(@Param("eleicaoId") UUID eleicaoId);
+
 }
\ No newline at end of file
@@ -2,6 +2,13 @@ package com.br.ibetelvote.infrastructure.repositories;
 
 import com.br.ibetelvote.domain.entities.Membro;
 import com.br.ibetelvote.domain.repositories.MembroRepository;
+import com.br.ibetelvote.infrastructure.repositories.projections.MembroBasicInfoView;
+import com.br.ibetelvote.infrastructure.repositories.projections.MembroBuscaView;
+import com.br.ibetelvote.infrastructure.repositories.projections.MembroContagemView;
+import com.br.ibetelvote.infrastructure.repositories.projections.MembroListagemView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -21,11 +28,12 @@ import java.util.UUID;
 @Repository
 public interface MembroJpaRepository extends JpaRepository<Membro, UUID>,
         JpaSpecificationExecutor<Membro>,
+        MembroListagemRepository,
         MembroRepository {
 
     // === IMPLEMENTAÇÃO DOS MÉTODOS DA INTERFACE DOMAIN ===
     @Override
-    @Query("SELECT m FROM Membro m WHERE UPPER(m.email) = UPPER(:email)")
+    @Query("SELECT m FROM Membro m WHERE LOWER(m.email) = LOWER(:email)")
     Optional<Membro> findByEmail(@Param("email") String email);
 
     @Override
@@ -36,7 +44,7 @@ public interface MembroJpaRepository extends JpaRepository<Membro, UUID>,
 
     @Override
     @Query("SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END " +
-            "FROM Membro m WHERE UPPER(m.email) = UPPER(:email)")
+            "FROM Membro m WHERE LOWER(m.email) = LOWER(:email)")
     boolean existsByEmail(@Param("email") String email);
 
     @Override
@@ -68,7 +76,7 @@ public interface MembroJpaRepository extends JpaRepository<Membro, UUID>,
 
     @Override
     @Query("SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END " +
-            "FROM Membro m WHERE UPPER(m.email) = UPPER(:email) AND m.id != :id")
+            "FROM Membro m WHERE LOWER(m.email) = LOWER(:email) AND m.id != :id")
     boolean existsByEmailAndIdNot(@Param("email") String email, @Param("id") UUID id);
 
     @Override
@@ -80,4 +88,73 @@ public interface MembroJpaRepository extends JpaRepository<Membro, UUID>,
     @Query("SELECT m FROM Membro m WHERE UPPER(m.nome) LIKE UPPER(CONCAT('%', :nome, '%'))")
     List<Membro> findByNomeContainingIgnoreCase(@Param("nome") String nome);
 
+    // === PERFIL ===
+    // O perfil mostra o nome do cargo atual; cargo e membro vêm no mesmo SELECT
+
+    @Query("SELECT m FROM Membro m LEFT JOIN FETCH m.cargoAtual WHERE m.id = :id")
+    Optional<Membro> findPerfilById(@Param("id") UUID id);
+
+    @Query("SELECT m FROM Membro m LEFT JOIN FETCH m.cargoAtual WHERE m.userId = :userId")
+    Optional<Membro> findPerfilByUserId(@Param("userId") UUID userId);
+
+    // === LISTAGENS ===
+    // Respostas completas carregam o cargo no mesmo SELECT; as demais listagens são projeções
+
+    @Query("SELECT m FROM Membro m LEFT JOIN FETCH m.cargoAtual ORDER BY m.nome, m.id")
+    List<Membro> findAllComCargoOrderByNome();
+
+    @Query("SELECT m FROM Membro m LEFT JOIN FETCH m.cargoAtual WHERE m.ativo = true ORDER BY m.nome, m.id")
+    List<Membro> findAtivosComCargoOrderByNome();
+
+    @EntityGraph(attributePaths = "cargoAtual")
+    @Query("SELECT m FROM Membro m")
+    Page<Membro> findPaginaComCargo(Pageable pageable);
+
+    @EntityGraph(attributePaths = "cargoAtual")
+    @Query("SELECT m FROM Membro m WHERE m.ativo = true")
+    Page<Membro> findAtivosComCargo(Pageable pageable);
+
+    @Query("SELECT new com.br.ibetelvote.infrastructure.repositories.projections.MembroListagemView(" +
+            "m.id, m.nome, m.email, m.cargoAtualId, c.nome, m.departamento, m.dataNascimento, " +
+            "m.telefone, m.celular, m.ativo, m.userId, u.role, m.fotoKey, m.updatedAt) " +
+            "FROM Membro m LEFT JOIN m.cargoAtual c LEFT JOIN m.user u " +
+            "WHERE m.ativo = true ORDER BY m.nome, m.id")
+    List<MembroListagemView> findListagemAtivos();
+
+    @Query("SELECT new com.br.ibetelvote.infrastructure.repositories.projections.MembroBasicInfoView(" +
+            "m.id, m.nome, m.email, m.cargoAtualId, c.nome, m.ativo, m.userId) " +
+            "FROM Membro m LEFT JOIN m.cargoAtual c " +
+            "WHERE m.ativo = true ORDER BY m.nome, m.id")
+    List<MembroBasicInfoView> findBasicInfoAtivos();
+
+    @Query("SELECT new com.br.ibetelvote.infrastructure.repositories.projections.MembroBuscaView(" +
+            "m.id, m.nome, m.email, m.cpf, m.cargoAtualId, c.nome, m.userId) " +
+            "FROM Membro m LEFT JOIN m.cargoAtual c " +
+            "WHERE m.ativo = true")
+    List<MembroBuscaView> findBuscaAtivos();
+
+    @Query("SELECT new com.br.ibetelvote.infrastructure.repositories.projections.MembroBuscaView(" +
+            "m.id, m.nome, m.email, m.cpf, m.cargoAtualId, c.nome, m.userId) " +
+            "FROM Membro m LEFT JOIN m.cargoAtual c " +
+            "WHERE m.id = :id AND m.ativo = true")
+    Optional<MembroBuscaView> findBuscaAtivoById(@Param("id") UUID id);
+
+    // === IMPORTAÇÃO ===
+    // Chaves já cadastradas, carregadas uma vez por importação para checar duplicidade na memória
+
+    @Query("SELECT LOWER(m.email) FROM Membro m")
+    List<String> findAllEmails();
+
+    @Query("SELECT m.cpf FROM Membro m")
+    List<String> findAllCpfs();
+
+    // === ESTATÍSTICAS ===
+    @Query("SELECT m.cargoAtualId AS cargoId, m.ativo AS ativo, COUNT(m) AS total " +
+            "FROM Membro m GROUP BY m.cargoAtualId, m.ativo")
+    List<MembroContagemView> contarPorCargoEStatus();
+
+    // === FOTO ===
+    @Query("SELECT m.fotoKey FROM Membro m WHERE m.id = :id AND m.fotoKey IS NOT NULL")
+    Optional<String> findFotoKeyById(@Param("id") UUID id);
+
 }
\ No newline at end of file
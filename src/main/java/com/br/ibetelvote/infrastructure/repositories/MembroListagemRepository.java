@@ -0,0 +1,27 @@
+package com.br.ibetelvote.infrastructure.repositories;
+
+import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.infrastructure.repositories.projections.MembroListagemView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Consultas de listagem de membros que devolvem projeções em vez de entidades.
+ */
+public interface MembroListagemRepository {
+
+    /**
+     * Página de membros que atendem à especificação, na ordem do {@code pageable} (com {@code id} como desempate).
+     */
+    Page<MembroListagemView> findListagem(Specification<Membro> spec, Pageable pageable);
+
+    /**
+     * Até {@code limit} membros que atendem à especificação, ordenados por {@code nome, id} e sem contagem total.
+     * Usado com {@link com.br.ibetelvote.infrastructure.specifications.MembroSpecifications#aposNomeEId}
+     * para paginação por chave.
+     */
+    List<MembroListagemView> findListagemOrdenadaPorNome(Specification<Membro> spec, int limit);
+}
@@ -0,0 +1,111 @@
+package com.br.ibetelvote.infrastructure.repositories;
+
+import com.br.ibetelvote.domain.entities.Cargo;
+import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.domain.entities.User;
+import com.br.ibetelvote.infrastructure.repositories.projections.MembroListagemView;
+import com.br.ibetelvote.infrastructure.specifications.MembroSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementação de {@link MembroListagemRepository} com Criteria API: seleciona só as colunas
+ * de {@link MembroListagemView}, com left join em cargo e usuário.
+ */
+public class MembroListagemRepositoryImpl implements MembroListagemRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<MembroListagemView> findListagem(Specification<Membro> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MembroListagemView> query = cb.createQuery(MembroListagemView.class);
+        Root<Membro> root = selecionar(query, cb, spec);
+
+        List<Order> orders = new ArrayList<>(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        if (pageable.getSort().getOrderFor("id") == null) {
+            orders.add(cb.asc(root.get("id")));
+        }
+        query.orderBy(orders);
+
+        var typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> contar(spec));
+    }
+
+    @Override
+    public List<MembroListagemView> findListagemOrdenadaPorNome(Specification<Membro> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MembroListagemView> query = cb.createQuery(MembroListagemView.class);
+        Root<Membro> root = selecionar(query, cb, spec);
+        query.orderBy(QueryUtils.toOrders(Sort.by("nome", "id"), root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private Root<Membro> selecionar(CriteriaQuery<MembroListagemView> query, CriteriaBuilder cb,
+                                    Specification<Membro> spec) {
+        Root<Membro> root = query.from(Membro.class);
+        Join<Membro, Cargo> cargo = MembroSpecifications.cargoAtual(root);
+        Join<Membro, User> user = root.join("user", JoinType.LEFT);
+
+        query.select(cb.construct(MembroListagemView.class,
+                root.get("id"),
+                root.get("nome"),
+                root.get("email"),
+                root.get("cargoAtualId"),
+                cargo.get("nome"),
+                root.get("departamento"),
+                root.get("dataNascimento"),
+                root.get("telefone"),
+                root.get("celular"),
+                root.get("ativo"),
+                root.get("userId"),
+                user.get("role"),
+                root.get("fotoKey"),
+                root.get("updatedAt")
+        ));
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return root;
+    }
+
+    private long contar(Specification<Membro> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Membro> root = query.from(Membro.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,44 @@
+package com.br.ibetelvote.infrastructure.repositories;
+
+import com.br.ibetelvote.domain.entities.RefreshToken;
+import com.br.ibetelvote.domain.repositories.RefreshTokenRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshToken, UUID>, RefreshTokenRepository {
+
+    @Override
+    List<RefreshToken> findByRevokedFalseAndExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * Marca o token como usado somente se ainda não tiver sido usado.
+     * Retorna 0 quando outro processo já consumiu o token.
+     */
+    @Override
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.usedAt = :usedAt WHERE r.id = :id AND r.usedAt IS NULL AND r.revoked = false")
+    int markUsed(@Param("id") UUID id, @Param("usedAt") LocalDateTime usedAt);
+
+    @Override
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.familyId = :familyId AND r.revoked = false")
+    int revokeFamily(@Param("familyId") UUID familyId);
+
+    @Override
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.userId = :userId AND r.revoked = false")
+    int revokeByUserId(@Param("userId") UUID userId);
+
+    @Override
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
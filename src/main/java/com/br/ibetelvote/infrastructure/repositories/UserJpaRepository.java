@@ -3,6 +3,8 @@ package com.br.ibetelvote.infrastructure.repositories;
 import com.br.ibetelvote.domain.entities.User;
 import com.br.ibetelvote.domain.entities.enums.UserRole;
 import com.br.ibetelvote.domain.repositories.UserRepository;
+import com.br.ibetelvote.infrastructure.auth.CustomUserDetails;
+import com.br.ibetelvote.infrastructure.repositories.projections.UserProfileView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -52,6 +54,21 @@ public interface UserJpaRepository extends JpaRepository<User, UUID>, UserReposi
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.membro WHERE u.id = :id")
     Optional<User> findByIdWithMembro(@Param("id") UUID id);
 
+    @Query("SELECT new com.br.ibetelvote.infrastructure.auth.CustomUserDetails(" +
+            "u.id, u.email, u.password, u.role, u.ativo, " +
+            "u.accountNonExpired, u.accountNonLocked, u.credentialsNonExpired) " +
+            "FROM User u WHERE u.email = :email")
+    Optional<CustomUserDetails> findAuthByEmail(@Param("email") String email);
+
+    @Query("SELECT u.id AS id, u.email AS email, u.role AS role, u.ativo AS ativo, " +
+            "u.createdAt AS createdAt, u.updatedAt AS updatedAt, " +
+            "m.id AS membroId, m.nome AS nome, m.dataNascimento AS dataNascimento, c.nome AS cargo, " +
+            "CASE WHEN m.fotoKey IS NOT NULL THEN true ELSE false END AS temFoto, " +
+            "m.updatedAt AS membroUpdatedAt " +
+            "FROM User u LEFT JOIN u.membro m LEFT JOIN m.cargoAtual c " +
+            "WHERE u.id = :id")
+    Optional<UserProfileView> findProfileById(@Param("id") UUID id);
+
     boolean existsById(UUID id);
 
     Optional<User> findById(UUID id);
@@ -0,0 +1,17 @@
+package com.br.ibetelvote.infrastructure.repositories.projections;
+
+import java.util.UUID;
+
+/**
+ * Projeção com os dados básicos de um membro (seleções e combos), com o nome do cargo vindo do join.
+ */
+public record MembroBasicInfoView(
+        UUID id,
+        String nome,
+        String email,
+        UUID cargoAtualId,
+        String nomeCargoAtual,
+        Boolean ativo,
+        UUID userId
+) {
+}
@@ -0,0 +1,17 @@
+package com.br.ibetelvote.infrastructure.repositories.projections;
+
+import java.util.UUID;
+
+/**
+ * Projeção com os campos indexados na busca de membros, com o nome do cargo vindo do join.
+ */
+public record MembroBuscaView(
+        UUID id,
+        String nome,
+        String email,
+        String cpf,
+        UUID cargoAtualId,
+        String nomeCargoAtual,
+        UUID userId
+) {
+}
@@ -0,0 +1,15 @@
+package com.br.ibetelvote.infrastructure.repositories.projections;
+
+import java.util.UUID;
+
+/**
+ * Quantidade de membros por cargo e situação, uma linha por combinação.
+ */
+public interface MembroContagemView {
+
+    UUID getCargoId();
+
+    Boolean getAtivo();
+
+    long getTotal();
+}
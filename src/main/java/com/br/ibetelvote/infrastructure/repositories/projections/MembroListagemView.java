@@ -0,0 +1,30 @@
+package com.br.ibetelvote.infrastructure.repositories.projections;
+
+import com.br.ibetelvote.domain.entities.enums.UserRole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção de uma linha da listagem de membros.
+ * Traz apenas as colunas exibidas, com o nome do cargo e o papel do usuário vindos do join,
+ * sem carregar a entidade Membro nem os relacionamentos.
+ */
+public record MembroListagemView(
+        UUID id,
+        String nome,
+        String email,
+        UUID cargoAtualId,
+        String nomeCargoAtual,
+        String departamento,
+        LocalDate dataNascimento,
+        String telefone,
+        String celular,
+        Boolean ativo,
+        UUID userId,
+        UserRole userRole,
+        String fotoKey,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,38 @@
+package com.br.ibetelvote.infrastructure.repositories.projections;
+
+import com.br.ibetelvote.domain.entities.enums.UserRole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção do perfil do usuário logado.
+ * Traz apenas as colunas necessárias de users, membros e cargos - nunca o conteúdo da foto.
+ */
+public interface UserProfileView {
+
+    UUID getId();
+
+    String getEmail();
+
+    UserRole getRole();
+
+    Boolean getAtivo();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    UUID getMembroId();
+
+    String getNome();
+
+    LocalDate getDataNascimento();
+
+    String getCargo();
+
+    Boolean getTemFoto();
+
+    LocalDateTime getMembroUpdatedAt();
+}
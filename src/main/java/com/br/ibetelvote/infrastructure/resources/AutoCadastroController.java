@@ -3,9 +3,12 @@ package com.br.ibetelvote.infrastructure.resources;
 import com.br.ibetelvote.application.auth.dto.LoginResponse;
 import com.br.ibetelvote.application.membro.dto.*;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.br.ibetelvote.application.shared.dto.UploadPhotoResponse;
+import com.br.ibetelvote.application.shared.dto.UploadJobResponse;
+import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.domain.handlers.exceptions.ProcessamentoIndisponivelException;
 import com.br.ibetelvote.domain.services.AutoCadastroService;
 import com.br.ibetelvote.domain.services.MembroService;
+import com.br.ibetelvote.domain.services.UploadJobService;
 import com.br.ibetelvote.infrastructure.jwt.JwtService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -24,6 +27,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -33,9 +38,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.Optional;
@@ -54,6 +60,7 @@ public class AutoCadastroController {
 
     private final AutoCadastroService autoCadastroService;
     private final MembroService membroService;
+    private final UploadJobService uploadJobService;
     private final JwtService jwtService;
 
     /**
@@ -131,7 +138,7 @@ public class AutoCadastroController {
         log.debug("Verificando elegibilidade para email: {} e CPF: {}", email, cpf);
 
         // Limpar CPF antes de verificar (remover formatação)
-        String cpfLimpo = cpf.replaceAll("[^0-9]", "");
+        String cpfLimpo = Membro.normalizarCpf(cpf);
 
         boolean podeCrear = autoCadastroService.canMembroCreateUser(email, cpfLimpo);
 
@@ -157,15 +164,24 @@ public class AutoCadastroController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Perfil retornado com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Perfil não modificado"),
             @ApiResponse(responseCode = "401", description = "Token inválido ou expirado"),
             @ApiResponse(responseCode = "404", description = "Membro não encontrado")
     })
-    public ResponseEntity<MembroProfileResponse> obterMeuPerfil(Authentication authentication) {
+    public ResponseEntity<MembroProfileResponse> obterMeuPerfil(Authentication authentication, WebRequest webRequest) {
         UUID userId = extrairMembroIdDoToken(authentication);
-        log.info("Obtendo perfil do membro: {}", userId);
+        log.debug("Obtendo perfil do membro: {}", userId);
 
         MembroProfileResponse response = autoCadastroService.getMembroProfile(userId);
-        return ResponseEntity.ok(response);
+
+        if (webRequest.checkNotModified(response.eTag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(response.eTag())
+                .body(response);
     }
 
     /**
@@ -203,33 +219,30 @@ public class AutoCadastroController {
     @SecurityRequirement(name = "bearer-jwt")
     @Operation(
             summary = "Upload de foto do perfil",
-            description = "Faz upload da foto do perfil do membro autenticado"
+            description = "Recebe a foto do perfil do membro autenticado e a processa em segundo plano; acompanhe pelo statusUrl"
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Upload realizado com sucesso"),
+            @ApiResponse(responseCode = "202", description = "Upload recebido e enfileirado"),
             @ApiResponse(responseCode = "400", description = "Arquivo inválido ou formato não suportado"),
             @ApiResponse(responseCode = "401", description = "Token inválido ou expirado"),
             @ApiResponse(responseCode = "413", description = "Arquivo muito grande"),
-            @ApiResponse(responseCode = "404", description = "Membro não encontrado")
+            @ApiResponse(responseCode = "503", description = "Fila de processamento cheia")
     })
-    public ResponseEntity<MembroResponse> uploadFotoPerfil(
+    public ResponseEntity<UploadJobResponse> uploadFotoPerfil(
             @Parameter(description = "Arquivo de imagem (JPG, PNG, WEBP) - Máx 5MB", required = true)
             @RequestParam("file") MultipartFile file,
-            Authentication authentication) throws IOException {
+            Authentication authentication) {
 
         UUID userId = extrairMembroIdDoToken(authentication);
         log.info("Upload de foto para membro: {}, arquivo: {}, tamanho: {} bytes",
                 userId, file.getOriginalFilename(), file.getSize());
 
-        MembroUploadFotoRequest uploadRequest = MembroUploadFotoRequest.builder()
-                .fotoData(convertToBase64(file))
-                .fotoTipo(file.getContentType())
-                .fotoNome(file.getOriginalFilename())
-                .build();
-
-        MembroResponse response = membroService.uploadFotoMembro(userId, uploadRequest);
+        validarArquivoFoto(file);
+        UploadJobResponse response = uploadJobService.submitFotoMembro(userId, file);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.accepted()
+                .location(URI.create(response.getStatusUrl()))
+                .body(response);
     }
 
     /**
@@ -371,7 +384,7 @@ public class AutoCadastroController {
          */
         public String getCleanCpf() {
             if (cpf == null) return null;
-            return cpf.replaceAll("[^0-9]", "");
+            return Membro.normalizarCpf(cpf);
         }
 
         /**
@@ -479,6 +492,28 @@ public class AutoCadastroController {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    /**
+     * Handler para fila de processamento de imagens cheia
+     */
+    @ExceptionHandler(ProcessamentoIndisponivelException.class)
+    public ResponseEntity<ErrorResponse> handleProcessamentoIndisponivel(
+            ProcessamentoIndisponivelException e,
+            HttpServletRequest request) {
+
+        log.warn("Processamento indisponível: {}", e.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .code("SERVICE_BUSY")
+                .message(e.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(error);
+    }
+
     /**
      * Handler genérico para exceções não tratadas
      */
@@ -504,9 +539,9 @@ public class AutoCadastroController {
 // Adicionar este método privado na classe AutoCadastroController:
 
     /**
-     * Converte MultipartFile para Base64
+     * Valida o arquivo de foto antes de enfileirar o upload
      */
-    private byte[] convertToBase64(MultipartFile file) throws IOException {
+    private void validarArquivoFoto(MultipartFile file) {
         // Validações do arquivo
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("Arquivo de foto é obrigatório");
@@ -534,7 +569,5 @@ public class AutoCadastroController {
                 throw new IllegalArgumentException("Apenas arquivos JPG, PNG e WEBP são permitidos");
             }
         }
-
-        return file.getBytes();
     }
 }
\ No newline at end of file
@@ -1,8 +1,14 @@
 package com.br.ibetelvote.infrastructure.resources;
 
 import com.br.ibetelvote.application.candidato.dto.*;
-import com.br.ibetelvote.application.shared.dto.UploadPhotoResponse;
+import com.br.ibetelvote.application.shared.dto.StoredFile;
+import com.br.ibetelvote.application.shared.dto.UploadJobResponse;
+import com.br.ibetelvote.domain.entities.User;
+import com.br.ibetelvote.domain.handlers.exceptions.ProcessamentoIndisponivelException;
 import com.br.ibetelvote.domain.services.CandidatoService;
+import com.br.ibetelvote.domain.services.UploadJobService;
+import com.br.ibetelvote.infrastructure.cache.ByteBufferResource;
+import com.br.ibetelvote.infrastructure.image.ImageVariantGenerator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,18 +19,27 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/v1/candidatos")
@@ -35,6 +50,7 @@ import java.util.UUID;
 public class CandidatoController {
 
     private final CandidatoService candidatoService;
+    private final UploadJobService uploadJobService;
 
     // === OPERAÇÕES BÁSICAS ===
 
@@ -334,20 +350,24 @@ public class CandidatoController {
 
     @PostMapping(value = "/{id}/foto-campanha", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasRole('ADMINISTRADOR')")
-    @Operation(summary = "Upload de foto de campanha", description = "Faz upload da foto de campanha do candidato")
+    @Operation(summary = "Upload de foto de campanha",
+            description = "Recebe a foto de campanha e a processa em segundo plano; acompanhe pelo statusUrl")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Upload realizado com sucesso"),
-            @ApiResponse(responseCode = "400", description = "Arquivo inválido"),
+            @ApiResponse(responseCode = "202", description = "Upload recebido e enfileirado"),
+            @ApiResponse(responseCode = "400", description = "Arquivo inválido ou candidato não encontrado"),
             @ApiResponse(responseCode = "401", description = "Token inválido ou expirado"),
             @ApiResponse(responseCode = "403", description = "Acesso negado"),
-            @ApiResponse(responseCode = "404", description = "Candidato não encontrado")
+            @ApiResponse(responseCode = "503", description = "Fila de processamento cheia")
     })
-    public ResponseEntity<UploadPhotoResponse> uploadFotoCampanha(
+    public ResponseEntity<UploadJobResponse> uploadFotoCampanha(
             @PathVariable UUID id,
             @Parameter(description = "Arquivo de imagem (JPG, PNG, WEBP)")
-            @RequestParam("file") MultipartFile file) {
-        UploadPhotoResponse response = candidatoService.uploadFotoCampanha(id, file);
-        return ResponseEntity.ok(response);
+            @RequestParam("file") MultipartFile file,
+            @AuthenticationPrincipal User usuario) {
+        UploadJobResponse response = uploadJobService.submitFotoCampanha(id, file, usuario.getId());
+        return ResponseEntity.accepted()
+                .location(URI.create(response.getStatusUrl()))
+                .body(response);
     }
 
     @DeleteMapping("/{id}/foto-campanha")
@@ -366,15 +386,63 @@ public class CandidatoController {
 
     @GetMapping("/{id}/foto-campanha")
     @PreAuthorize("hasAnyRole('ADMINISTRADOR', 'UTILIZADOR_PRO', 'MEMBRO')")
-    @Operation(summary = "Obter foto de campanha", description = "Retorna a foto de campanha em Base64")
+    @Operation(summary = "Obter foto de campanha", description = "Retorna a foto de campanha como data URI em Base64")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Foto retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Foto não modificada"),
+            @ApiResponse(responseCode = "401", description = "Token inválido ou expirado"),
+            @ApiResponse(responseCode = "404", description = "Candidato ou foto não encontrada")
+    })
+    public ResponseEntity<StreamingResponseBody> getFotoCampanhaBase64(@PathVariable UUID id, WebRequest webRequest) {
+        StoredFile foto = candidatoService.getFotoCampanhaArquivo(id, ImageVariantGenerator.ORIGINAL, false);
+
+        if (webRequest.checkNotModified(foto.eTag(), foto.lastModified())) {
+            return null;
+        }
+
+        DataUriBody body = new DataUriBody(foto);
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .contentLength(body.contentLength())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(foto.eTag())
+                .body(body);
+    }
+
+    @GetMapping("/{id}/foto-campanha/imagem")
+    @PreAuthorize("hasAnyRole('ADMINISTRADOR', 'UTILIZADOR_PRO', 'MEMBRO')")
+    @Operation(summary = "Imagem da foto de campanha", description = "Retorna o conteúdo binário da foto de campanha")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Foto retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Foto não modificada"),
             @ApiResponse(responseCode = "401", description = "Token inválido ou expirado"),
             @ApiResponse(responseCode = "404", description = "Candidato ou foto não encontrada")
     })
-    public ResponseEntity<String> getFotoCampanhaBase64(@PathVariable UUID id) {
-        String fotoBase64 = candidatoService.getFotoCampanhaBase64(id);
-        return ResponseEntity.ok(fotoBase64);
+    public ResponseEntity<Resource> getFotoCampanhaImagem(
+            @PathVariable UUID id,
+            @Parameter(description = "Variante da imagem (thumbnail, card, full ou original)")
+            @RequestParam(defaultValue = "full") String size,
+            WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        boolean aceitaWebp = accept != null && accept.contains("image/webp");
+        StoredFile foto = candidatoService.getFotoCampanhaArquivo(id, size, aceitaWebp);
+
+        if (webRequest.checkNotModified(foto.eTag(), foto.lastModified())) {
+            return null;
+        }
+
+        // A URL publicada nas respostas é versionada, então a imagem pode ficar em cache no cliente
+        return ResponseEntity.ok()
+                .contentType(foto.contentType() != null
+                        ? MediaType.parseMediaType(foto.contentType()) : MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(foto.size())
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate())
+                .eTag(foto.eTag())
+                .lastModified(foto.lastModified())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(foto.isResident()
+                        ? new ByteBufferResource(foto.content(), foto.fileName())
+                        : new FileSystemResource(foto.path()));
     }
 
     // === CONSULTAS ESPECÍFICAS ===
@@ -657,6 +725,22 @@ public class CandidatoController {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(ProcessamentoIndisponivelException.class)
+    public ResponseEntity<ErrorResponse> handleProcessamentoIndisponivel(ProcessamentoIndisponivelException e, HttpServletRequest request) {
+        log.warn("Processamento indisponível: {}", e.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .code("SERVICE_BUSY")
+                .message(e.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(java.time.LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(error);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException e, HttpServletRequest request) {
         log.error("Erro interno: {}", e.getMessage(), e);
@@ -0,0 +1,60 @@
+package com.br.ibetelvote.infrastructure.resources;
+
+import com.br.ibetelvote.application.shared.dto.StoredFile;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+
+/**
+ * Corpo de resposta com o arquivo como data URI ({@code data:<tipo>;base64,...}), codificado
+ * direto no {@code OutputStream} da resposta. O conteúdo passa em blocos pelo codificador, então a
+ * memória usada não depende do tamanho da imagem; o tamanho final é conhecido de antemão.
+ */
+final class DataUriBody implements StreamingResponseBody {
+
+    private final StoredFile file;
+    private final byte[] prefix;
+
+    DataUriBody(StoredFile file) {
+        String contentType = file.contentType() != null ? file.contentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        this.file = file;
+        this.prefix = ("data:" + contentType + ";base64,").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    long contentLength() {
+        return prefix.length + 4 * ((file.size() + 2) / 3);
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(prefix);
+
+        // Fechar o codificador grava o padding final; a resposta em si continua aberta
+        try (OutputStream encoder = Base64.getEncoder().wrap(CloseShieldOutputStream.wrap(outputStream));
+             WritableByteChannel target = Channels.newChannel(encoder)) {
+            if (file.isResident()) {
+                target.write(file.content().duplicate());
+            } else {
+                try (FileChannel source = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+                    long position = 0;
+                    while (position < file.size()) {
+                        long transferred = source.transferTo(position, file.size() - position, target);
+                        if (transferred <= 0) {
+                            break;
+                        }
+                        position += transferred;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.br.ibetelvote.infrastructure.resources;
 
+import com.br.ibetelvote.application.shared.dto.StoredFile;
 import com.br.ibetelvote.domain.services.FileStorageService;
+import com.br.ibetelvote.infrastructure.cache.ByteBufferResource;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,17 +12,22 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.*;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/files")
@@ -34,6 +41,16 @@ public class FileController {
 
     private static final Map<String, MediaType> MEDIA_TYPE_MAP = new HashMap<>();
 
+    // Atributos de sendfile do Tomcat (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+    // Mesmo limite do DefaultServlet do Tomcat: abaixo disso o sendfile não compensa
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+    // Bem abaixo da validade da URL pré-assinada
+    private static final Duration REDIRECT_MAX_AGE = Duration.ofMinutes(1);
+
     static {
         MEDIA_TYPE_MAP.put("jpg", MediaType.IMAGE_JPEG);
         MEDIA_TYPE_MAP.put("jpeg", MediaType.IMAGE_JPEG);
@@ -44,36 +61,59 @@ public class FileController {
         MEDIA_TYPE_MAP.put("pdf", MediaType.APPLICATION_PDF);
     }
 
-    @GetMapping("/{fileName:.+}")
-    @Operation(summary = "Servir arquivo", description = "Retorna um arquivo estático")
+    @GetMapping("/{*fileName}")
+    @Operation(summary = "Servir arquivo", description = "Retorna um arquivo estático (suporta Range e requisições condicionais). "
+            + "Para imagens, o parâmetro size escolhe a variante e o cabeçalho Accept o formato (WEBP ou JPEG)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Arquivo retornado com sucesso"),
+            @ApiResponse(responseCode = "206", description = "Intervalo do arquivo retornado"),
+            @ApiResponse(responseCode = "302", description = "Redirecionamento para URL pré-assinada do armazenamento"),
+            @ApiResponse(responseCode = "304", description = "Arquivo não modificado"),
             @ApiResponse(responseCode = "404", description = "Arquivo não encontrado"),
             @ApiResponse(responseCode = "500", description = "Erro ao carregar arquivo")
     })
-    public ResponseEntity<Resource> serveFile(
+    public ResponseEntity<?> serveFile(
             @Parameter(description = "Nome do arquivo") @PathVariable String fileName,
-            HttpServletRequest request) {
+            @Parameter(description = "Variante da imagem (thumbnail, card, full); sem o parâmetro, o arquivo original")
+            @RequestParam(required = false) String size,
+            HttpServletRequest request,
+            ServletWebRequest webRequest) {
+
+        String key = normalizeKey(fileName);
 
         try {
-            // Verificar se arquivo existe
-            if (!fileStorageService.fileExists(fileName)) {
-                log.warn("Arquivo não encontrado: {}", fileName);
+            // Metadados do índice (ou uma única leitura de atributos) substituem o fileExists + readAllBytes
+            String accept = request.getHeader(HttpHeaders.ACCEPT);
+            boolean acceptsWebp = accept != null && accept.contains("image/webp");
+
+            // Backend com URLs pré-assinadas: o cliente baixa direto dele, sem passar pela aplicação
+            Optional<String> redirectUrl = fileStorageService.findRedirectUrl(key, size, acceptsWebp);
+            if (redirectUrl.isPresent()) {
+                return ResponseEntity.status(HttpStatus.FOUND)
+                        .location(URI.create(redirectUrl.get()))
+                        .cacheControl(CacheControl.maxAge(REDIRECT_MAX_AGE).cachePrivate())
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .build();
+            }
+
+            Optional<StoredFile> storedFile = fileStorageService.findImage(key, size, acceptsWebp);
+            if (storedFile.isEmpty()) {
+                log.warn("Arquivo não encontrado: {}", key);
                 return ResponseEntity.notFound().build();
             }
 
-            // Carregar arquivo
-            byte[] fileData = fileStorageService.loadFile(fileName);
-            Resource resource = new ByteArrayResource(fileData);
+            StoredFile file = storedFile.get();
+            if (webRequest.checkNotModified(file.eTag(), file.lastModified())) {
+                return null;
+            }
 
-            // Determinar content type
-            String fileExtension = FilenameUtils.getExtension(fileName).toLowerCase();
-            MediaType mediaType = MEDIA_TYPE_MAP.getOrDefault(fileExtension, MediaType.APPLICATION_OCTET_STREAM);
+            // Content type do arquivo servido, que pode ser uma variante; vem do índice quando indexado
+            String fileExtension = FilenameUtils.getExtension(file.fileName()).toLowerCase();
+            MediaType mediaType = resolveMediaType(file, fileExtension);
 
             // Headers
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(mediaType);
-            headers.setContentLength(fileData.length);
 
             headers.add("Access-Control-Allow-Origin", "*");
             headers.add("Access-Control-Allow-Methods", "GET, OPTIONS");
@@ -87,49 +127,61 @@ public class FileController {
             // Cache headers para imagens
             if (isImageFile(fileExtension)) {
                 headers.setCacheControl("public, max-age=31536000"); // 1 ano
+                if (size != null) {
+                    headers.setVary(List.of(HttpHeaders.ACCEPT));
+                }
             }
 
-            log.debug("Servindo arquivo: {} ({})", fileName, mediaType);
+            log.debug("Servindo arquivo: {} ({})", key, mediaType);
 
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(resource);
+            return streamFile(file, headers, request);
 
         } catch (IOException e) {
-            log.error("Erro ao carregar arquivo: {}", fileName, e);
+            log.error("Erro ao carregar arquivo: {}", key, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
-    @GetMapping("/download/{fileName:.+}")
+    @GetMapping("/download/{*fileName}")
     @Operation(summary = "Download de arquivo", description = "Força o download de um arquivo")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Download iniciado com sucesso"),
+            @ApiResponse(responseCode = "206", description = "Intervalo do arquivo retornado"),
+            @ApiResponse(responseCode = "304", description = "Arquivo não modificado"),
             @ApiResponse(responseCode = "404", description = "Arquivo não encontrado"),
             @ApiResponse(responseCode = "500", description = "Erro ao carregar arquivo")
     })
-    public ResponseEntity<Resource> downloadFile(
-            @Parameter(description = "Nome do arquivo") @PathVariable String fileName) {
+    public ResponseEntity<?> downloadFile(
+            @Parameter(description = "Nome do arquivo") @PathVariable String fileName,
+            HttpServletRequest request,
+            ServletWebRequest webRequest) {
+
+        String key = normalizeKey(fileName);
 
         try {
-            if (!fileStorageService.fileExists(fileName)) {
+            Optional<StoredFile> storedFile = fileStorageService.findFile(key);
+            if (storedFile.isEmpty()) {
                 return ResponseEntity.notFound().build();
             }
 
-            byte[] fileData = fileStorageService.loadFile(fileName);
-            Resource resource = new ByteArrayResource(fileData);
+            StoredFile file = storedFile.get();
+            if (webRequest.checkNotModified(file.eTag(), file.lastModified())) {
+                return null;
+            }
+
+            String fileExtension = FilenameUtils.getExtension(key).toLowerCase();
+            MediaType mediaType = resolveMediaType(file, fileExtension);
 
-            String fileExtension = FilenameUtils.getExtension(fileName).toLowerCase();
-            MediaType mediaType = MEDIA_TYPE_MAP.getOrDefault(fileExtension, MediaType.APPLICATION_OCTET_STREAM);
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(mediaType);
+            headers.setContentDisposition(ContentDisposition.attachment()
+                    .filename(FilenameUtils.getName(key), StandardCharsets.UTF_8)
+                    .build());
 
-            return ResponseEntity.ok()
-                    .contentType(mediaType)
-                    .contentLength(fileData.length)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
-                    .body(resource);
+            return streamFile(file, headers, request);
 
         } catch (IOException e) {
-            log.error("Erro ao fazer download do arquivo: {}", fileName, e);
+            log.error("Erro ao fazer download do arquivo: {}", key, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -193,6 +245,119 @@ public class FileController {
     }
 
     // Métodos auxiliares
+
+    /**
+     * Envia o arquivo sem copiá-lo para o heap. Arquivos residentes no cache saem do buffer em memória.
+     * Em GETs de arquivos a partir de {@link #SENDFILE_MIN_SIZE} o Tomcat faz o envio via sendfile
+     * ({@code FileChannel.transferTo}), inclusive para um único Range.
+     * Nos demais casos o arquivo é transmitido em blocos a partir do {@link FileSystemResource}.
+     */
+    private ResponseEntity<?> streamFile(StoredFile file, HttpHeaders headers, HttpServletRequest request)
+            throws IOException {
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setETag(file.eTag());
+        headers.setLastModified(file.lastModified());
+
+        List<HttpRange> ranges;
+        try {
+            ranges = resolveRanges(request, file);
+        } catch (IllegalArgumentException e) {
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + file.size());
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+        }
+
+        if (ranges.size() <= 1 && isSendfileEligible(request, file)) {
+            long start = 0;
+            long end = file.size();
+            HttpStatus status = HttpStatus.OK;
+
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(file.size());
+                end = ranges.get(0).getRangeEnd(file.size()) + 1;
+                status = HttpStatus.PARTIAL_CONTENT;
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + file.size());
+            }
+
+            // O corpo fica vazio: o conector envia o arquivo direto do page cache para o socket
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.path().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end);
+
+            headers.setContentLength(end - start);
+            return ResponseEntity.status(status).headers(headers).build();
+        }
+
+        Resource resource = file.isResident()
+                ? new ByteBufferResource(file.content(), file.fileName())
+                : new FileSystemResource(file.path());
+
+        if (ranges.size() == 1) {
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .headers(headers)
+                    .body(ranges.get(0).toResourceRegion(resource));
+        }
+        if (ranges.size() > 1) {
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .headers(headers)
+                    .body(HttpRange.toResourceRegions(ranges, resource));
+        }
+
+        // Range ignorado por If-Range: InputStreamResource impede o Spring de reaplicar o cabeçalho
+        if (request.getHeader(HttpHeaders.RANGE) != null) {
+            resource = new InputStreamResource(resource.getInputStream());
+        }
+
+        headers.setContentLength(file.size());
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(resource);
+    }
+
+    private boolean isSendfileEligible(HttpServletRequest request, StoredFile file) {
+        return !file.isResident()
+                && HttpMethod.GET.matches(request.getMethod())
+                && file.size() >= SENDFILE_MIN_SIZE
+                && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR));
+    }
+
+    /**
+     * Lê o cabeçalho Range respeitando If-Range: se o validador não corresponder à versão atual,
+     * o arquivo inteiro é enviado. Intervalos fora do arquivo lançam IllegalArgumentException.
+     */
+    private List<HttpRange> resolveRanges(HttpServletRequest request, StoredFile file) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (!StringUtils.hasText(rangeHeader)) {
+            return List.of();
+        }
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (StringUtils.hasText(ifRange) && !ifRange.equals(file.eTag())) {
+            long ifRangeDate = ifRange.startsWith("\"") || ifRange.startsWith("W/")
+                    ? -1 : request.getDateHeader(HttpHeaders.IF_RANGE);
+            if (ifRangeDate == -1 || ifRangeDate / 1000 != file.lastModified() / 1000) {
+                return List.of();
+            }
+        }
+
+        List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+        ranges.forEach(range -> {
+            range.getRangeStart(file.size());
+            range.getRangeEnd(file.size());
+        });
+        return ranges;
+    }
+
+    private MediaType resolveMediaType(StoredFile file, String fileExtension) {
+        if (file.contentType() != null) {
+            return MediaType.parseMediaType(file.contentType());
+        }
+        return MEDIA_TYPE_MAP.getOrDefault(fileExtension, MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    private String normalizeKey(String fileName) {
+        return fileName.startsWith("/") ? fileName.substring(1) : fileName;
+    }
+
     private boolean isImageFile(String extension) {
         return extension != null &&
                 (extension.equals("jpg") || extension.equals("jpeg") ||
@@ -2,7 +2,13 @@ package com.br.ibetelvote.infrastructure.resources;
 
 import com.br.ibetelvote.application.membro.dto.MembroBasicInfo;
 import com.br.ibetelvote.application.membro.dto.*;
+import com.br.ibetelvote.application.shared.dto.CursorPage;
+import com.br.ibetelvote.application.shared.dto.StoredFile;
+import com.br.ibetelvote.domain.handlers.exceptions.ProcessamentoIndisponivelException;
+import com.br.ibetelvote.domain.services.MembroImportService;
 import com.br.ibetelvote.domain.services.MembroService;
+import com.br.ibetelvote.infrastructure.cache.ByteBufferResource;
+import com.br.ibetelvote.infrastructure.image.ImageVariantGenerator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,16 +19,26 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/v1/membros")
@@ -33,6 +49,7 @@ import java.util.UUID;
 public class MembroController {
 
     private final MembroService membroService;
+    private final MembroImportService membroImportService;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMINISTRADOR')")
@@ -160,6 +177,22 @@ public class MembroController {
         return ResponseEntity.ok(membros);
     }
 
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMINISTRADOR', 'UTILIZADOR_PRO')")
+    @Operation(summary = "Busca rápida de membros",
+            description = "Busca membros ativos por parte do nome, e-mail ou CPF, sem diferenciar acentos e maiúsculas. Pensada para busca a cada tecla digitada")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Token inválido ou expirado"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<Page<MembroBasicInfo>> searchMembros(
+            @Parameter(description = "Termo de busca") @RequestParam String q,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<MembroBasicInfo> membros = membroService.searchMembros(q, pageable);
+        return ResponseEntity.ok(membros);
+    }
+
     @GetMapping("/search/nome")
     @PreAuthorize("hasAnyRole('ADMINISTRADOR', 'UTILIZADOR_PRO')")
     @Operation(summary = "Buscar por nome", description = "Busca membros por nome (busca parcial)")
@@ -329,15 +362,63 @@ public class MembroController {
 
     @GetMapping("/{id}/foto")
     @PreAuthorize("hasAnyRole('ADMINISTRADOR', 'UTILIZADOR_PRO', 'MEMBRO')")
-    @Operation(summary = "Buscar foto do membro", description = "Retorna a foto de um membro em Base64")
+    @Operation(summary = "Buscar foto do membro", description = "Retorna a foto de um membro como data URI em Base64")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Foto retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Foto não modificada"),
             @ApiResponse(responseCode = "401", description = "Token inválido ou expirado"),
             @ApiResponse(responseCode = "404", description = "Membro ou foto não encontrada")
     })
-    public ResponseEntity<String> getFotoMembroBase64(@PathVariable UUID id) {
-        String fotoBase64 = membroService.getFotoMembroBase64(id);
-        return ResponseEntity.ok(fotoBase64);
+    public ResponseEntity<StreamingResponseBody> getFotoMembroBase64(@PathVariable UUID id, WebRequest webRequest) {
+        StoredFile foto = membroService.getFotoMembro(id, ImageVariantGenerator.ORIGINAL, false);
+
+        if (webRequest.checkNotModified(foto.eTag(), foto.lastModified())) {
+            return null;
+        }
+
+        DataUriBody body = new DataUriBody(foto);
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .contentLength(body.contentLength())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(foto.eTag())
+                .body(body);
+    }
+
+    @GetMapping("/{id}/foto/imagem")
+    @PreAuthorize("hasAnyRole('ADMINISTRADOR', 'UTILIZADOR_PRO', 'MEMBRO')")
+    @Operation(summary = "Imagem da foto do membro", description = "Retorna o conteúdo binário da foto de um membro")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Foto retornada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Foto não modificada"),
+            @ApiResponse(responseCode = "401", description = "Token inválido ou expirado"),
+            @ApiResponse(responseCode = "404", description = "Membro ou foto não encontrada")
+    })
+    public ResponseEntity<Resource> getFotoMembroImagem(
+            @PathVariable UUID id,
+            @Parameter(description = "Variante da imagem (thumbnail, card, full ou original)")
+            @RequestParam(defaultValue = "full") String size,
+            WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        boolean aceitaWebp = accept != null && accept.contains("image/webp");
+        StoredFile foto = membroService.getFotoMembro(id, size, aceitaWebp);
+
+        if (webRequest.checkNotModified(foto.eTag(), foto.lastModified())) {
+            return null;
+        }
+
+        // A URL publicada no perfil é versionada, então a imagem pode ficar em cache no cliente
+        return ResponseEntity.ok()
+                .contentType(foto.contentType() != null
+                        ? MediaType.parseMediaType(foto.contentType()) : MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(foto.size())
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate())
+                .eTag(foto.eTag())
+                .lastModified(foto.lastModified())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(foto.isResident()
+                        ? new ByteBufferResource(foto.content(), foto.fileName())
+                        : new FileSystemResource(foto.path()));
     }
 
     @GetMapping("/{id}/profile")
@@ -345,12 +426,21 @@ public class MembroController {
     @Operation(summary = "Buscar perfil do membro", description = "Retorna o perfil completo de um membro")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Perfil retornado com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Perfil não modificado"),
             @ApiResponse(responseCode = "401", description = "Token inválido ou expirado"),
             @ApiResponse(responseCode = "404", description = "Membro não encontrado")
     })
-    public ResponseEntity<MembroProfileResponse> getMembroProfile(@PathVariable UUID id) {
+    public ResponseEntity<MembroProfileResponse> getMembroProfile(@PathVariable UUID id, WebRequest webRequest) {
         MembroProfileResponse profile = membroService.getMembroProfile(id);
-        return ResponseEntity.ok(profile);
+
+        if (webRequest.checkNotModified(profile.eTag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(profile.eTag())
+                .body(profile);
     }
 
     @PutMapping("/{id}/profile")
@@ -428,6 +518,21 @@ public class MembroController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/filtros/cursor")
+    @PreAuthorize("hasAnyRole('ADMINISTRADOR', 'UTILIZADOR_PRO')")
+    @Operation(summary = "Buscar com filtros por cursor",
+            description = "Busca membros aplicando filtros, ordenados por nome. Para a próxima página, reenvie os filtros com o nextCursor recebido")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Filtros ou cursor inválidos"),
+            @ApiResponse(responseCode = "401", description = "Token inválido ou expirado"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<CursorPage<MembroListResponse>> buscarMembrosComCursor(@Valid @RequestBody MembroFilterRequest filtros) {
+        CursorPage<MembroListResponse> response = membroService.buscarMembrosComCursor(filtros);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/listagem")
     @PreAuthorize("hasAnyRole('ADMINISTRADOR', 'UTILIZADOR_PRO', 'MEMBRO')")
     @Operation(summary = "Listagem simples", description = "Lista membros para exibição simples")
@@ -525,6 +630,19 @@ public class MembroController {
         return ResponseEntity.ok(membros);
     }
 
+    @GetMapping("/stats")
+    @PreAuthorize("hasAnyRole('ADMINISTRADOR', 'UTILIZADOR_PRO')")
+    @Operation(summary = "Estatísticas de membros", description = "Retorna todos os contadores de membros: total, ativos, inativos, sem cargo, aptos para votação e por cargo")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estatísticas retornadas com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Token inválido ou expirado"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado")
+    })
+    public ResponseEntity<MembroStatsResponse> getMembroStats() {
+        MembroStatsResponse stats = membroService.getMembroStats();
+        return ResponseEntity.ok(stats);
+    }
+
     @GetMapping("/stats/total")
     @PreAuthorize("hasAnyRole('ADMINISTRADOR', 'UTILIZADOR_PRO')")
     @Operation(summary = "Total de membros", description = "Retorna o total de membros cadastrados")
@@ -615,6 +733,47 @@ public class MembroController {
         return ResponseEntity.ok(basicInfo);
     }
 
+    // === IMPORTAÇÃO ===
+
+    @PostMapping(value = "/importacao", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMINISTRADOR')")
+    @Operation(summary = "Importar membros",
+            description = "Recebe um CSV com cabeçalho (nome, cpf e email obrigatórios) e cadastra os membros em segundo plano; acompanhe pelo statusUrl")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Arquivo recebido e importação enfileirada"),
+            @ApiResponse(responseCode = "400", description = "Arquivo vazio, não CSV ou sem as colunas obrigatórias"),
+            @ApiResponse(responseCode = "401", description = "Token inválido ou expirado"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado"),
+            @ApiResponse(responseCode = "503", description = "Fila de importação cheia")
+    })
+    public ResponseEntity<MembroImportJobResponse> importarMembros(
+            @Parameter(description = "Arquivo CSV separado por ponto e vírgula, vírgula ou tabulação")
+            @RequestParam("file") MultipartFile file) {
+        MembroImportJobResponse response = membroImportService.submit(file);
+        return ResponseEntity.accepted()
+                .location(URI.create(response.getStatusUrl()))
+                .body(response);
+    }
+
+    @GetMapping("/importacao/{jobId}")
+    @PreAuthorize("hasRole('ADMINISTRADOR')")
+    @Operation(summary = "Situação da importação",
+            description = "Retorna o progresso da importação, os totais e as linhas recusadas com o motivo")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Situação retornada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Token inválido ou expirado"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado"),
+            @ApiResponse(responseCode = "404", description = "Importação não encontrada ou expirada")
+    })
+    public ResponseEntity<MembroImportJobResponse> getStatusImportacao(
+            @Parameter(description = "ID da importação") @PathVariable UUID jobId) {
+        return membroImportService.getStatus(jobId)
+                .map(status -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noStore())
+                        .body(status))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     // === EXCEPTION HANDLERS ===
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e, HttpServletRequest request) {
@@ -627,6 +786,22 @@ public class MembroController {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(ProcessamentoIndisponivelException.class)
+    public ResponseEntity<ErrorResponse> handleProcessamentoIndisponivel(ProcessamentoIndisponivelException e, HttpServletRequest request) {
+        log.warn("Processamento indisponível: {}", e.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .code("SERVICE_BUSY")
+                .message(e.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(java.time.LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(error);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException e, HttpServletRequest request) {
         ErrorResponse error = ErrorResponse.builder()
@@ -0,0 +1,52 @@
+package com.br.ibetelvote.infrastructure.resources;
+
+import com.br.ibetelvote.application.shared.dto.UploadJobResponse;
+import com.br.ibetelvote.domain.entities.User;
+import com.br.ibetelvote.domain.services.UploadJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/uploads")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Uploads", description = "Acompanhamento dos uploads processados em segundo plano")
+@SecurityRequirement(name = "bearer-jwt")
+public class UploadJobController {
+
+    private final UploadJobService uploadJobService;
+
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasAnyRole('ADMINISTRADOR', 'UTILIZADOR_PRO', 'MEMBRO')")
+    @Operation(summary = "Situação do upload", description = "Retorna o progresso do upload e, ao concluir, as URLs da foto e das variantes. Só quem enviou o arquivo ou um administrador pode consultar")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Situação retornada com sucesso"),
+            @ApiResponse(responseCode = "401", description = "Token inválido ou expirado"),
+            @ApiResponse(responseCode = "404", description = "Upload não encontrado, expirado ou de outro usuário")
+    })
+    public ResponseEntity<UploadJobResponse> getStatus(
+            @Parameter(description = "ID do upload") @PathVariable UUID jobId,
+            @AuthenticationPrincipal User usuario) {
+        return uploadJobService.getStatus(jobId, usuario.getId(), usuario.isAdmin())
+                .map(status -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noStore())
+                        .body(status))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -5,6 +5,7 @@ import com.br.ibetelvote.application.voto.dto.VotarRequest;
 import com.br.ibetelvote.application.voto.dto.VotoFilterRequest;
 import com.br.ibetelvote.application.voto.dto.VotoResponse;
 import com.br.ibetelvote.domain.services.VotoService;
+import com.br.ibetelvote.infrastructure.components.ClientIpResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -36,6 +37,7 @@ import java.util.UUID;
 public class VotoController {
 
     private final VotoService votoService;
+    private final ClientIpResolver clientIpResolver;
 
     // === OPERAÇÃO PRINCIPAL ===
 
@@ -55,7 +57,7 @@ public class VotoController {
             HttpServletRequest httpRequest) {
 
         UUID membroId = extractMembroId(authentication);
-        String ipOrigem = getClientIpAddress(httpRequest);
+        String ipOrigem = clientIpResolver.resolve(httpRequest);
         String userAgent = httpRequest.getHeader("User-Agent");
 
         List<VotoResponse> votos = votoService.votar(membroId, request, ipOrigem, userAgent);
@@ -474,25 +476,6 @@ public class VotoController {
         }
     }
 
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-
-        String xOriginalForwardedFor = request.getHeader("X-Original-Forwarded-For");
-        if (xOriginalForwardedFor != null && !xOriginalForwardedFor.isEmpty()) {
-            return xOriginalForwardedFor.split(",")[0].trim();
-        }
-
-        return request.getRemoteAddr();
-    }
-
     // === EXCEPTION HANDLERS ===
 
     @ExceptionHandler(IllegalArgumentException.class)
@@ -1,7 +1,5 @@
 package com.br.ibetelvote.infrastructure.service;
 
-import com.br.ibetelvote.domain.entities.User;
-import com.br.ibetelvote.infrastructure.auth.CustomUserDetails;
 import com.br.ibetelvote.infrastructure.repositories.UserJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,18 +21,11 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.debug("Carregando usuário por email: {}", username);
 
-        User user = userJpaRepository.findByEmail(username)
+        // Projeção escalar: apenas email, hash, role e flags da conta
+        return userJpaRepository.findAuthByEmail(username)
                 .orElseThrow(() -> {
                     log.warn("Usuário não encontrado: {}", username);
                     return new UsernameNotFoundException("Usuário não encontrado: " + username);
                 });
-
-        // ✅ ADICIONE ESTE LOG TEMPORÁRIO
-        log.info("DEBUG - Usuário encontrado: {} | Hash: {} | Ativo: {}",
-                user.getEmail(),
-                user.getPassword().substring(0, 10) + "...",
-                user.isEnabled());
-
-        return user;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,223 @@
+package com.br.ibetelvote.infrastructure.service;
+
+import com.br.ibetelvote.domain.entities.Cargo;
+import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.infrastructure.events.EntidadeEventBus;
+import com.br.ibetelvote.infrastructure.repositories.CargoJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Matriz de elegibilidade entre cargos: para cada cargo atual (ou nenhum cargo), quais cargos
+ * ativos podem receber a candidatura.
+ *
+ * Cada linha é um {@link BitSet} indexado pelos cargos de destino e cada coluna é mantida também
+ * transposta, de modo que verificar um par é um teste de bit e listar as origens elegíveis para um
+ * cargo é uma varredura de bits. As células seguem a mesma regra de
+ * {@link Membro#podeSeCandidarPara(Cargo)}, usada no cadastro de candidatos.
+ *
+ * A matriz é descartada após o commit das alterações de cargo ({@link #invalidate()}) e recriada na
+ * próxima consulta. A assinatura no {@link EntidadeEventBus} cobre cargos alterados por outros
+ * serviços, mas é assíncrona e pode perder eventos com a fila cheia, por isso não substitui a
+ * invalidação de quem altera; a reconstrução periódica cobre alterações feitas por outro nó da aplicação.
+ */
+@Component
+@Slf4j
+public class ElegibilidadeMatrix {
+
+    private final CargoJpaRepository cargoRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicLong versao = new AtomicLong();
+    private volatile Matriz matriz;
+
+    /**
+     * Origens que podem se candidatar a um cargo: os cargos atuais elegíveis e se membros sem cargo
+     * também podem.
+     */
+    public record Origens(Set<UUID> cargoIds, boolean semCargo) {
+
+        public boolean isEmpty() {
+            return cargoIds.isEmpty() && !semCargo;
+        }
+    }
+
+    private record Matriz(Map<UUID, Integer> origens,
+                          UUID[] origemIds,
+                          Map<UUID, Integer> destinos,
+                          Map<String, UUID> destinosPorNome,
+                          BitSet[] porOrigem,
+                          BitSet[] porDestino) {
+
+        // Linha dos membros sem cargo atual
+        int semCargo() {
+            return origemIds.length;
+        }
+    }
+
+    public ElegibilidadeMatrix(CargoJpaRepository cargoRepository,
+                               PlatformTransactionManager transactionManager,
+                               EntidadeEventBus eventBus) {
+        this.cargoRepository = cargoRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        eventBus.subscribe(Cargo.class, event -> evict());
+    }
+
+    // === CARGA ===
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${app.cargos.elegibilidade.rebuild-interval:600000}",
+            fixedDelayString = "${app.cargos.elegibilidade.rebuild-interval:600000}")
+    public void rebuild() {
+        carregar();
+    }
+
+    /**
+     * Carrega os cargos e publica a nova matriz. Se um cargo mudar durante a carga, carrega de novo,
+     * para não publicar uma matriz anterior ao commit.
+     */
+    private synchronized Matriz carregar() {
+        while (true) {
+            long versaoLida = versao.get();
+            List<Cargo> cargos = readOnlyTransaction.execute(status -> cargoRepository.findAll());
+            Matriz nova = build(cargos);
+            if (versao.get() == versaoLida) {
+                matriz = nova;
+                log.debug("Matriz de elegibilidade reconstruída: {} cargos, {} ativos",
+                        nova.origemIds().length, nova.destinos().size());
+                return nova;
+            }
+        }
+    }
+
+    private static Matriz build(List<Cargo> cargos) {
+        List<Cargo> ativos = cargos.stream().filter(Cargo::isAtivo).toList();
+
+        Map<UUID, Integer> origens = new HashMap<>();
+        UUID[] origemIds = new UUID[cargos.size()];
+        for (int i = 0; i < cargos.size(); i++) {
+            origens.put(cargos.get(i).getId(), i);
+            origemIds[i] = cargos.get(i).getId();
+        }
+
+        Map<UUID, Integer> destinos = new HashMap<>();
+        Map<String, UUID> destinosPorNome = new HashMap<>();
+        for (int j = 0; j < ativos.size(); j++) {
+            destinos.put(ativos.get(j).getId(), j);
+            destinosPorNome.put(ativos.get(j).getNome(), ativos.get(j).getId());
+        }
+
+        BitSet[] porOrigem = new BitSet[cargos.size() + 1];
+        BitSet[] porDestino = new BitSet[ativos.size()];
+        for (int j = 0; j < ativos.size(); j++) {
+            porDestino[j] = new BitSet(cargos.size() + 1);
+        }
+
+        for (int i = 0; i <= cargos.size(); i++) {
+            String cargoAtualNome = i < cargos.size() ? cargos.get(i).getNome() : null;
+            porOrigem[i] = new BitSet(ativos.size());
+            for (int j = 0; j < ativos.size(); j++) {
+                if (Membro.hierarquiaPermiteCandidatura(cargoAtualNome, ativos.get(j).getNome())) {
+                    porOrigem[i].set(j);
+                    porDestino[j].set(i);
+                }
+            }
+        }
+
+        return new Matriz(Map.copyOf(origens), origemIds, Map.copyOf(destinos),
+                Map.copyOf(destinosPorNome), porOrigem, porDestino);
+    }
+
+    private Matriz matriz() {
+        Matriz atual = matriz;
+        return atual != null ? atual : carregar();
+    }
+
+    // === CONSULTAS ===
+
+    /**
+     * Verifica se quem ocupa {@code cargoAtualId} ({@code null} para membro sem cargo) pode se
+     * candidatar a {@code cargoDesejadoId}. Cargos inativos ou inexistentes nunca são elegíveis.
+     */
+    public boolean podeSeCandidatar(UUID cargoAtualId, UUID cargoDesejadoId) {
+        Matriz m = matriz();
+        Integer destino = m.destinos().get(cargoDesejadoId);
+        if (destino == null) {
+            return false;
+        }
+        Integer origem = cargoAtualId == null ? Integer.valueOf(m.semCargo()) : m.origens().get(cargoAtualId);
+        return origem != null && m.porOrigem()[origem].get(destino);
+    }
+
+    /**
+     * ID do cargo ativo com o nome exato informado.
+     */
+    public Optional<UUID> findCargoAtivoIdByNome(String nome) {
+        return nome == null ? Optional.empty() : Optional.ofNullable(matriz().destinosPorNome().get(nome));
+    }
+
+    /**
+     * Cargos atuais (e membros sem cargo) que podem se candidatar a {@code cargoDesejadoId}.
+     */
+    public Origens origensElegiveis(UUID cargoDesejadoId) {
+        Matriz m = matriz();
+        Integer destino = m.destinos().get(cargoDesejadoId);
+        if (destino == null) {
+            return new Origens(Set.of(), false);
+        }
+
+        BitSet coluna = m.porDestino()[destino];
+        Set<UUID> cargoIds = new HashSet<>();
+        for (int i = coluna.nextSetBit(0); i >= 0 && i < m.semCargo(); i = coluna.nextSetBit(i + 1)) {
+            cargoIds.add(m.origemIds()[i]);
+        }
+        return new Origens(Set.copyOf(cargoIds), coluna.get(m.semCargo()));
+    }
+
+    // === INVALIDAÇÃO ===
+
+    /**
+     * Descarta a matriz após o commit da transação corrente; a próxima consulta a reconstrói.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict();
+                }
+            });
+        } else {
+            evict();
+        }
+    }
+
+    private void evict() {
+        versao.incrementAndGet();
+        matriz = null;
+        log.debug("Matriz de elegibilidade descartada");
+    }
+}
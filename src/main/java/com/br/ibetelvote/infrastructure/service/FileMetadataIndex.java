@@ -0,0 +1,173 @@
+package com.br.ibetelvote.infrastructure.service;
+
+import com.br.ibetelvote.application.shared.dto.FileMetadata;
+import com.br.ibetelvote.domain.entities.Arquivo;
+import com.br.ibetelvote.infrastructure.repositories.ArquivoJpaRepository;
+import com.br.ibetelvote.infrastructure.storage.ObjectStorage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Índice em memória dos arquivos do armazenamento endereçado por conteúdo (originais e variantes),
+ * persistido na tabela {@code arquivos}.
+ *
+ * Com o índice carregado, existência, tipo, tamanho e data de um arquivo saem da memória, sem
+ * chamadas ao sistema de arquivos. Para chaves endereçadas por conteúdo o índice é a fonte da
+ * verdade: chave ausente é arquivo inexistente. Arquivos com nome aleatório, gravados antes do
+ * armazenamento por conteúdo, não são indexados e continuam sendo consultados no disco.
+ *
+ * Com um backend compartilhado entre nós, chaves ausentes na memória são procuradas na tabela,
+ * já que podem ter sido gravadas por outro nó depois da carga.
+ */
+@Component
+@Slf4j
+public class FileMetadataIndex {
+
+    private static final Pattern CONTENT_ADDRESSED_KEY =
+            Pattern.compile("^[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}(@[^/.]+)?\\.[a-z]+$");
+
+    private final ArquivoJpaRepository arquivoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean shared;
+    private final Map<String, FileMetadata> entries = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public FileMetadataIndex(ArquivoJpaRepository arquivoRepository,
+                             PlatformTransactionManager transactionManager,
+                             ObjectStorage objectStorage,
+                             MeterRegistry meterRegistry) {
+        this.arquivoRepository = arquivoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shared = objectStorage.isShared();
+
+        Gauge.builder("files.store.count", entries, Map::size)
+                .description("Arquivos indexados no armazenamento, incluindo variantes")
+                .register(meterRegistry);
+        Gauge.builder("files.store.bytes", entries,
+                        e -> e.values().stream().mapToLong(FileMetadata::size).sum())
+                .description("Espaço ocupado pelos arquivos indexados")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Carrega o índice da tabela. Até terminar, as consultas caem para o disco.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            for (Arquivo arquivo : arquivoRepository.findAll()) {
+                entries.putIfAbsent(arquivo.getChave(), toMetadata(arquivo));
+            }
+            loaded = true;
+            log.info("Índice de arquivos carregado: {} entradas", entries.size());
+        } catch (Exception e) {
+            log.warn("Não foi possível carregar o índice de arquivos; consultas irão ao disco: {}", e.getMessage());
+        }
+    }
+
+    // === CONSULTAS ===
+
+    public Optional<FileMetadata> find(String key) {
+        FileMetadata metadata = entries.get(key);
+        if (metadata != null || !shared || !isContentAddressed(key)) {
+            return Optional.ofNullable(metadata);
+        }
+
+        return arquivoRepository.findById(key)
+                .map(FileMetadataIndex::toMetadata)
+                .map(found -> {
+                    FileMetadata existing = entries.putIfAbsent(key, found);
+                    return existing != null ? existing : found;
+                });
+    }
+
+    /**
+     * {@code true} quando a ausência da chave no índice basta para dizer que o arquivo não existe.
+     */
+    public boolean isAuthoritative(String key) {
+        return loaded && isContentAddressed(key);
+    }
+
+    public static boolean isContentAddressed(String key) {
+        return CONTENT_ADDRESSED_KEY.matcher(key).matches();
+    }
+
+    // === ATUALIZAÇÕES ===
+
+    /**
+     * Registra o arquivo na transação corrente (ou em uma nova) e o publica no índice após o commit.
+     * Registrar de novo uma chave existente só renova {@code updated_at}.
+     */
+    public void register(FileMetadata metadata) {
+        LocalDateTime agora = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> arquivoRepository.registrar(
+                metadata.key(), metadata.contentHash(), metadata.contentType(), metadata.size(),
+                metadata.width(), metadata.height(), metadata.original(), agora));
+
+        FileMetadata indexed = new FileMetadata(metadata.key(), metadata.contentHash(), metadata.contentType(),
+                metadata.size(), metadata.width(), metadata.height(), metadata.original(), toEpochMilli(agora));
+        afterCommit(() -> entries.putIfAbsent(indexed.key(), indexed));
+    }
+
+    /**
+     * Remove o arquivo e as variantes da tabela, na transação corrente (ou em uma nova), e do índice
+     * após o commit.
+     */
+    public void remove(String key, Collection<String> variantKeys) {
+        if (!isContentAddressed(key)) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> arquivoRepository.deleteComVariantes(key));
+        afterCommit(() -> {
+            entries.remove(key);
+            variantKeys.forEach(entries::remove);
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static FileMetadata toMetadata(Arquivo arquivo) {
+        return new FileMetadata(
+                arquivo.getChave(),
+                arquivo.getHash(),
+                arquivo.getContentType(),
+                arquivo.getTamanho(),
+                arquivo.getLargura(),
+                arquivo.getAltura(),
+                arquivo.getOriginal(),
+                toEpochMilli(arquivo.getCreatedAt())
+        );
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,45 +1,138 @@
 package com.br.ibetelvote.infrastructure.service;
 
+import com.br.ibetelvote.application.shared.dto.FileMetadata;
+import com.br.ibetelvote.application.shared.dto.StoredFile;
+import com.br.ibetelvote.application.shared.dto.StoredImage;
+import com.br.ibetelvote.domain.repositories.ArquivoRepository;
 import com.br.ibetelvote.domain.services.FileStorageService;
+import com.br.ibetelvote.infrastructure.cache.FileContentCache;
+import com.br.ibetelvote.infrastructure.image.ImageInspector;
+import com.br.ibetelvote.infrastructure.image.ImageVariantGenerator;
+import com.br.ibetelvote.infrastructure.image.UploadProperties;
+import com.br.ibetelvote.infrastructure.storage.ObjectStorage;
+import com.br.ibetelvote.infrastructure.storage.StorageProperties;
 import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
 import org.apache.commons.io.FilenameUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * Armazenamento de arquivos em disco.
+ *
+ * Imagens de membros e candidatos são endereçadas pelo conteúdo: a chave é {@code ab/cd/<sha256>.<ext>},
+ * então o mesmo arquivo enviado mais de uma vez ocupa um único blob. Cada blob tem uma linha em
+ * {@code arquivos} com a contagem de referências, mantida por {@link #retain} e {@link #release}
+ * na transação de quem aponta para a chave; blobs sem referências são removidos pelo
+ * {@link OrphanFileSweepJob} depois da carência.
+ *
+ * Os metadados desses arquivos ficam no {@link FileMetadataIndex}: consultas de existência,
+ * tipo e tamanho não vão ao disco.
+ *
+ * O disco local é a cópia de trabalho; a cópia de referência fica no {@link ObjectStorage}
+ * configurado. Com um backend compartilhado, arquivos gravados por outro nó são baixados na primeira
+ * leitura, e as leituras podem ser redirecionadas para URLs pré-assinadas.
+ */
 @Service
 @Slf4j
 public class FileStorageServiceImpl implements FileStorageService {
 
     private final Path fileStorageLocation;
+    private final Path spoolLocation;
     private final String baseUrl;
+    private final FileContentCache fileContentCache;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final ImageInspector imageInspector;
+    private final UploadProperties uploadProperties;
+    private final ArquivoRepository arquivoRepository;
+    private final FileMetadataIndex fileMetadataIndex;
+    private final ObjectStorage objectStorage;
+    private final StorageProperties storageProperties;
+    private final TransactionTemplate registroTransaction;
 
-    private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "webp");
-    private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
-    private static final int MAX_WIDTH = 800;
-    private static final int MAX_HEIGHT = 600;
+    private static final Map<String, String> IMAGE_EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/webp", "webp"
+    );
+    private static final String SPOOL_DIRECTORY = ".spool";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final Pattern CONTENT_ADDRESSED_KEY = Pattern.compile("^[0-9a-f]{2}/[0-9a-f]{2}/([0-9a-f]{64})\\.[a-z]+$");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "webp", "image/webp",
+            "gif", "image/gif",
+            "pdf", "application/pdf"
+    );
 
-    public FileStorageServiceImpl(@Value("${app.file.upload-dir:./uploads}") String uploadDir,
-                                  @Value("${app.base-url:http://localhost:8080}") String baseUrl) {
+    public FileStorageServiceImpl(UploadProperties uploadProperties,
+                                  @Value("${app.base-url:http://localhost:8080}") String baseUrl,
+                                  FileContentCache fileContentCache,
+                                  ImageVariantGenerator imageVariantGenerator,
+                                  ImageInspector imageInspector,
+                                  ArquivoRepository arquivoRepository,
+                                  FileMetadataIndex fileMetadataIndex,
+                                  ObjectStorage objectStorage,
+                                  StorageProperties storageProperties,
+                                  PlatformTransactionManager transactionManager) {
+        this.uploadProperties = uploadProperties;
+        this.arquivoRepository = arquivoRepository;
+        this.fileMetadataIndex = fileMetadataIndex;
+        this.objectStorage = objectStorage;
+        this.storageProperties = storageProperties;
+        this.registroTransaction = new TransactionTemplate(transactionManager);
+        this.registroTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
         this.baseUrl = baseUrl;
-        this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.fileContentCache = fileContentCache;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.imageInspector = imageInspector;
+        this.fileStorageLocation = Paths.get(uploadProperties.getPath()).toAbsolutePath().normalize();
+        this.spoolLocation = this.fileStorageLocation.resolve(SPOOL_DIRECTORY);
 
         try {
             Files.createDirectories(this.fileStorageLocation);
         } catch (IOException e) {
             throw new RuntimeException("Não foi possível criar o diretório de upload", e);
         }
+
+        // Os jobs de upload não sobrevivem a um restart: o que ficou no spool é descartado
+        purgeSpool();
     }
 
     @Override
@@ -50,8 +143,9 @@ public class FileStorageServiceImpl implements FileStorageService {
         String fileExtension = FilenameUtils.getExtension(originalFileName).toLowerCase();
         String fileName = UUID.randomUUID().toString() + "." + fileExtension;
 
-        // Criar diretório se não existir
-        Path targetLocation = this.fileStorageLocation.resolve(directory);
+        // Um nível de subdiretório pelo início do nome evita pastas com milhares de arquivos
+        String shard = fileName.substring(0, 2);
+        Path targetLocation = this.fileStorageLocation.resolve(directory).resolve(shard);
         Files.createDirectories(targetLocation);
 
         Path filePath = targetLocation.resolve(fileName);
@@ -63,36 +157,442 @@ public class FileStorageServiceImpl implements FileStorageService {
             Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
         }
 
+        String key = directory + "/" + shard + "/" + fileName;
+        fileContentCache.invalidate(key);
+        objectStorage.put(key, filePath, CONTENT_TYPES.get(fileExtension));
+
+        if (isImageFile(fileExtension)) {
+            imageVariantGenerator.generateAsync(key, filePath);
+        }
+
         log.info("Arquivo salvo: {} -> {}", originalFileName, fileName);
-        return directory + "/" + fileName;
+        return key;
+    }
+
+    /**
+     * O tipo gravado é o da assinatura do arquivo; o {@code contentType} informado pelo cliente
+     * não é usado para decidir nada.
+     */
+    @Override
+    public StoredImage storeImage(byte[] data, String contentType) throws IOException {
+        if (data == null || data.length == 0) {
+            throw new IllegalArgumentException("Arquivo está vazio");
+        }
+        validateImageSize(data.length);
+        ImageInspector.ImageInfo info = imageInspector.inspect(data);
+        logTypeMismatch(contentType, info);
+
+        String contentHash = sha256(data);
+        String key = contentAddressedKey(contentHash, info.contentType());
+        StoredImage image = toStoredImage(key, contentHash, data.length, info);
+
+        boolean created = register(image, target -> Files.write(target, data, StandardOpenOption.CREATE_NEW));
+        if (created) {
+            imageVariantGenerator.generateAsync(key, resolvePath(key));
+        }
+
+        log.info("Imagem salva: {} ({} bytes{})", key, data.length, created ? "" : ", conteúdo já existente");
+        return image;
+    }
+
+    /**
+     * Move para o armazenamento um upload já gravado em disco por {@link #spoolUpload}, sem carregar
+     * o conteúdo no heap: o hash é calculado em blocos e tipo e dimensões saem do cabeçalho.
+     * Se o conteúdo já existir o arquivo de origem é descartado.
+     * As variantes não são geradas aqui; quem chama decide quando usar {@link #generateVariants}.
+     */
+    @Override
+    public StoredImage storeImage(Path source, String contentType) throws IOException {
+        long size = Files.size(source);
+        if (size == 0) {
+            throw new IllegalArgumentException("Arquivo está vazio");
+        }
+        validateImageSize(size);
+        ImageInspector.ImageInfo info = imageInspector.inspect(source);
+        logTypeMismatch(contentType, info);
+
+        String contentHash = sha256(source);
+        String key = contentAddressedKey(contentHash, info.contentType());
+        StoredImage image = toStoredImage(key, contentHash, size, info);
+
+        // O spool fica no mesmo sistema de arquivos: o move é só uma renomeação
+        boolean created = register(image, target -> Files.move(source, target, StandardCopyOption.ATOMIC_MOVE));
+        if (!created) {
+            Files.deleteIfExists(source);
+        }
+
+        log.info("Imagem salva: {} ({} bytes{})", key, size, created ? "" : ", conteúdo já existente");
+        return image;
+    }
+
+    /**
+     * Grava como está um conteúdo que já estava armazenado (as fotos antigas do banco), sem as
+     * validações de upload: tamanho, formato e dimensões não recusam nada. O tipo vem da assinatura
+     * ou, sem ela, do tipo informado; as dimensões ficam vazias quando o cabeçalho não for legível.
+     * As variantes só são geradas para os formatos aceitos no upload.
+     */
+    @Override
+    public StoredImage storeLegacyImage(byte[] data, String contentType) throws IOException {
+        if (data == null || data.length == 0) {
+            throw new IllegalArgumentException("Arquivo está vazio");
+        }
+        ImageInspector.ImageInfo info = imageInspector.describe(data);
+        String tipo = info.contentType() != null ? info.contentType()
+                : StringUtils.hasText(contentType) ? contentType.toLowerCase() : DEFAULT_CONTENT_TYPE;
+
+        String contentHash = sha256(data);
+        String key = contentAddressedKey(contentHash, tipo);
+        StoredImage image = new StoredImage(key, contentHash, tipo, data.length,
+                info.width() > 0 ? info.width() : null, info.height() > 0 ? info.height() : null);
+
+        boolean created = register(image, target -> Files.write(target, data, StandardOpenOption.CREATE_NEW));
+        if (created && IMAGE_EXTENSIONS.containsKey(tipo)) {
+            imageVariantGenerator.generateAsync(key, resolvePath(key));
+        }
+
+        log.info("Imagem antiga salva: {} ({}, {} bytes{})", key, tipo, data.length, created ? "" : ", conteúdo já existente");
+        return image;
+    }
+
+    /**
+     * Grava o conteúdo, se ainda não estiver no disco, e registra o blob no índice.
+     *
+     * A gravação e o envio ao backend ficam fora de transação: a chave é o hash do conteúdo, então
+     * repeti-los é inofensivo, e nenhuma conexão do pool fica presa durante a E/S. O blob chega ao
+     * backend antes do registro, então o índice nunca aponta para um objeto que os outros nós não
+     * conseguem baixar. A transação própria só trava a chave, grava a linha (o {@code updated_at}
+     * renovado reinicia a carência) e confere o disco: se a varredura de órfãos removeu o conteúdo
+     * antes da trava, ele é gravado de novo, agora protegido pela linha. Como {@link #deleteFile}
+     * apaga o backend antes do disco, conteúdo presente no disco também está no backend.
+     * Retorna {@code true} se o arquivo foi gravado agora.
+     */
+    private boolean register(StoredImage image, BlobWriter writer) throws IOException {
+        Path filePath = resolvePath(image.key());
+        boolean created = storeContent(image, filePath, writer);
+
+        Boolean present = registroTransaction.execute(status -> {
+            // Espera uma remoção do mesmo conteúdo pela varredura de órfãos terminar
+            arquivoRepository.travarChave(image.key());
+            fileMetadataIndex.register(new FileMetadata(image.key(), image.contentHash(), image.contentType(),
+                    image.size(), image.width(), image.height(), null, 0));
+            return Files.exists(filePath);
+        });
+        if (!Boolean.TRUE.equals(present)) {
+            log.info("Conteúdo {} removido pela varredura de órfãos durante o registro; gravando de novo", image.key());
+            created = storeContent(image, filePath, writer) || created;
+        }
+        return created;
+    }
+
+    private boolean storeContent(StoredImage image, Path filePath, BlobWriter writer) throws IOException {
+        if (Files.exists(filePath)) {
+            return false;
+        }
+        writeAtomically(filePath, writer);
+        objectStorage.put(image.key(), filePath, image.contentType());
+        return true;
+    }
+
+    /**
+     * Grava em um temporário ao lado do destino e renomeia, para que leitores nunca vejam o blob pela metade.
+     */
+    private void writeAtomically(Path filePath, BlobWriter writer) throws IOException {
+        Files.createDirectories(filePath.getParent());
+        Path temp = filePath.resolveSibling(".blob-" + UUID.randomUUID() + ".tmp");
+        try {
+            writer.write(temp);
+            Files.move(temp, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BlobWriter {
+        void write(Path target) throws IOException;
+    }
+
+    /**
+     * Grava o upload em um arquivo temporário dentro do armazenamento, copiando em blocos.
+     */
+    @Override
+    public Path spoolUpload(MultipartFile file) throws IOException {
+        Files.createDirectories(spoolLocation);
+        Path spooled = Files.createTempFile(spoolLocation, "upload-", ".tmp");
+        try {
+            file.transferTo(spooled);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spooled);
+            throw e;
+        }
+        return spooled;
+    }
+
+    /**
+     * Confere assinatura, tamanho e dimensões lendo só o cabeçalho, para recusar o upload
+     * antes de enfileirar o processamento.
+     */
+    @Override
+    public void validateImage(Path source) throws IOException {
+        validateImageSize(Files.size(source));
+        imageInspector.inspect(source);
+    }
+
+    @Override
+    public Set<String> generateVariants(String fileName) {
+        return imageVariantGenerator.generate(fileName, resolvePath(fileName));
     }
 
     @Override
     public void deleteFile(String fileName) {
         try {
-            Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
+            Path filePath = resolvePath(fileName);
+            List<String> variantKeys = ImageVariantGenerator.isVariantKey(fileName)
+                    ? List.of() : imageVariantGenerator.variantKeys(fileName);
+
+            fileMetadataIndex.remove(fileName, variantKeys);
+
+            // O backend sai antes do disco: quem registra o mesmo conteúdo confere só o disco
+            if (objectStorage.isShared()) {
+                objectStorage.delete(fileName);
+                for (String variantKey : variantKeys) {
+                    objectStorage.delete(variantKey);
+                }
+            }
+
             Files.deleteIfExists(filePath);
+            fileContentCache.invalidate(fileName);
+            for (String variantKey : variantKeys) {
+                Files.deleteIfExists(resolvePath(variantKey));
+                fileContentCache.invalidate(variantKey);
+            }
             log.info("Arquivo deletado: {}", fileName);
         } catch (IOException e) {
             log.error("Erro ao deletar arquivo: {}", fileName, e);
         }
     }
 
+    /**
+     * Conta mais uma referência ao blob, na transação de quem passa a apontar para ele.
+     */
+    @Override
+    @Transactional
+    public void retain(String fileName) {
+        if (fileName == null) {
+            return;
+        }
+        if (arquivoRepository.incrementarReferencias(fileName, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("Arquivo não registrado no armazenamento: " + fileName);
+        }
+    }
+
+    /**
+     * Libera uma referência ao blob; ele só é removido pela varredura de órfãos, depois da carência.
+     * Chaves anteriores ao armazenamento por conteúdo não têm registro e são removidas após o commit.
+     * Liberar um blob que já está sem referências não altera a contagem.
+     */
+    @Override
+    @Transactional
+    public void release(String fileName) {
+        if (fileName == null) {
+            return;
+        }
+        if (arquivoRepository.decrementarReferencias(fileName, LocalDateTime.now()) > 0) {
+            return;
+        }
+        if (arquivoRepository.existsById(fileName)) {
+            log.warn("Liberação ignorada: arquivo {} já está sem referências", fileName);
+            return;
+        }
+        deleteFileAfterCommit(fileName);
+    }
+
+    /**
+     * Remove o arquivo apenas depois do commit da transação corrente, para que um rollback
+     * não deixe a entidade apontando para um arquivo inexistente. Sem transação, remove na hora.
+     */
+    private void deleteFileAfterCommit(String fileName) {
+        if (fileName == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteFile(fileName);
+                }
+            });
+        } else {
+            deleteFile(fileName);
+        }
+    }
+
     @Override
     public boolean fileExists(String fileName) {
-        Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
-        return Files.exists(filePath);
+        Path filePath = resolvePath(fileName);
+        if (fileMetadataIndex.find(fileName).isPresent()) {
+            return true;
+        }
+        return !fileMetadataIndex.isAuthoritative(fileName) && Files.exists(filePath);
     }
 
     @Override
     public byte[] loadFile(String fileName) throws IOException {
-        Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
+        StoredFile storedFile = findFile(fileName)
+                .orElseThrow(() -> new IOException("Arquivo não encontrado: " + fileName));
 
-        if (!Files.exists(filePath)) {
-            throw new IOException("Arquivo não encontrado: " + fileName);
+        if (storedFile.isResident()) {
+            return storedFile.contentBytes();
         }
+        return Files.readAllBytes(storedFile.path());
+    }
+
+    @Override
+    public Optional<StoredFile> findFile(String fileName) throws IOException {
+        StoredFile cached = fileContentCache.getIfPresent(fileName);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Path filePath = resolvePath(fileName);
+        Optional<FileMetadata> metadata = fileMetadataIndex.find(fileName);
+
+        StoredFile storedFile;
+        if (metadata.isPresent()) {
+            if (objectStorage.isShared() && Files.notExists(filePath) && !objectStorage.download(fileName, filePath)) {
+                log.warn("Arquivo indexado não encontrado no armazenamento: {}", fileName);
+                return Optional.empty();
+            }
+            // Metadados do índice: cabeçalhos prontos sem tocar no disco
+            storedFile = StoredFile.onDisk(
+                    fileName,
+                    filePath,
+                    metadata.get().size(),
+                    metadata.get().createdAt(),
+                    metadata.get().contentType(),
+                    metadata.get().contentHash()
+            );
+        } else if (fileMetadataIndex.isAuthoritative(fileName)) {
+            return Optional.empty();
+        } else {
+            Optional<StoredFile> unindexed = statFile(fileName, filePath);
+            if (unindexed.isEmpty() && objectStorage.isShared() && objectStorage.download(fileName, filePath)) {
+                unindexed = statFile(fileName, filePath);
+            }
+            if (unindexed.isEmpty()) {
+                return Optional.empty();
+            }
+            storedFile = unindexed.get();
+        }
+
+        if (fileContentCache.isCacheable(storedFile.size())) {
+            try {
+                storedFile = storedFile.withContent(readDirect(filePath, storedFile.size()));
+            } catch (NoSuchFileException e) {
+                log.warn("Arquivo indexado não encontrado no disco: {}", fileName);
+                return Optional.empty();
+            }
+            fileContentCache.put(storedFile);
+        }
+
+        return Optional.of(storedFile);
+    }
+
+    /**
+     * Arquivos fora do índice: uma única chamada de stat para existência, tamanho e data de modificação.
+     */
+    private Optional<StoredFile> statFile(String fileName, Path filePath) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+
+        if (!attributes.isRegularFile()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(StoredFile.onDisk(
+                fileName,
+                filePath,
+                attributes.size(),
+                attributes.lastModifiedTime().toMillis(),
+                CONTENT_TYPES.get(FilenameUtils.getExtension(fileName).toLowerCase()),
+                contentHashOf(fileName)
+        ));
+    }
+
+    /**
+     * Busca a variante da imagem no formato preferido pelo cliente (WEBP quando aceito, senão JPEG).
+     * Sem variante gerada, devolve o original e agenda a geração para as próximas leituras.
+     */
+    @Override
+    public Optional<StoredFile> findImage(String fileName, String variant, boolean acceptsWebp) throws IOException {
+        for (String candidate : imageCandidates(fileName, variant, acceptsWebp)) {
+            Optional<StoredFile> file = findFile(candidate);
+            if (file.isPresent()) {
+                if (candidate.equals(fileName) && isVariantRequest(fileName, variant)) {
+                    imageVariantGenerator.generateAsync(fileName, file.get().path());
+                }
+                return file;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * URL pré-assinada do arquivo que {@link #findImage} serviria, resolvida só pelo índice.
+     * Vazio quando o redirecionamento está desligado, o backend não assina URLs ou o arquivo não é indexado.
+     */
+    @Override
+    public Optional<String> findRedirectUrl(String fileName, String variant, boolean acceptsWebp) throws IOException {
+        if (!storageProperties.isRedirect()) {
+            return Optional.empty();
+        }
+
+        for (String candidate : imageCandidates(fileName, variant, acceptsWebp)) {
+            Optional<FileMetadata> metadata = fileMetadataIndex.find(candidate);
+            if (metadata.isPresent()) {
+                if (candidate.equals(fileName) && isVariantRequest(fileName, variant)) {
+                    // A geração precisa do original em disco; findFile o baixa se preciso
+                    findFile(fileName).ifPresent(file -> imageVariantGenerator.generateAsync(fileName, file.path()));
+                }
+                return objectStorage.presignedGet(candidate, metadata.get().contentType(), storageProperties.getPresignTtl())
+                        .map(Object::toString);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Chaves a tentar, em ordem: variante em WEBP (se aceito), variante em JPEG e o original.
+     */
+    private List<String> imageCandidates(String fileName, String variant, boolean acceptsWebp) {
+        if (!isVariantRequest(fileName, variant)) {
+            return List.of(fileName);
+        }
+
+        if (!imageVariantGenerator.hasVariant(variant)) {
+            throw new IllegalArgumentException("Variante de imagem inválida: " + variant);
+        }
+
+        List<String> candidates = new ArrayList<>(3);
+        if (acceptsWebp && imageVariantGenerator.supportsFormat("webp")) {
+            candidates.add(imageVariantGenerator.variantKey(fileName, variant, "webp"));
+        }
+        if (imageVariantGenerator.supportsFormat("jpeg")) {
+            candidates.add(imageVariantGenerator.variantKey(fileName, variant, "jpeg"));
+        }
+        candidates.add(fileName);
+        return candidates;
+    }
 
-        return Files.readAllBytes(filePath);
+    private boolean isVariantRequest(String fileName, String variant) {
+        return variant != null && !ImageVariantGenerator.ORIGINAL.equals(variant)
+                && !ImageVariantGenerator.isVariantKey(fileName)
+                && isImageFile(FilenameUtils.getExtension(fileName));
     }
 
     @Override
@@ -100,13 +600,126 @@ public class FileStorageServiceImpl implements FileStorageService {
         return baseUrl + "/api/v1/files/" + fileName;
     }
 
+    /**
+     * {@code ab/cd/<sha256>.<ext>}: dois níveis de diretório evitam pastas com milhares de arquivos.
+     */
+    private static String contentAddressedKey(String contentHash, String contentType) {
+        return contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/"
+                + contentHash + "." + extensionFor(contentType);
+    }
+
+    /**
+     * Extensão da chave: a dos formatos de upload, a de {@link #CONTENT_TYPES} ou o subtipo do MIME
+     * (fotos antigas podem ser GIF, HEIC etc.); {@code bin} se nada servir.
+     */
+    private static String extensionFor(String contentType) {
+        String extension = IMAGE_EXTENSIONS.get(contentType);
+        if (extension != null) {
+            return extension;
+        }
+        for (Map.Entry<String, String> entry : CONTENT_TYPES.entrySet()) {
+            if (entry.getValue().equals(contentType)) {
+                return entry.getKey();
+            }
+        }
+        String subtype = contentType.substring(contentType.indexOf('/') + 1).replaceAll("[^a-z]", "");
+        return contentType.startsWith("image/") && !subtype.isEmpty() ? subtype : "bin";
+    }
+
+    /**
+     * Hash do conteúdo embutido na chave; variantes e arquivos com nome aleatório não têm.
+     */
+    private static String contentHashOf(String fileName) {
+        Matcher matcher = CONTENT_ADDRESSED_KEY.matcher(fileName);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private void purgeSpool() {
+        if (!Files.isDirectory(spoolLocation)) {
+            return;
+        }
+        try (var spooled = Files.list(spoolLocation)) {
+            spooled.forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("Não foi possível remover o arquivo temporário {}: {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Não foi possível limpar o spool de uploads: {}", e.getMessage());
+        }
+    }
+
+    private void validateImageSize(long size) {
+        if (size > uploadProperties.getMaxFileSize().toBytes()) {
+            throw new IllegalArgumentException("Arquivo muito grande. Máximo permitido: " + uploadProperties.getMaxFileSize());
+        }
+    }
+
+    private void logTypeMismatch(String declaredType, ImageInspector.ImageInfo info) {
+        if (declaredType != null && !declaredType.equalsIgnoreCase(info.contentType())) {
+            log.debug("Tipo informado {} difere do conteúdo ({}); usando o do conteúdo", declaredType, info.contentType());
+        }
+    }
+
+    private StoredImage toStoredImage(String key, String contentHash, long size, ImageInspector.ImageInfo info) {
+        return new StoredImage(key, contentHash, info.contentType(), size, info.width(), info.height());
+    }
+
+    private String sha256(byte[] data) {
+        return HexFormat.of().formatHex(sha256Digest().digest(data));
+    }
+
+    private String sha256(Path path) throws IOException {
+        MessageDigest digest = sha256Digest();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream input = Files.newInputStream(path)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    }
+
+    /**
+     * Lê o arquivo para um buffer direto, fora do heap.
+     */
+    private ByteBuffer readDirect(Path filePath, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // lê até preencher o buffer ou chegar ao fim do arquivo
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private Path resolvePath(String fileName) {
+        Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
+        if (!filePath.startsWith(this.fileStorageLocation) || filePath.startsWith(this.spoolLocation)) {
+            throw new IllegalArgumentException("Caminho de arquivo inválido: " + fileName);
+        }
+        return filePath;
+    }
+
     private void validateFile(MultipartFile file) {
         if (file.isEmpty()) {
             throw new IllegalArgumentException("Arquivo está vazio");
         }
 
-        if (file.getSize() > MAX_FILE_SIZE) {
-            throw new IllegalArgumentException("Arquivo muito grande. Máximo permitido: 5MB");
+        if (file.getSize() > uploadProperties.getMaxFileSize().toBytes()) {
+            throw new IllegalArgumentException("Arquivo muito grande. Máximo permitido: " + uploadProperties.getMaxFileSize());
         }
 
         String originalFileName = file.getOriginalFilename();
@@ -115,9 +728,10 @@ public class FileStorageServiceImpl implements FileStorageService {
         }
 
         String fileExtension = FilenameUtils.getExtension(originalFileName).toLowerCase();
-        if (!ALLOWED_EXTENSIONS.contains(fileExtension)) {
+        List<String> allowedExtensions = uploadProperties.getAllowedExtensions();
+        if (!allowedExtensions.contains(fileExtension)) {
             throw new IllegalArgumentException("Tipo de arquivo não permitido. Permitidos: " +
-                    String.join(", ", ALLOWED_EXTENSIONS));
+                    String.join(", ", allowedExtensions));
         }
     }
 
@@ -125,11 +739,28 @@ public class FileStorageServiceImpl implements FileStorageService {
         return Arrays.asList("jpg", "jpeg", "png", "webp").contains(extension.toLowerCase());
     }
 
+    /**
+     * Valida pelo cabeçalho e decodifica com subamostragem antes de redimensionar: o raster em memória
+     * fica próximo do tamanho final, não do tamanho enviado.
+     */
     private void processImageFile(MultipartFile file, Path filePath) throws IOException {
-        Thumbnails.of(file.getInputStream())
-                .size(MAX_WIDTH, MAX_HEIGHT)
+        UploadProperties.Image image = uploadProperties.getImage();
+        try (InputStream input = file.getInputStream()) {
+            imageInspector.inspect(input);
+        }
+
+        BufferedImage decoded;
+        try (InputStream input = file.getInputStream()) {
+            decoded = imageInspector.decode(input, image.getMaxWidth(), image.getMaxHeight());
+        }
+        if (decoded == null) {
+            throw new IllegalArgumentException("Formato de imagem não suportado");
+        }
+
+        Thumbnails.of(decoded)
+                .size(image.getMaxWidth(), image.getMaxHeight())
                 .keepAspectRatio(true)
-                .outputQuality(0.8)
+                .outputQuality(image.getQuality())
                 .toFile(filePath.toFile());
     }
 }
\ No newline at end of file
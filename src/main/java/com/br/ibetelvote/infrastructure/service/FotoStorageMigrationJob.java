@@ -0,0 +1,312 @@
+package com.br.ibetelvote.infrastructure.service;
+
+import com.br.ibetelvote.application.shared.dto.StoredImage;
+import com.br.ibetelvote.domain.services.FileStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.Blob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Migra as fotos antigas, gravadas em colunas LOB de {@code membros} e {@code candidatos},
+ * para o {@link FileStorageService}.
+ *
+ * A migração é uma etapa bloqueante da inicialização: roda depois que os beans são criados e antes
+ * de o servidor web aceitar requisições, porque as entidades já não leem as colunas antigas e uma
+ * foto ainda não migrada apareceria como ausente. Cada passagem percorre a tabela em lotes, em ordem
+ * de id, uma linha por transação.
+ *
+ * O conteúdo é gravado como está por {@link FileStorageService#storeLegacyImage}: as regras de upload
+ * (tamanho, formato, dimensões) não valem para fotos que o sistema já aceitou. Uma linha que mesmo
+ * assim não pode ser migrada (conteúdo vazio) é registrada no log e na métrica como {@code ignorada}
+ * e fica com a foto na coluna antiga. Só falhas de disco, backend ou banco são tentadas de novo, em
+ * passagens seguintes até {@code max-attempts}; se ainda restarem, a inicialização é interrompida,
+ * a não ser que {@code fail-on-error} esteja desligado.
+ *
+ * A referência do arquivo é gravada com um UPDATE condicional: se a linha já tiver uma foto nova, o
+ * arquivo migrado fica sem referências e é descartado pela varredura de órfãos. As colunas antigas só
+ * são zeradas; quando elas forem removidas do banco a etapa não faz nada.
+ */
+@Component
+@Slf4j
+public class FotoStorageMigrationJob implements SmartInitializingSingleton {
+
+    private static final List<Alvo> ALVOS = List.of(
+            new Alvo("membros", "foto"),
+            new Alvo("candidatos", "foto_campanha")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FileStorageService fileStorageService;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final boolean failOnError;
+
+    public FotoStorageMigrationJob(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   FileStorageService fileStorageService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.file.photo-migration.enabled:true}") boolean enabled,
+                                   @Value("${app.file.photo-migration.batch-size:50}") int batchSize,
+                                   @Value("${app.file.photo-migration.max-attempts:3}") int maxAttempts,
+                                   @Value("${app.file.photo-migration.retry-delay:5s}") Duration retryDelay,
+                                   @Value("${app.file.photo-migration.fail-on-error:true}") boolean failOnError) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fileStorageService = fileStorageService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelay = retryDelay;
+        this.failOnError = failOnError;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        for (Alvo alvo : ALVOS) {
+            migrarTabela(alvo);
+        }
+    }
+
+    // === TABELA ===
+
+    private void migrarTabela(Alvo alvo) {
+        if (!possuiColunaAntiga(alvo)) {
+            log.debug("Coluna {}.{} não existe mais; nada a migrar", alvo.tabela(), alvo.coluna("data"));
+            return;
+        }
+
+        Set<UUID> ignoradas = new LinkedHashSet<>();
+        Set<UUID> falhas = Set.of();
+        for (int tentativa = 1; tentativa <= maxAttempts; tentativa++) {
+            falhas = migrarPendentes(alvo, ignoradas);
+            if (falhas.isEmpty()) {
+                if (ignoradas.isEmpty()) {
+                    log.info("Fotos de {} migradas para o armazenamento de arquivos", alvo.tabela());
+                } else {
+                    log.error("Fotos de {} migradas, exceto {} que não podem ser migradas e continuam no banco: {}",
+                            alvo.tabela(), ignoradas.size(), ignoradas);
+                }
+                return;
+            }
+            if (tentativa < maxAttempts) {
+                log.warn("Fotos de {} com falha na migração: {}. Nova tentativa {}/{} em {}",
+                        alvo.tabela(), falhas.size(), tentativa + 1, maxAttempts, retryDelay);
+                aguardar();
+            }
+        }
+
+        String mensagem = "Migração de fotos de " + alvo.tabela() + " incompleta após " + maxAttempts
+                + " tentativas; linhas pendentes: " + falhas;
+        if (failOnError) {
+            throw new IllegalStateException(mensagem);
+        }
+        log.error(mensagem);
+    }
+
+    /**
+     * Percorre a tabela inteira uma vez, pulando as linhas já ignoradas. Retorna os ids com falha
+     * transitória; as linhas que não podem ser migradas entram em {@code ignoradas}.
+     */
+    private Set<UUID> migrarPendentes(Alvo alvo, Set<UUID> ignoradas) {
+        Set<UUID> falhas = new LinkedHashSet<>();
+        UUID cursor = new UUID(0, 0);
+        while (true) {
+            List<UUID> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM " + alvo.tabela() + " WHERE " + alvo.coluna("data") + " IS NOT NULL"
+                            + " AND id > ? ORDER BY id LIMIT ?",
+                    UUID.class, cursor, batchSize);
+            if (ids.isEmpty()) {
+                return falhas;
+            }
+
+            int migrados = 0;
+            for (UUID id : ids) {
+                if (ignoradas.contains(id)) {
+                    continue;
+                }
+                switch (migrarFoto(alvo, id)) {
+                    case MIGRADA -> migrados++;
+                    case FALHA -> falhas.add(id);
+                    case IGNORADA -> ignoradas.add(id);
+                }
+            }
+
+            cursor = ids.get(ids.size() - 1);
+            log.info("Fotos de {} migradas: {} (falhas: {}, ignoradas: {})",
+                    alvo.tabela(), migrados, falhas.size(), ignoradas.size());
+        }
+    }
+
+    private boolean possuiColunaAntiga(Alvo alvo) {
+        Integer colunas = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns"
+                        + " WHERE table_schema = current_schema() AND table_name = ? AND column_name = ?",
+                Integer.class, alvo.tabela(), alvo.coluna("data"));
+        return colunas != null && colunas > 0;
+    }
+
+    private void aguardar() {
+        try {
+            Thread.sleep(retryDelay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Migração de fotos interrompida", e);
+        }
+    }
+
+    // === LINHA ===
+
+    /**
+     * {@link IllegalArgumentException} vem de um conteúdo que nenhuma nova tentativa vai mudar;
+     * as demais exceções são de disco, backend ou banco.
+     */
+    private Situacao migrarFoto(Alvo alvo, UUID id) {
+        try {
+            Boolean migrado = transactionTemplate.execute(status -> jdbcTemplate.query(
+                    "SELECT " + alvo.coluna("data") + ", " + alvo.coluna("tipo") + ", " + alvo.coluna("key")
+                            + " FROM " + alvo.tabela() + " WHERE id = ? FOR UPDATE",
+                    rs -> rs.next() && migrarLinha(alvo, id, rs),
+                    id));
+            return Boolean.TRUE.equals(migrado) ? Situacao.MIGRADA : Situacao.FALHA;
+        } catch (IllegalArgumentException e) {
+            log.error("Foto de {} {} não pode ser migrada e continua no banco: {}", alvo.tabela(), id, e.getMessage());
+            contar(alvo, "ignorada");
+            return Situacao.IGNORADA;
+        } catch (Exception e) {
+            log.warn("Não foi possível migrar a foto de {} {}: {}", alvo.tabela(), id, e.getMessage());
+            contar(alvo, "falha");
+            return Situacao.FALHA;
+        }
+    }
+
+    private boolean migrarLinha(Alvo alvo, UUID id, ResultSet rs) throws SQLException {
+        boolean largeObject = isLargeObject(rs.getMetaData().getColumnType(1));
+        long oid = largeObject ? rs.getLong(1) : 0;
+
+        // Linha que já recebeu foto nova pelo fluxo atual: só descarta o conteúdo antigo
+        if (rs.getString(3) != null) {
+            limparColunaAntiga(alvo, id, largeObject, oid);
+            contar(alvo, "descartada");
+            return true;
+        }
+
+        byte[] data = largeObject ? readBlob(rs.getBlob(1)) : rs.getBytes(1);
+
+        // O tipo gravado sai da assinatura do conteúdo; a coluna antiga nem sempre está preenchida
+        StoredImage image;
+        try {
+            image = fileStorageService.storeLegacyImage(data, rs.getString(2));
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao gravar arquivo", e);
+        }
+
+        int atualizadas = jdbcTemplate.update(
+                "UPDATE " + alvo.tabela() + " SET "
+                        + alvo.coluna("key") + " = ?, "
+                        + alvo.coluna("hash") + " = ?, "
+                        + alvo.coluna("tipo") + " = ?, "
+                        + alvo.coluna("tamanho") + " = ?, "
+                        + alvo.coluna("largura") + " = ?, "
+                        + alvo.coluna("altura") + " = ?, "
+                        + alvo.coluna("data") + " = NULL"
+                        + " WHERE id = ? AND " + alvo.coluna("key") + " IS NULL",
+                image.key(), image.contentHash(), image.contentType(), image.size(),
+                image.width(), image.height(), id);
+
+        // Sem linha atualizada o blob fica sem referências e sai na varredura de órfãos
+        if (atualizadas == 0) {
+            return false;
+        }
+
+        fileStorageService.retain(image.key());
+
+        if (largeObject) {
+            unlink(oid);
+        }
+        contar(alvo, "migrada");
+        return true;
+    }
+
+    private void limparColunaAntiga(Alvo alvo, UUID id, boolean largeObject, long oid) {
+        jdbcTemplate.update("UPDATE " + alvo.tabela() + " SET " + alvo.coluna("data") + " = NULL WHERE id = ?", id);
+        if (largeObject) {
+            unlink(oid);
+        }
+    }
+
+    // === LOB ===
+
+    /**
+     * Colunas {@code oid} aparecem como BIGINT/BLOB no driver do PostgreSQL; {@code bytea} como BINARY.
+     */
+    private static boolean isLargeObject(int sqlType) {
+        return sqlType == Types.BIGINT || sqlType == Types.BLOB;
+    }
+
+    private static byte[] readBlob(Blob blob) throws SQLException {
+        if (blob == null) {
+            return new byte[0];
+        }
+        try {
+            return blob.getBytes(1, (int) blob.length());
+        } finally {
+            blob.free();
+        }
+    }
+
+    /**
+     * Remove o large object órfão; sem isso o conteúdo continuaria ocupando {@code pg_largeobject}.
+     */
+    private void unlink(long oid) {
+        if (oid != 0) {
+            jdbcTemplate.queryForObject("SELECT lo_unlink(?)", Integer.class, oid);
+        }
+    }
+
+    private void contar(Alvo alvo, String resultado) {
+        Counter.builder("files.photo.migration")
+                .description("Fotos migradas do banco para o armazenamento de arquivos")
+                .tag("entidade", alvo.tabela())
+                .tag("resultado", resultado)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private enum Situacao {
+        MIGRADA, FALHA, IGNORADA
+    }
+
+    /**
+     * Tabela de origem e prefixo das colunas de foto.
+     */
+    private record Alvo(String tabela, String prefixo) {
+        String coluna(String sufixo) {
+            return prefixo + "_" + sufixo;
+        }
+    }
+}
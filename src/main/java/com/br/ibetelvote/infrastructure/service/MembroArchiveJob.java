@@ -0,0 +1,257 @@
+package com.br.ibetelvote.infrastructure.service;
+
+import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.domain.events.EntidadeAlteradaEvent.Operacao;
+import com.br.ibetelvote.domain.services.FileStorageService;
+import com.br.ibetelvote.infrastructure.cache.MembroListCache;
+import com.br.ibetelvote.infrastructure.cache.MembroStatsCache;
+import com.br.ibetelvote.infrastructure.events.EntidadeEventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Arquiva os membros inativos há muito tempo em {@code membros_arquivo}.
+ *
+ * Na tabela {@code membros} fica só um registro mínimo (id, nome, CPF, email, cargo, usuário e
+ * situação), que mantém as chaves de votos e candidatos e a unicidade de CPF e email; contatos,
+ * dados da igreja, observações e a referência da foto vão para o arquivo. A foto continua no
+ * {@link com.br.ibetelvote.domain.services.FileStorageService}: a referência só muda de tabela e
+ * a contagem em {@code arquivos} não muda, então a varredura de órfãos não remove o blob.
+ *
+ * Cada lote é copiado e limpo em um único comando, na mesma transação. O comando passa por fora do
+ * JPA, então os ids arquivados são publicados no {@link EntidadeEventBus} após o commit, como
+ * qualquer alteração de membro, e os caches de listagem e estatísticas são descartados. A reativação pelo
+ * {@code MembroService} chama {@link #restaurar(Membro)}, que devolve os dados ao membro; a exclusão
+ * chama {@link #descartar(Membro)}, que libera a foto arquivada.
+ */
+@Component
+@Slf4j
+public class MembroArchiveJob {
+
+    private static final List<String> COLUNAS = List.of(
+            "data_nascimento", "departamento", "data_batismo", "data_membro_desde",
+            "telefone", "celular", "endereco", "cidade", "estado", "cep",
+            "foto_key", "foto_hash", "foto_tipo", "foto_nome", "foto_tamanho", "foto_largura", "foto_altura",
+            "observacoes"
+    );
+
+    private static final String ARQUIVAR_SQL = """
+            WITH alvo AS (
+                SELECT id FROM membros
+                WHERE ativo = false AND arquivado_em IS NULL AND updated_at < ?
+                ORDER BY updated_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), copia AS (
+                INSERT INTO membros_arquivo (membro_id, %1$s, arquivado_em)
+                SELECT m.id, %2$s, ? FROM membros m JOIN alvo ON alvo.id = m.id
+                ON CONFLICT (membro_id) DO UPDATE SET %3$s, arquivado_em = EXCLUDED.arquivado_em
+                RETURNING membro_id
+            )
+            UPDATE membros m SET %4$s, arquivado_em = ?, updated_at = ?
+            FROM copia WHERE m.id = copia.membro_id
+            RETURNING m.id
+            """.formatted(
+            String.join(", ", COLUNAS),
+            COLUNAS.stream().map(c -> "m." + c).collect(Collectors.joining(", ")),
+            COLUNAS.stream().map(c -> c + " = EXCLUDED." + c).collect(Collectors.joining(", ")),
+            COLUNAS.stream().map(c -> c + " = NULL").collect(Collectors.joining(", ")));
+
+    private static final String RESTAURAR_SQL =
+            "SELECT " + String.join(", ", COLUNAS) + " FROM membros_arquivo WHERE membro_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MembroListCache membroListCache;
+    private final MembroStatsCache membroStatsCache;
+    private final MembroSearchIndex membroSearchIndex;
+    private final EntidadeEventBus eventBus;
+    private final FileStorageService fileStorageService;
+    private final Counter arquivadosCounter;
+    private final Counter restauradosCounter;
+    private final boolean enabled;
+    private final Duration inatividade;
+    private final int batchSize;
+    private final int maxLotes;
+
+    public MembroArchiveJob(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            MembroListCache membroListCache,
+                            MembroStatsCache membroStatsCache,
+                            MembroSearchIndex membroSearchIndex,
+                            EntidadeEventBus eventBus,
+                            FileStorageService fileStorageService,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.membros.arquivamento.enabled:false}") boolean enabled,
+                            @Value("${app.membros.arquivamento.inatividade:365d}") Duration inatividade,
+                            @Value("${app.membros.arquivamento.batch-size:500}") int batchSize,
+                            @Value("${app.membros.arquivamento.max-lotes:20}") int maxLotes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.membroListCache = membroListCache;
+        this.membroStatsCache = membroStatsCache;
+        this.membroSearchIndex = membroSearchIndex;
+        this.eventBus = eventBus;
+        this.fileStorageService = fileStorageService;
+        this.arquivadosCounter = Counter.builder("membros.arquivados")
+                .description("Membros inativos movidos para o arquivo")
+                .register(meterRegistry);
+        this.restauradosCounter = Counter.builder("membros.restaurados")
+                .description("Membros reativados com os dados trazidos de volta do arquivo")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.inatividade = inatividade;
+        this.batchSize = batchSize;
+        this.maxLotes = maxLotes;
+    }
+
+    // === ARQUIVAMENTO ===
+
+    @Scheduled(initialDelayString = "${app.membros.arquivamento.initial-delay:300000}",
+            fixedDelayString = "${app.membros.arquivamento.interval:86400000}")
+    public void arquivarInativos() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime limite = LocalDateTime.now().minus(inatividade);
+        int total = 0;
+        try {
+            for (int lote = 0; lote < maxLotes; lote++) {
+                int arquivados = arquivarLote(limite);
+                total += arquivados;
+                if (arquivados < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            // Tabela de arquivo ainda não criada ou banco indisponível: tenta de novo na próxima execução
+            log.warn("Falha ao arquivar membros inativos: {}", e.getMessage());
+        }
+
+        if (total > 0) {
+            arquivadosCounter.increment(total);
+            membroListCache.invalidate();
+            membroStatsCache.invalidate();
+            log.info("Membros inativos arquivados: {}", total);
+        }
+    }
+
+    private int arquivarLote(LocalDateTime limite) {
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        List<UUID> arquivados = transactionTemplate.execute(status -> {
+            List<UUID> ids = jdbcTemplate.queryForList(ARQUIVAR_SQL, UUID.class,
+                    Timestamp.valueOf(limite), batchSize, agora, agora, agora);
+            // Perfis em cache e o índice de busca são atualizados após o commit do lote
+            for (UUID id : ids) {
+                eventBus.publicarAposCommit(Membro.class, id, Operacao.ALTERADA);
+                membroSearchIndex.remove(id);
+            }
+            return ids;
+        });
+        return arquivados != null ? arquivados.size() : 0;
+    }
+
+    // === RESTAURAÇÃO ===
+
+    /**
+     * Devolve ao membro os dados arquivados e remove a linha do arquivo. Deve ser chamado dentro da
+     * transação que salva o membro. Campos já preenchidos no membro, como os de uma edição feita
+     * depois do arquivamento, são mantidos.
+     */
+    public void restaurar(Membro membro) {
+        if (!membro.isArquivado()) {
+            return;
+        }
+
+        String fotoArquivada = jdbcTemplate.query(RESTAURAR_SQL, rs -> {
+            if (!rs.next()) {
+                log.warn("Membro {} marcado como arquivado sem linha em membros_arquivo", membro.getId());
+                return null;
+            }
+            String chave = rs.getString("foto_key");
+            return preencher(rs, membro) ? null : chave;
+        }, membro.getId());
+
+        jdbcTemplate.update("DELETE FROM membros_arquivo WHERE membro_id = ?", membro.getId());
+        // Foto enviada depois do arquivamento: a arquivada perde a referência que o arquivo mantinha
+        fileStorageService.release(fotoArquivada);
+        membro.setArquivadoEm(null);
+        restauradosCounter.increment();
+        log.info("Dados arquivados restaurados para o membro ID: {}", membro.getId());
+    }
+
+    /**
+     * Remove a linha do arquivo de um membro que vai ser excluído e libera a foto arquivada.
+     */
+    public void descartar(Membro membro) {
+        if (!membro.isArquivado()) {
+            return;
+        }
+
+        jdbcTemplate.queryForList("DELETE FROM membros_arquivo WHERE membro_id = ? RETURNING foto_key",
+                        String.class, membro.getId())
+                .forEach(fileStorageService::release);
+    }
+
+    /**
+     * Preenche os campos vazios do membro. Retorna {@code false} se a foto arquivada não foi restaurada.
+     */
+    private static boolean preencher(ResultSet rs, Membro membro) throws SQLException {
+        restaurarSeVazio(membro::getDataNascimento, membro::setDataNascimento, data(rs, "data_nascimento"));
+        restaurarSeVazio(membro::getDepartamento, membro::setDepartamento, rs.getString("departamento"));
+        restaurarSeVazio(membro::getDataBatismo, membro::setDataBatismo, data(rs, "data_batismo"));
+        restaurarSeVazio(membro::getDataMembroDesde, membro::setDataMembroDesde, data(rs, "data_membro_desde"));
+        restaurarSeVazio(membro::getTelefone, membro::setTelefone, rs.getString("telefone"));
+        restaurarSeVazio(membro::getCelular, membro::setCelular, rs.getString("celular"));
+        restaurarSeVazio(membro::getEndereco, membro::setEndereco, rs.getString("endereco"));
+        restaurarSeVazio(membro::getCidade, membro::setCidade, rs.getString("cidade"));
+        restaurarSeVazio(membro::getEstado, membro::setEstado, rs.getString("estado"));
+        restaurarSeVazio(membro::getCep, membro::setCep, rs.getString("cep"));
+        restaurarSeVazio(membro::getObservacoes, membro::setObservacoes, rs.getString("observacoes"));
+
+        // A foto volta inteira ou não volta: uma foto enviada após o arquivamento prevalece
+        if (membro.getFotoKey() != null) {
+            return false;
+        }
+        membro.setFotoKey(rs.getString("foto_key"));
+        membro.setFotoHash(rs.getString("foto_hash"));
+        membro.setFotoTipo(rs.getString("foto_tipo"));
+        membro.setFotoNome(rs.getString("foto_nome"));
+        membro.setFotoTamanho(rs.getObject("foto_tamanho", Long.class));
+        membro.setFotoLargura(rs.getObject("foto_largura", Integer.class));
+        membro.setFotoAltura(rs.getObject("foto_altura", Integer.class));
+        return true;
+    }
+
+    private static <T> void restaurarSeVazio(Supplier<T> atual, Consumer<T> setter, T arquivado) {
+        if (atual.get() == null && arquivado != null) {
+            setter.accept(arquivado);
+        }
+    }
+
+    private static LocalDate data(ResultSet rs, String coluna) throws SQLException {
+        Date data = rs.getDate(coluna);
+        return data != null ? data.toLocalDate() : null;
+    }
+}
@@ -0,0 +1,451 @@
+package com.br.ibetelvote.infrastructure.service;
+
+import com.br.ibetelvote.application.membro.dto.MembroBasicInfo;
+import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.domain.events.EntidadeAlteradaEvent;
+import com.br.ibetelvote.infrastructure.events.EntidadeEventBus;
+import com.br.ibetelvote.infrastructure.repositories.MembroJpaRepository;
+import com.br.ibetelvote.infrastructure.repositories.projections.MembroBuscaView;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice em memória dos membros ativos para a busca incremental (caixa de busca do admin e seleção
+ * de membro no cadastro de candidatos).
+ *
+ * Nome, e-mail e CPF são normalizados (minúsculas, sem acentos; CPF só com dígitos) e quebrados em
+ * trigramas. Uma busca intersecta as listas dos trigramas de cada termo e confirma os candidatos no
+ * texto normalizado, sem ir ao banco. Termos com menos de três caracteres casam só pelo início das
+ * palavras.
+ *
+ * Cada alteração de membro entregue pelo {@link EntidadeEventBus} relê só a linha do membro. O índice
+ * também é reconstruído periodicamente a partir da tabela, o que cobre o que não gera evento
+ * (renomear um cargo, outro nó da aplicação); a importação reconstrói e o arquivamento remove
+ * explicitamente, já que gravam sem passar pelo JPA.
+ */
+@Component
+@Slf4j
+public class MembroSearchIndex {
+
+    private static final int GRAM = 3;
+    private static final int MAX_INTERSECTED_LISTS = 3;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALNUM = Pattern.compile("[^\\p{Alnum}@._+-]+");
+    private static final Pattern NON_DIGIT = Pattern.compile("\\D");
+    private static final Pattern CPF_QUERY = Pattern.compile("[\\d.\\-]+");
+
+    private static final Comparator<Match> RANKING = Comparator
+            .comparingInt(Match::rank)
+            .thenComparing(match -> match.entry().nomeNormalizado())
+            .thenComparing(match -> match.entry().id());
+
+    private final MembroJpaRepository membroRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timer searchTimer;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<UUID, Entry> entries = new HashMap<>();
+    private Map<String, Set<UUID>> postings = new HashMap<>();
+    private Set<UUID> touchedDuringRebuild;
+    private volatile boolean loaded;
+
+    public MembroSearchIndex(MembroJpaRepository membroRepository,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             EntidadeEventBus eventBus) {
+        this.membroRepository = membroRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.searchTimer = Timer.builder("membros.search")
+                .description("Tempo das buscas no índice de membros")
+                .register(meterRegistry);
+        Gauge.builder("membros.search.entries", this, MembroSearchIndex::size)
+                .description("Membros ativos no índice de busca")
+                .register(meterRegistry);
+
+        eventBus.subscribe(Membro.class, this::recarregar);
+    }
+
+    // === CARGA ===
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * Reconstrói o índice a partir da tabela, lendo só as colunas indexadas e o nome do cargo em um
+     * único SELECT. As buscas continuam no índice anterior até a troca; membros alterados durante a
+     * carga mantêm o estado mais recente.
+     */
+    @Scheduled(initialDelayString = "${app.membros.search.rebuild-interval:600000}",
+            fixedDelayString = "${app.membros.search.rebuild-interval:600000}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            touchedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            List<Entry> carregados = readOnlyTransaction.execute(status ->
+                    membroRepository.findBuscaAtivos().stream().map(MembroSearchIndex::toEntry).toList());
+
+            Map<UUID, Entry> novasEntradas = new HashMap<>();
+            Map<String, Set<UUID>> novasListas = new HashMap<>();
+            for (Entry entry : carregados) {
+                add(entry, novasEntradas, novasListas);
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (UUID id : touchedDuringRebuild) {
+                    remove(id, novasEntradas, novasListas);
+                    Entry atual = entries.get(id);
+                    if (atual != null) {
+                        add(atual, novasEntradas, novasListas);
+                    }
+                }
+                entries = novasEntradas;
+                postings = novasListas;
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.debug("Índice de busca de membros carregado: {} membros ativos", novasEntradas.size());
+        } catch (Exception e) {
+            log.warn("Não foi possível carregar o índice de busca de membros: {}", e.getMessage());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                touchedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // === ATUALIZAÇÕES ===
+
+    /**
+     * Relê o membro alterado, já confirmado no banco. Membros removidos, inativos ou não encontrados
+     * saem do índice. Como a leitura é sempre do estado atual, eventos fora de ordem não deixam
+     * uma versão antiga no índice.
+     */
+    private void recarregar(EntidadeAlteradaEvent event) {
+        UUID id = event.id();
+        Entry entry = event.operacao() == EntidadeAlteradaEvent.Operacao.REMOVIDA ? null
+                : readOnlyTransaction.execute(status ->
+                        membroRepository.findBuscaAtivoById(id).map(MembroSearchIndex::toEntry).orElse(null));
+        apply(id, entry);
+    }
+
+    /**
+     * Remove o membro do índice após o commit da transação corrente.
+     */
+    public void remove(UUID id) {
+        afterCommit(() -> apply(id, null));
+    }
+
+    private void apply(UUID id, Entry entry) {
+        lock.writeLock().lock();
+        try {
+            remove(id, entries, postings);
+            if (entry != null) {
+                add(entry, entries, postings);
+            }
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // === BUSCA ===
+
+    /**
+     * Busca membros ativos cujo nome, e-mail ou CPF contenham todos os termos da consulta,
+     * ignorando acentos e maiúsculas. Os resultados vêm ordenados por relevância: nome começando
+     * pela consulta, depois palavras do nome, depois qualquer parte do nome, e-mail ou CPF.
+     */
+    public Page<MembroBasicInfo> search(String query, Pageable pageable) {
+        Timer.Sample sample = Timer.start();
+        try {
+            String normalizada = normalize(query);
+            List<String> termos = normalizada.isEmpty() ? List.of() : List.of(normalizada.split(" "));
+            String cpf = CPF_QUERY.matcher(query.trim()).matches() ? NON_DIGIT.matcher(query).replaceAll("") : "";
+            if (termos.isEmpty()) {
+                return Page.empty(pageable);
+            }
+
+            // Só as primeiras offset + size posições precisam ficar ordenadas
+            int limite = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+            PriorityQueue<Match> melhores = new PriorityQueue<>(RANKING.reversed());
+            int total = 0;
+
+            lock.readLock().lock();
+            try {
+                for (Entry entry : candidates(termos, cpf)) {
+                    int rank = rank(entry, normalizada, termos, cpf);
+                    if (rank < 0) {
+                        continue;
+                    }
+                    total++;
+                    Match match = new Match(entry, rank);
+                    if (melhores.size() < limite) {
+                        melhores.add(match);
+                    } else if (RANKING.compare(match, melhores.peek()) < 0) {
+                        melhores.poll();
+                        melhores.add(match);
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            List<Match> ordenados = new ArrayList<>(melhores);
+            ordenados.sort(RANKING);
+            int from = (int) Math.min(pageable.getOffset(), ordenados.size());
+            List<MembroBasicInfo> pagina = ordenados.subList(from, ordenados.size()).stream()
+                    .map(match -> match.entry().toBasicInfo())
+                    .toList();
+            return new PageImpl<>(pagina, pageable, total);
+        } finally {
+            sample.stop(searchTimer);
+        }
+    }
+
+    /**
+     * Interseção das listas de trigramas dos termos longos, percorrendo a menor lista e consultando
+     * as demais; sem termo longo, todos os membros.
+     */
+    private Iterable<Entry> candidates(List<String> termos, String cpf) {
+        List<Set<UUID>> listas = new ArrayList<>();
+        for (String termo : termos) {
+            if (termo.length() >= GRAM) {
+                listas.addAll(postingsFor(termo));
+            }
+        }
+        if (listas.isEmpty()) {
+            return entries.values();
+        }
+
+        List<Entry> result = intersect(listas);
+        if (result.isEmpty() && cpf.length() >= GRAM) {
+            // CPF digitado com pontuação ("123.456") não gera os mesmos trigramas do CPF indexado
+            return intersect(postingsFor(cpf));
+        }
+        return result;
+    }
+
+    private List<Set<UUID>> postingsFor(String termo) {
+        List<Set<UUID>> listas = new ArrayList<>();
+        for (String gram : grams(termo)) {
+            listas.add(postings.getOrDefault(gram, Set.of()));
+        }
+        return listas;
+    }
+
+    /**
+     * Usa só as menores listas: o resultado é conferido no texto depois, então a interseção
+     * pode deixar passar falsos positivos.
+     */
+    private List<Entry> intersect(List<Set<UUID>> listas) {
+        listas.sort(Comparator.comparingInt(Set::size));
+        int usadas = Math.min(listas.size(), MAX_INTERSECTED_LISTS);
+        List<Entry> result = new ArrayList<>();
+        for (UUID id : listas.get(0)) {
+            boolean emTodas = true;
+            for (int i = 1; i < usadas && emTodas; i++) {
+                emTodas = listas.get(i).contains(id);
+            }
+            if (emTodas) {
+                result.add(entries.get(id));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Posição do membro no ranking, ou -1 se algum termo não casar.
+     */
+    private static int rank(Entry entry, String consulta, List<String> termos, String cpf) {
+        if (cpf.length() >= GRAM && entry.cpf().contains(cpf)) {
+            return 3;
+        }
+
+        int rank = 0;
+        for (String termo : termos) {
+            int termoRank;
+            if (termo.length() < GRAM) {
+                termoRank = entry.hasWordStartingWith(termo) ? 1 : -1;
+            } else if (entry.hasWordStartingWith(termo)) {
+                termoRank = 1;
+            } else if (entry.nomeNormalizado().contains(termo)) {
+                termoRank = 2;
+            } else if (entry.emailNormalizado().contains(termo) || entry.cpf().contains(termo)) {
+                termoRank = 3;
+            } else {
+                termoRank = -1;
+            }
+            if (termoRank < 0) {
+                return -1;
+            }
+            rank = Math.max(rank, termoRank);
+        }
+        return entry.nomeNormalizado().startsWith(consulta) ? 0 : rank;
+    }
+
+    // === ESTRUTURA ===
+
+    private static void add(Entry entry, Map<UUID, Entry> entries, Map<String, Set<UUID>> postings) {
+        entries.put(entry.id(), entry);
+        for (String gram : entry.grams()) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(entry.id());
+        }
+    }
+
+    private static void remove(UUID id, Map<UUID, Entry> entries, Map<String, Set<UUID>> postings) {
+        Entry anterior = entries.remove(id);
+        if (anterior == null) {
+            return;
+        }
+        for (String gram : anterior.grams()) {
+            Set<UUID> lista = postings.get(gram);
+            if (lista != null) {
+                lista.remove(id);
+                if (lista.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Entry toEntry(MembroBuscaView view) {
+        return toEntry(view.id(), view.nome(), view.email(), view.cpf(),
+                view.cargoAtualId(), view.nomeCargoAtual(), view.userId() != null);
+    }
+
+    private static Entry toEntry(UUID id, String nome, String email, String cpf,
+                                 UUID cargoAtualId, String nomeCargoAtual, boolean hasUser) {
+        return new Entry(
+                id,
+                nome,
+                email,
+                cargoAtualId,
+                nomeCargoAtual,
+                hasUser,
+                normalize(nome),
+                normalize(email),
+                cpf != null ? NON_DIGIT.matcher(cpf).replaceAll("") : ""
+        );
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String semAcentos = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALNUM.matcher(semAcentos.toLowerCase()).replaceAll(" ").trim();
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Match(Entry entry, int rank) {
+    }
+
+    private record Entry(UUID id, String nome, String email, UUID cargoAtualId, String nomeCargoAtual,
+                         boolean hasUser, String nomeNormalizado, String emailNormalizado, String cpf) {
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            for (String palavra : nomeNormalizado.split(" ")) {
+                grams.addAll(MembroSearchIndex.grams(palavra));
+            }
+            grams.addAll(MembroSearchIndex.grams(emailNormalizado));
+            grams.addAll(MembroSearchIndex.grams(cpf));
+            return grams;
+        }
+
+        boolean hasWordStartingWith(String termo) {
+            if (nomeNormalizado.startsWith(termo)) {
+                return true;
+            }
+            return nomeNormalizado.contains(" " + termo);
+        }
+
+        MembroBasicInfo toBasicInfo() {
+            return MembroBasicInfo.builder()
+                    .id(id)
+                    .nome(nome)
+                    .email(email)
+                    .cargoAtualId(cargoAtualId)
+                    .nomeCargoAtual(nomeCargoAtual)
+                    .ativo(true)
+                    .hasUser(hasUser)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.br.ibetelvote.infrastructure.service;
+
+import com.br.ibetelvote.domain.repositories.ArquivoRepository;
+import com.br.ibetelvote.domain.services.FileStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Remove do armazenamento os blobs que ficaram sem referências.
+ *
+ * Um blob só é removido depois de passar o período de carência sem referências: isso cobre o intervalo
+ * entre a gravação do arquivo e o commit de quem vai apontar para ele, e dá uma janela para desfazer
+ * trocas de foto.
+ *
+ * Cada blob sai em duas etapas. Primeiro as linhas em {@code arquivos} são apagadas em uma transação
+ * própria, com a linha do blob travada. Só depois do commit o conteúdo, as variantes e a cópia no
+ * backend são apagados: se o commit falhar, a linha continua apontando para um arquivo existente.
+ * A remoção física segura a trava da chave ({@link ArquivoRepository#travarChave}), a mesma usada no
+ * registro de um blob, e desiste se o mesmo conteúdo tiver sido registrado de novo nesse intervalo.
+ */
+@Component
+@Slf4j
+public class OrphanFileSweepJob {
+
+    private final ArquivoRepository arquivoRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter removidosCounter;
+    private final Duration grace;
+    private final int batchSize;
+
+    public OrphanFileSweepJob(ArquivoRepository arquivoRepository,
+                              FileStorageService fileStorageService,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.file.orphan-sweep.grace:1h}") Duration grace,
+                              @Value("${app.file.orphan-sweep.batch-size:200}") int batchSize) {
+        this.arquivoRepository = arquivoRepository;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.removidosCounter = Counter.builder("files.orphans.removed")
+                .description("Blobs sem referências removidos do armazenamento")
+                .register(meterRegistry);
+        this.grace = grace;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${app.file.orphan-sweep.initial-delay:60000}",
+            fixedDelayString = "${app.file.orphan-sweep.interval:3600000}")
+    public void removerOrfaos() {
+        LocalDateTime limite = LocalDateTime.now().minus(grace);
+
+        List<String> chaves;
+        try {
+            chaves = arquivoRepository.findChavesOrfas(limite, batchSize);
+        } catch (Exception e) {
+            log.warn("Falha ao consultar arquivos órfãos: {}", e.getMessage());
+            return;
+        }
+
+        int removidos = 0;
+        for (String chave : chaves) {
+            try {
+                if (removerOrfao(chave, limite)) {
+                    removidos++;
+                }
+            } catch (Exception e) {
+                log.warn("Não foi possível remover o arquivo órfão {}: {}", chave, e.getMessage());
+            }
+        }
+
+        if (removidos > 0) {
+            removidosCounter.increment(removidos);
+            log.info("Arquivos órfãos removidos: {}", removidos);
+        }
+    }
+
+    private boolean removerOrfao(String chave, LocalDateTime limite) {
+        Boolean removido = transactionTemplate.execute(status -> {
+            // Referenciado de novo ou travado por uma gravação desde a consulta: fica para depois
+            if (arquivoRepository.lockOrfa(chave, limite).isEmpty()) {
+                return false;
+            }
+            arquivoRepository.deleteOrfa(chave);
+            arquivoRepository.deleteComVariantes(chave);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(removido)) {
+            return false;
+        }
+
+        // Transação já confirmada: agora o conteúdo pode sair do disco e do backend
+        transactionTemplate.executeWithoutResult(status -> {
+            arquivoRepository.travarChave(chave);
+            if (arquivoRepository.existsById(chave)) {
+                log.debug("Arquivo {} registrado de novo durante a varredura; conteúdo mantido", chave);
+                return;
+            }
+            fileStorageService.deleteFile(chave);
+        });
+        return true;
+    }
+}
@@ -0,0 +1,112 @@
+package com.br.ibetelvote.infrastructure.specifications;
+
+import com.br.ibetelvote.domain.entities.Cargo;
+import com.br.ibetelvote.domain.entities.Membro;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public class MembroSpecifications {
+
+    public static Specification<Membro> comNome(String nome) {
+        return (root, query, cb) -> {
+            if (nome == null || nome.trim().isEmpty()) {
+                return null;
+            }
+            return cb.like(cb.upper(root.get("nome")),
+                    "%" + nome.trim().toUpperCase() + "%");
+        };
+    }
+
+    public static Specification<Membro> comEmail(String email) {
+        return (root, query, cb) -> {
+            if (email == null || email.trim().isEmpty()) {
+                return null;
+            }
+            return cb.like(cb.upper(root.get("email")),
+                    "%" + email.trim().toUpperCase() + "%");
+        };
+    }
+
+    public static Specification<Membro> doCargo(UUID cargoId) {
+        return (root, query, cb) ->
+                cargoId == null ? null :
+                        cb.equal(root.get("cargoAtualId"), cargoId);
+    }
+
+    public static Specification<Membro> comNomeCargo(String nomeCargo) {
+        return (root, query, cb) -> {
+            if (nomeCargo == null || nomeCargo.trim().isEmpty()) {
+                return null;
+            }
+            return cb.like(cb.upper(cargoAtual(root).get("nome")),
+                    "%" + nomeCargo.trim().toUpperCase() + "%");
+        };
+    }
+
+    public static Specification<Membro> ativo(Boolean ativo) {
+        return (root, query, cb) ->
+                ativo == null ? null :
+                        cb.equal(root.get("ativo"), ativo);
+    }
+
+    public static Specification<Membro> comUsuario(Boolean hasUser) {
+        return (root, query, cb) -> {
+            if (hasUser == null) {
+                return null;
+            }
+            return hasUser ? cb.isNotNull(root.get("userId")) : cb.isNull(root.get("userId"));
+        };
+    }
+
+    /**
+     * Membros cujo cargo atual está em {@code cargoIds} e, se {@code incluirSemCargo}, os sem cargo.
+     */
+    public static Specification<Membro> comCargoAtualEm(Collection<UUID> cargoIds, boolean incluirSemCargo) {
+        return (root, query, cb) -> {
+            Predicate semCargo = cb.isNull(root.get("cargoAtualId"));
+            if (cargoIds.isEmpty()) {
+                return incluirSemCargo ? semCargo : cb.disjunction();
+            }
+            Predicate doCargo = root.get("cargoAtualId").in(cargoIds);
+            return incluirSemCargo ? cb.or(doCargo, semCargo) : doCargo;
+        };
+    }
+
+    /**
+     * Paginação por chave: membros depois de (nome, id) na ordem {@code nome, id}.
+     * O {@code nome >= :nome} redundante permite ao banco percorrer o índice {@code (nome, id)}
+     * a partir da posição, em vez de filtrar a tabela.
+     */
+    public static Specification<Membro> aposNomeEId(String nome, UUID id) {
+        return (root, query, cb) -> {
+            if (nome == null || id == null) {
+                return null;
+            }
+            return cb.and(
+                    cb.greaterThanOrEqualTo(root.get("nome"), nome),
+                    cb.or(
+                            cb.greaterThan(root.get("nome"), nome),
+                            cb.greaterThan(root.get("id"), id)
+                    )
+            );
+        };
+    }
+
+    /**
+     * Join com o cargo atual, reaproveitado se a consulta já o tiver criado (filtro e projeção usam o mesmo).
+     */
+    @SuppressWarnings("unchecked")
+    public static Join<Membro, Cargo> cargoAtual(Root<Membro> root) {
+        return root.getJoins().stream()
+                .filter(join -> "cargoAtual".equals(join.getAttribute().getName()))
+                .map(join -> (Join<Membro, Cargo>) join)
+                .findFirst()
+                .orElseGet(() -> root.join("cargoAtual", JoinType.LEFT));
+    }
+}
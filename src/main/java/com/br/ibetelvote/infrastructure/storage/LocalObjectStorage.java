@@ -0,0 +1,99 @@
+package com.br.ibetelvote.infrastructure.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Backend em disco. Com o diretório padrão os objetos são os próprios arquivos de upload e as
+ * operações não fazem nada; com outro diretório ele se comporta como um backend remoto (cópias
+ * nos dois sentidos), o que permite exercitar o fluxo de um bucket sem depender de um.
+ */
+@Slf4j
+public class LocalObjectStorage implements ObjectStorage {
+
+    private final Path root;
+    private final boolean shared;
+
+    public LocalObjectStorage(Path root, Path uploadRoot) {
+        this.root = root.toAbsolutePath().normalize();
+        this.shared = !this.root.equals(uploadRoot.toAbsolutePath().normalize());
+
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível criar o diretório de objetos: " + this.root, e);
+        }
+        log.info("Armazenamento de objetos local em {}{}", this.root, shared ? " (separado do upload)" : "");
+    }
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    @Override
+    public boolean isShared() {
+        return shared;
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        if (target.equals(source.toAbsolutePath().normalize())) {
+            return;
+        }
+        copyAtomically(source, target);
+    }
+
+    @Override
+    public boolean download(String key, Path target) throws IOException {
+        Path source = resolve(key);
+        if (source.equals(target.toAbsolutePath().normalize())) {
+            return Files.exists(source);
+        }
+        try {
+            copyAtomically(source, target);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Optional<URI> presignedGet(String key, String contentType, Duration ttl) {
+        return Optional.empty();
+    }
+
+    private void copyAtomically(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(".object-" + UUID.randomUUID() + ".tmp");
+        try {
+            Files.copy(source, temp);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Chave de objeto inválida: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,110 @@
+package com.br.ibetelvote.infrastructure.storage;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Mede latência e volume de cada operação do backend ({@code files.storage.*}, com a tag
+ * {@code backend}), para comparar os backends com a carga real.
+ */
+public class MeteredObjectStorage implements ObjectStorage {
+
+    private final ObjectStorage delegate;
+    private final MeterRegistry meterRegistry;
+
+    public MeteredObjectStorage(ObjectStorage delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public boolean isShared() {
+        return delegate.isShared();
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String resultado = "erro";
+        try {
+            delegate.put(key, source, contentType);
+            resultado = "sucesso";
+            bytes("put").record(Files.size(source));
+        } finally {
+            sample.stop(timer("put", resultado));
+        }
+    }
+
+    @Override
+    public boolean download(String key, Path target) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String resultado = "erro";
+        try {
+            boolean found = delegate.download(key, target);
+            resultado = found ? "sucesso" : "ausente";
+            if (found) {
+                bytes("download").record(Files.size(target));
+            }
+            return found;
+        } finally {
+            sample.stop(timer("download", resultado));
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String resultado = "erro";
+        try {
+            delegate.delete(key);
+            resultado = "sucesso";
+        } finally {
+            sample.stop(timer("delete", resultado));
+        }
+    }
+
+    @Override
+    public Optional<URI> presignedGet(String key, String contentType, Duration ttl) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Optional<URI> url = delegate.presignedGet(key, contentType, ttl);
+        sample.stop(timer("presign", url.isPresent() ? "sucesso" : "ausente"));
+        return url;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private Timer timer(String operacao, String resultado) {
+        return Timer.builder("files.storage.operation")
+                .description("Latência das operações no backend de armazenamento")
+                .tag("backend", delegate.name())
+                .tag("operacao", operacao)
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary bytes(String operacao) {
+        return DistributionSummary.builder("files.storage.bytes")
+                .description("Bytes transferidos pelo backend de armazenamento")
+                .baseUnit("bytes")
+                .tag("backend", delegate.name())
+                .tag("operacao", operacao)
+                .register(meterRegistry);
+    }
+}
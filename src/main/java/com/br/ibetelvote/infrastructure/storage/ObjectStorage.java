@@ -0,0 +1,45 @@
+package com.br.ibetelvote.infrastructure.storage;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Backend de armazenamento de objetos por chave, usado pelo {@code FileStorageService}.
+ *
+ * O disco de upload continua sendo a cópia de trabalho de cada nó (sendfile, cache em memória,
+ * geração de variantes); o backend guarda a cópia de referência. Em um backend compartilhado os
+ * arquivos gravados por um nó são baixados sob demanda pelos demais.
+ */
+public interface ObjectStorage extends AutoCloseable {
+
+    /**
+     * Nome do backend, usado nas métricas.
+     */
+    String name();
+
+    /**
+     * {@code true} quando o backend é visto por todos os nós da aplicação.
+     */
+    boolean isShared();
+
+    void put(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * Copia o objeto para {@code target}. Retorna {@code false} se ele não existir no backend.
+     */
+    boolean download(String key, Path target) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    /**
+     * URL pré-assinada para leitura direta do backend, quando ele oferece.
+     */
+    Optional<URI> presignedGet(String key, String contentType, Duration ttl);
+
+    @Override
+    default void close() {
+    }
+}
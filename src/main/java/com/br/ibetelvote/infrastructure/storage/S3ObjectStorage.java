@@ -0,0 +1,214 @@
+package com.br.ibetelvote.infrastructure.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.input.BoundedInputStream;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.utils.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Backend em bucket compatível com S3 (AWS, MinIO, R2...).
+ *
+ * Arquivos a partir de {@code multipart-threshold} são enviados em partes, lidas direto do disco
+ * sem passar o arquivo inteiro pelo heap; um upload que falha no meio é abortado para não deixar
+ * partes cobradas no bucket. As leituras podem ser redirecionadas para URLs pré-assinadas.
+ */
+@Slf4j
+public class S3ObjectStorage implements ObjectStorage {
+
+    private final S3Client client;
+    private final S3Presigner presigner;
+    private final String bucket;
+    private final String prefix;
+    private final long multipartThreshold;
+    private final long partSize;
+
+    public S3ObjectStorage(StorageProperties.S3 config) {
+        if (StringUtils.isBlank(config.getBucket())) {
+            throw new IllegalStateException("app.storage.s3.bucket é obrigatório com app.storage.type=s3");
+        }
+
+        this.bucket = config.getBucket();
+        this.prefix = config.getPrefix() != null ? config.getPrefix() : "";
+        this.multipartThreshold = config.getMultipartThreshold().toBytes();
+        this.partSize = Math.max(config.getPartSize().toBytes(), 5L * 1024 * 1024);
+
+        Region region = Region.of(config.getRegion());
+        AwsCredentialsProvider credentials = StringUtils.isNotBlank(config.getAccessKey())
+                ? StaticCredentialsProvider.create(AwsBasicCredentials.create(config.getAccessKey(), config.getSecretKey()))
+                : DefaultCredentialsProvider.builder().build();
+        S3Configuration serviceConfiguration = S3Configuration.builder()
+                .pathStyleAccessEnabled(config.isPathStyle())
+                .build();
+
+        var clientBuilder = S3Client.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(serviceConfiguration);
+        var presignerBuilder = S3Presigner.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .serviceConfiguration(serviceConfiguration);
+
+        if (StringUtils.isNotBlank(config.getEndpoint())) {
+            URI endpoint = URI.create(config.getEndpoint());
+            clientBuilder.endpointOverride(endpoint);
+            presignerBuilder.endpointOverride(endpoint);
+        }
+
+        this.client = clientBuilder.build();
+        this.presigner = presignerBuilder.build();
+        log.info("Armazenamento de objetos S3: bucket {}{}", bucket, prefix.isEmpty() ? "" : " (prefixo " + prefix + ")");
+    }
+
+    @Override
+    public String name() {
+        return "s3";
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        long size = Files.size(source);
+        try {
+            if (size < multipartThreshold) {
+                client.putObject(b -> b.bucket(bucket).key(objectKey(key)).contentType(contentType),
+                        RequestBody.fromFile(source));
+            } else {
+                putMultipart(objectKey(key), source, size, contentType);
+            }
+        } catch (SdkException e) {
+            throw new IOException("Erro ao enviar " + key + " para o bucket: " + e.getMessage(), e);
+        }
+    }
+
+    private void putMultipart(String objectKey, Path source, long size, String contentType) throws IOException {
+        String uploadId = client.createMultipartUpload(b -> b.bucket(bucket).key(objectKey).contentType(contentType))
+                .uploadId();
+
+        try {
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            for (long offset = 0; offset < size; offset += partSize, partNumber++) {
+                long length = Math.min(partSize, size - offset);
+                long position = offset;
+                int number = partNumber;
+
+                String eTag = client.uploadPart(
+                        b -> b.bucket(bucket).key(objectKey).uploadId(uploadId).partNumber(number).contentLength(length),
+                        RequestBody.fromContentProvider(() -> openPart(source, position, length), length, contentType)
+                ).eTag();
+                parts.add(CompletedPart.builder().partNumber(number).eTag(eTag).build());
+            }
+
+            client.completeMultipartUpload(b -> b.bucket(bucket).key(objectKey).uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build()));
+        } catch (SdkException e) {
+            try {
+                client.abortMultipartUpload(b -> b.bucket(bucket).key(objectKey).uploadId(uploadId));
+            } catch (SdkException abortError) {
+                log.warn("Não foi possível abortar o upload multipart {}: {}", uploadId, abortError.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stream de um trecho do arquivo; o SDK pode abrir de novo ao repetir a parte.
+     */
+    private static InputStream openPart(Path source, long position, long length) {
+        try {
+            FileChannel channel = FileChannel.open(source, StandardOpenOption.READ).position(position);
+            return BoundedInputStream.builder()
+                    .setInputStream(Channels.newInputStream(channel))
+                    .setMaxCount(length)
+                    .get();
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao ler parte do arquivo " + source, e);
+        }
+    }
+
+    @Override
+    public boolean download(String key, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(".object-" + UUID.randomUUID() + ".tmp");
+        try {
+            client.getObject(b -> b.bucket(bucket).key(objectKey(key)), ResponseTransformer.toFile(temp));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (SdkException e) {
+            throw new IOException("Erro ao baixar " + key + " do bucket: " + e.getMessage(), e);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            client.deleteObject(b -> b.bucket(bucket).key(objectKey(key)));
+        } catch (SdkException e) {
+            throw new IOException("Erro ao remover " + key + " do bucket: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<URI> presignedGet(String key, String contentType, Duration ttl) {
+        try {
+            return Optional.of(presigner.presignGetObject(b -> b
+                    .signatureDuration(ttl)
+                    .getObjectRequest(request -> request
+                            .bucket(bucket)
+                            .key(objectKey(key))
+                            .responseContentType(contentType))
+            ).url().toURI());
+        } catch (SdkException | URISyntaxException e) {
+            log.warn("Não foi possível assinar a URL de {}: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void close() {
+        presigner.close();
+        client.close();
+    }
+
+    private String objectKey(String key) {
+        return prefix + key;
+    }
+}
@@ -0,0 +1,83 @@
+package com.br.ibetelvote.infrastructure.storage;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuração do armazenamento de objetos ({@code app.storage.*}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.storage")
+public class StorageProperties {
+
+    /**
+     * Backend dos arquivos: {@code local} (disco) ou {@code s3} (qualquer serviço compatível com S3).
+     */
+    private String type = "local";
+
+    /**
+     * Redireciona as leituras para uma URL pré-assinada do backend, quando ele oferece, em vez de
+     * transmitir o arquivo pela aplicação.
+     */
+    private boolean redirect = false;
+
+    /**
+     * Validade das URLs pré-assinadas.
+     */
+    private Duration presignTtl = Duration.ofMinutes(10);
+
+    private Local local = new Local();
+
+    private S3 s3 = new S3();
+
+    @Getter
+    @Setter
+    public static class Local {
+
+        /**
+         * Diretório dos objetos. Vazio usa o próprio diretório de upload; um diretório diferente
+         * (ex.: montagem compartilhada) faz o disco de upload funcionar como cópia local.
+         */
+        private String path;
+    }
+
+    @Getter
+    @Setter
+    public static class S3 {
+
+        private String bucket;
+
+        private String region = "us-east-1";
+
+        /**
+         * Endpoint de serviços compatíveis (MinIO, R2...). Vazio usa o endpoint da AWS.
+         */
+        private String endpoint;
+
+        private boolean pathStyle = false;
+
+        private String accessKey;
+
+        private String secretKey;
+
+        /**
+         * Prefixo aplicado a todas as chaves no bucket.
+         */
+        private String prefix = "";
+
+        /**
+         * Arquivos a partir deste tamanho são enviados em partes (upload multipart).
+         */
+        private DataSize multipartThreshold = DataSize.ofMegabytes(8);
+
+        /**
+         * Tamanho de cada parte do upload multipart (mínimo de 5MB no S3).
+         */
+        private DataSize partSize = DataSize.ofMegabytes(8);
+    }
+}
@@ -0,0 +1,14 @@
+-- Refresh tokens emitidos, por família (rotação com detecção de reutilização)
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         UUID      PRIMARY KEY,
+    family_id  UUID      NOT NULL,
+    user_id    UUID      NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    used_at    TIMESTAMP,
+    revoked    BOOLEAN   NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_token_family_id ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_user_id ON refresh_tokens (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expires_at ON refresh_tokens (expires_at);
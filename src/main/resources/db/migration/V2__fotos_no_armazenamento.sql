@@ -0,0 +1,18 @@
+-- Fotos de membros e candidatos passam para o armazenamento de arquivos; a linha guarda só a referência.
+ALTER TABLE membros ADD COLUMN IF NOT EXISTS foto_key     VARCHAR(255);
+ALTER TABLE membros ADD COLUMN IF NOT EXISTS foto_hash    VARCHAR(64);
+ALTER TABLE membros ADD COLUMN IF NOT EXISTS foto_tamanho BIGINT;
+ALTER TABLE membros ADD COLUMN IF NOT EXISTS foto_largura INTEGER;
+ALTER TABLE membros ADD COLUMN IF NOT EXISTS foto_altura  INTEGER;
+
+ALTER TABLE candidatos ADD COLUMN IF NOT EXISTS foto_campanha_key     VARCHAR(255);
+ALTER TABLE candidatos ADD COLUMN IF NOT EXISTS foto_campanha_hash    VARCHAR(64);
+ALTER TABLE candidatos ADD COLUMN IF NOT EXISTS foto_campanha_tamanho BIGINT;
+ALTER TABLE candidatos ADD COLUMN IF NOT EXISTS foto_campanha_largura INTEGER;
+ALTER TABLE candidatos ADD COLUMN IF NOT EXISTS foto_campanha_altura  INTEGER;
+
+-- As colunas antigas (membros.foto_data, candidatos.foto_campanha_data) continuam aqui: o
+-- FotoStorageMigrationJob lê delas na inicialização. Depois que uma versão com a migração concluída
+-- subir sem pendências, remova-as manualmente (e rode vacuumlo se forem oid):
+--   ALTER TABLE membros DROP COLUMN foto_data;
+--   ALTER TABLE candidatos DROP COLUMN foto_campanha_data;
@@ -0,0 +1,16 @@
+-- Armazenamento endereçado por conteúdo: um registro por blob, com contagem de referências.
+-- O registro usa INSERT ... ON CONFLICT (chave), então a chave primária é obrigatória.
+CREATE TABLE IF NOT EXISTS arquivos (
+    chave        VARCHAR(255) PRIMARY KEY,
+    hash         VARCHAR(64)  NOT NULL,
+    content_type VARCHAR(50),
+    tamanho      BIGINT       NOT NULL,
+    largura      INTEGER,
+    altura       INTEGER,
+    referencias  INTEGER      NOT NULL DEFAULT 0,
+    created_at   TIMESTAMP    NOT NULL,
+    updated_at   TIMESTAMP    NOT NULL
+);
+
+-- Varredura de órfãos: blobs sem referências há mais que a carência
+CREATE INDEX IF NOT EXISTS idx_arquivo_referencias_updated_at ON arquivos (referencias, updated_at);
@@ -0,0 +1,5 @@
+-- Índice de metadados: as variantes também têm linha, apontando para a imagem original
+ALTER TABLE arquivos ADD COLUMN IF NOT EXISTS original VARCHAR(255);
+ALTER TABLE arquivos ALTER COLUMN hash DROP NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_arquivo_original ON arquivos (original);
@@ -0,0 +1,3 @@
+-- Paginação por cursor da listagem de membros: o índice do nome cobre a ordem (nome, id)
+DROP INDEX IF EXISTS idx_membro_nome;
+CREATE INDEX IF NOT EXISTS idx_membro_nome_id ON membros (nome, id);
@@ -0,0 +1,2 @@
+-- Consultas por e-mail comparam LOWER(email); sem o índice funcional elas varrem a tabela
+CREATE INDEX IF NOT EXISTS idx_membro_email_lower ON membros (LOWER(email));
@@ -0,0 +1,33 @@
+-- Arquivamento de membros inativos: membros guarda um registro enxuto e o restante vai para membros_arquivo
+ALTER TABLE membros ADD COLUMN IF NOT EXISTS arquivado_em TIMESTAMP;
+
+CREATE TABLE IF NOT EXISTS membros_arquivo (
+    membro_id         UUID         PRIMARY KEY REFERENCES membros (id) ON DELETE CASCADE,
+    data_nascimento   DATE,
+    departamento      VARCHAR(100),
+    data_batismo      DATE,
+    data_membro_desde DATE,
+    telefone          VARCHAR(20),
+    celular           VARCHAR(20),
+    endereco          VARCHAR(255),
+    cidade            VARCHAR(100),
+    estado            VARCHAR(2),
+    cep               VARCHAR(10),
+    foto_key          VARCHAR(255),
+    foto_hash         VARCHAR(64),
+    foto_tipo         VARCHAR(50),
+    foto_nome         VARCHAR(255),
+    foto_tamanho      BIGINT,
+    foto_largura      INTEGER,
+    foto_altura       INTEGER,
+    observacoes       TEXT,
+    arquivado_em      TIMESTAMP    NOT NULL
+);
+
+-- Listagens e contagens de membros ativos não percorrem as linhas inativas
+CREATE INDEX IF NOT EXISTS idx_membro_ativos_nome_id ON membros (nome, id) WHERE ativo;
+CREATE INDEX IF NOT EXISTS idx_membro_ativos_cargo ON membros (cargo_atual_id) WHERE ativo;
+
+-- Candidatos ao arquivamento
+CREATE INDEX IF NOT EXISTS idx_membro_inativos_updated ON membros (updated_at)
+    WHERE NOT ativo AND arquivado_em IS NULL;
@@ -0,0 +1,160 @@
+package com.br.ibetelvote.application.services;
+
+import com.br.ibetelvote.application.mapper.MembroMapper;
+import com.br.ibetelvote.application.membro.dto.CreateMembroRequest;
+import com.br.ibetelvote.application.membro.dto.MembroImportErro;
+import com.br.ibetelvote.application.membro.dto.MembroImportJobResponse;
+import com.br.ibetelvote.domain.entities.Membro;
+import com.br.ibetelvote.domain.entities.enums.UploadJobStatus;
+import com.br.ibetelvote.domain.services.FileStorageService;
+import com.br.ibetelvote.infrastructure.cache.MembroListCache;
+import com.br.ibetelvote.infrastructure.cache.MembroLookupNegativeCache;
+import com.br.ibetelvote.infrastructure.cache.MembroStatsCache;
+import com.br.ibetelvote.infrastructure.repositories.MembroJpaRepository;
+import com.br.ibetelvote.infrastructure.service.MembroSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Gravação em lotes da importação de membros, com o banco simulado pelo {@link JdbcTemplate}.
+ */
+class MembroImportServiceImplTest {
+
+    private static final String CABECALHO = "nome;cpf;email\n";
+    private static final String ANA = "Ana Souza;529.982.247-25;ana@x.com\n";
+    private static final String BIA = "Bia Lima;111.444.777-35;bia@x.com\n";
+    private static final String CAIO = "Caio Reis;123.456.789-09;caio@x.com\n";
+
+    @TempDir
+    Path spoolDir;
+
+    private FileStorageService fileStorageService;
+    private MembroJpaRepository membroRepository;
+    private JdbcTemplate jdbcTemplate;
+    private MembroImportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService = mock(FileStorageService.class);
+        membroRepository = mock(MembroJpaRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+
+        MembroMapper membroMapper = mock(MembroMapper.class);
+        when(membroMapper.toEntity(any(CreateMembroRequest.class))).thenAnswer(invocation -> {
+            CreateMembroRequest request = invocation.getArgument(0);
+            return Membro.builder()
+                    .nome(request.getNome())
+                    .cpf(Membro.normalizarCpf(request.getCpf()))
+                    .email(Membro.normalizarEmail(request.getEmail()))
+                    .build();
+        });
+        when(membroRepository.findAllEmails()).thenReturn(List.of());
+        when(membroRepository.findAllCpfs()).thenReturn(List.of());
+
+        service = new MembroImportServiceImpl(
+                fileStorageService,
+                membroRepository,
+                membroMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                jdbcTemplate,
+                mock(PlatformTransactionManager.class),
+                mock(MembroSearchIndex.class),
+                mock(MembroListCache.class),
+                mock(MembroStatsCache.class),
+                mock(MembroLookupNegativeCache.class),
+                new SimpleMeterRegistry(),
+                2,
+                1000,
+                Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void writesValidRowsInBatchesOfBatchSize() throws Exception {
+        MembroImportJobResponse job = importar(CABECALHO + ANA + BIA + CAIO);
+
+        assertThat(job.getStatus()).isEqualTo(UploadJobStatus.CONCLUIDO);
+        assertThat(job.getImportados()).isEqualTo(3);
+        assertThat(job.getRejeitados()).isZero();
+        // batch-size 2: um lote com Ana e Bia, outro com Caio
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void rejectsInvalidAndRepeatedRowsBeforeWriting() throws Exception {
+        MembroImportJobResponse job = importar(CABECALHO + ANA + "Dan;000.000.000-00;dan@x.com\n" + ANA);
+
+        assertThat(job.getImportados()).isEqualTo(1);
+        assertThat(job.getRejeitados()).isEqualTo(2);
+        assertThat(job.getErros()).extracting(MembroImportErro::linha).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void fallsBackToRowByRowWhenBatchFails() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DuplicateKeyException("membros_cpf_key"));
+        // Bia foi cadastrada por outra via durante a importação
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            if (Arrays.deepToString(invocation.getArguments()).contains("Bia Lima")) {
+                throw new DuplicateKeyException("membros_cpf_key");
+            }
+            return 1;
+        });
+
+        MembroImportJobResponse job = importar(CABECALHO + ANA + BIA);
+
+        assertThat(job.getStatus()).isEqualTo(UploadJobStatus.CONCLUIDO);
+        assertThat(job.getImportados()).isEqualTo(1);
+        assertThat(job.getRejeitados()).isEqualTo(1);
+        assertThat(job.getErros()).containsExactly(new MembroImportErro(3, "Email ou CPF já cadastrado"));
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+    }
+
+    private MembroImportJobResponse importar(String csv) throws Exception {
+        Path spooled = Files.writeString(spoolDir.resolve("import.csv"), csv, StandardCharsets.UTF_8);
+        when(fileStorageService.spoolUpload(any())).thenReturn(spooled);
+
+        MembroImportJobResponse submetido = service.submit(new MockMultipartFile(
+                "file", "membros.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)));
+
+        long limite = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < limite) {
+            MembroImportJobResponse status = service.getStatus(submetido.getJobId()).orElseThrow();
+            if (status.getStatus().isFinalizado()) {
+                return status;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Importação não terminou a tempo");
+    }
+}
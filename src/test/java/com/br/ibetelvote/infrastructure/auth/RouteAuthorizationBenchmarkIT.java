@@ -0,0 +1,100 @@
+package com.br.ibetelvote.infrastructure.auth;
+
+import com.br.ibetelvote.infrastructure.auth.RouteAuthorizationTable.Route;
+import com.br.ibetelvote.infrastructure.config.RouteAuthorizationConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark da resolução de regras: a trie da {@link RouteAuthorizationTable} contra a lista ordenada
+ * de {@code requestMatchers} do Spring Security que ela substituiu, com as regras reais de
+ * {@link RouteAuthorizationConfig}.
+ *
+ * Mede requisições que caem na primeira regra, no meio da lista, na última e em nenhuma (regra
+ * padrão). Os tempos por requisição (mediana e p95) vão para o log; o teste só verifica que as duas
+ * avaliações escolhem a mesma regra. Roda com {@code ./mvnw verify -Dit.test=RouteAuthorizationBenchmarkIT}.
+ */
+@Slf4j
+class RouteAuthorizationBenchmarkIT {
+
+    private static final int AQUECIMENTO = 20_000;
+    private static final int EXECUCOES = 100_000;
+
+    // Impede que o JIT descarte as chamadas cujo resultado não é usado
+    private static volatile long sumidouro;
+
+    @Test
+    void trieChoosesSameRuleAsOrderedMatchers() {
+        RouteAuthorizationTable table = new RouteAuthorizationConfig().routeAuthorizationTable();
+        List<RequestMatcher> matchers = RouteAuthorizationTableTest.springMatchers(table);
+        List<Route> routes = table.routes();
+
+        Map<String, MockHttpServletRequest> requisicoes = new LinkedHashMap<>();
+        requisicoes.put("primeira regra", requisicao(routes.get(0)));
+        requisicoes.put("meio da lista", requisicao(routes.get(routes.size() / 2)));
+        requisicoes.put("última regra", requisicao(routes.get(routes.size() - 1)));
+        requisicoes.put("sem regra", new MockHttpServletRequest("GET", "/api/v1/inexistente/123/detalhes"));
+
+        StringBuilder relatorio = new StringBuilder()
+                .append(String.format("%n%d regras%n", table.size()))
+                .append(String.format("%-16s %-52s %22s %22s%n",
+                        "requisição", "caminho", "trie (µs, med / p95)", "lista (µs, med / p95)"));
+
+        requisicoes.forEach((nome, request) -> {
+            Route esperada = RouteAuthorizationTableTest.primeiraQueCasa(table, matchers, request);
+            Route obtida = table.match(request);
+            assertThat(obtida.order()).as(nome)
+                    .isEqualTo(esperada != null ? esperada.order() : Integer.MAX_VALUE);
+
+            Medicao trie = medir(request, r -> table.match(r).order());
+            Medicao lista = medir(request, r -> {
+                Route route = RouteAuthorizationTableTest.primeiraQueCasa(table, matchers, r);
+                return route != null ? route.order() : Integer.MAX_VALUE;
+            });
+            relatorio.append(String.format("%-16s %-52s %22s %22s%n",
+                    nome, request.getMethod() + " " + request.getRequestURI(), trie, lista));
+        });
+
+        log.info(relatorio.toString());
+    }
+
+    private static MockHttpServletRequest requisicao(Route route) {
+        String caminho = route.pattern().replace("/**", "/abc/def").replace("*", "abc");
+        String method = route.method() != null ? route.method().name() : "GET";
+        return new MockHttpServletRequest(method, caminho);
+    }
+
+    private static Medicao medir(MockHttpServletRequest request, Function<MockHttpServletRequest, Integer> avaliacao) {
+        long soma = 0;
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            soma += avaliacao.apply(request);
+        }
+        List<Long> tempos = new ArrayList<>(EXECUCOES);
+        for (int i = 0; i < EXECUCOES; i++) {
+            long inicio = System.nanoTime();
+            soma += avaliacao.apply(request);
+            tempos.add(System.nanoTime() - inicio);
+        }
+        sumidouro = soma;
+        Collections.sort(tempos);
+        return new Medicao(tempos.get(EXECUCOES / 2), tempos.get(EXECUCOES * 95 / 100));
+    }
+
+    private record Medicao(long medianaNanos, long p95Nanos) {
+        @Override
+        public String toString() {
+            return String.format("%.3f / %.3f", medianaNanos / 1_000.0, p95Nanos / 1_000.0);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.br.ibetelvote.infrastructure.auth;
+
+import com.br.ibetelvote.infrastructure.auth.RouteAuthorizationTable.Access;
+import com.br.ibetelvote.infrastructure.auth.RouteAuthorizationTable.Route;
+import com.br.ibetelvote.infrastructure.config.RouteAuthorizationConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Confere a trie contra a avaliação que ela substitui: os {@code requestMatchers} do Spring Security
+ * percorridos em ordem, valendo o primeiro que casar.
+ */
+class RouteAuthorizationTableTest {
+
+    // Segmentos usados no lugar de "*": um id qualquer e literais que também aparecem em outras regras
+    private static final List<String> SEGMENTOS = List.of(
+            "123e4567-e89b-12d3-a456-426614174000", "stats", "ativas", "admin");
+
+    private final RouteAuthorizationTable table = new RouteAuthorizationConfig().routeAuthorizationTable();
+
+    @Test
+    void matchesOrderedSpringEvaluationForEveryRuleAndMethod() {
+        List<RequestMatcher> matchers = springMatchers(table);
+        List<String> divergencias = new ArrayList<>();
+        int requisicoes = 0;
+
+        for (String caminho : caminhos(table)) {
+            for (HttpMethod method : HttpMethod.values()) {
+                MockHttpServletRequest request = new MockHttpServletRequest(method.name(), caminho);
+                Route esperada = primeiraQueCasa(table, matchers, request);
+                Route obtida = table.match(request);
+                requisicoes++;
+                if (ordem(esperada) != obtida.order()) {
+                    divergencias.add(method + " " + caminho + ": esperado " + descrever(esperada)
+                            + ", obtido " + descrever(obtida));
+                }
+                if (table.isPublic(request) != (esperada != null && esperada.access() == Access.PERMIT_ALL)) {
+                    divergencias.add(method + " " + caminho + ": isPublic divergente");
+                }
+            }
+        }
+
+        assertThat(requisicoes).isGreaterThan(table.size() * HttpMethod.values().length);
+        assertThat(divergencias).isEmpty();
+    }
+
+    @Test
+    void trailingSlashOnlyMatchesWildcardsAtTheEnd() {
+        assertThat(table.match("POST", "/api/v1/auth/login").access()).isEqualTo(Access.PERMIT_ALL);
+        assertThat(table.match("POST", "/api/v1/auth/login/").order()).isEqualTo(Integer.MAX_VALUE);
+
+        assertThat(table.match("GET", "/api/v1/uploads/").pattern()).isEqualTo("/api/v1/uploads/*");
+        assertThat(table.match("GET", "/api/v1/files/").access()).isEqualTo(Access.PERMIT_ALL);
+    }
+
+    @Test
+    void doubleWildcardMatchesZeroSegments() {
+        assertThat(table.match("GET", "/api/v1/files").pattern()).isEqualTo("/api/v1/files/**");
+        assertThat(table.match("GET", "/actuator").access()).isEqualTo(Access.PERMIT_ALL);
+        assertThat(table.match("GET", "/api/v1/eleicoes/stats").pattern()).isEqualTo("/api/v1/eleicoes/stats/**");
+    }
+
+    @Test
+    void rulesWithoutMethodMatchEveryMethod() {
+        for (HttpMethod method : HttpMethod.values()) {
+            assertThat(table.match(method.name(), "/actuator/health").access()).isEqualTo(Access.PERMIT_ALL);
+            assertThat(table.match(method.name(), "/swagger-ui/index.html").access()).isEqualTo(Access.PERMIT_ALL);
+            assertThat(table.match(method.name(), "/error").access()).isEqualTo(Access.PERMIT_ALL);
+        }
+    }
+
+    @Test
+    void deletingFilesRequiresAdministrator() {
+        Route route = table.match("DELETE", "/api/v1/files/membros/foto.jpg");
+
+        assertThat(route.access()).isEqualTo(Access.ROLE);
+        assertThat(route.method()).isEqualTo(HttpMethod.DELETE);
+        assertThat(route.pattern()).isEqualTo("/api/v1/files/**");
+        assertThat(table.isPublic(new MockHttpServletRequest("DELETE", "/api/v1/files/membros/foto.jpg"))).isFalse();
+
+        assertThat(table.match("GET", "/api/v1/files/membros/foto.jpg").access()).isEqualTo(Access.PERMIT_ALL);
+        assertThat(table.match("OPTIONS", "/api/v1/files/membros/foto.jpg").access()).isEqualTo(Access.PERMIT_ALL);
+        assertThat(table.match("PUT", "/api/v1/files/membros/foto.jpg").order()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void firstDeclaredRuleWins() {
+        RouteAuthorizationTable tabela = RouteAuthorizationTable.builder()
+                .hasRole(HttpMethod.GET, "/api/v1/itens/**", "ADMINISTRADOR")
+                .permitAll(HttpMethod.GET, "/api/v1/itens/publicos")
+                .authenticated(null, "/api/v1/*/publicos")
+                .build();
+
+        assertThat(tabela.match("GET", "/api/v1/itens/publicos").pattern()).isEqualTo("/api/v1/itens/**");
+        assertThat(tabela.match("POST", "/api/v1/itens/publicos").pattern()).isEqualTo("/api/v1/*/publicos");
+        assertThat(tabela.match("POST", "/api/v1/outros").order()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void rejectsUnsupportedPatterns() {
+        assertThatThrownBy(() -> RouteAuthorizationTable.builder().permitAll("/api/**/itens"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RouteAuthorizationTable.builder().permitAll("/api/{id}"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RouteAuthorizationTable.builder().permitAll("/api/itens*"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // === AUXILIARES ===
+
+    static List<RequestMatcher> springMatchers(RouteAuthorizationTable table) {
+        PathPatternRequestMatcher.Builder builder = PathPatternRequestMatcher.withDefaults();
+        return table.routes().stream()
+                .map(route -> (RequestMatcher) (route.method() != null
+                        ? builder.matcher(route.method(), route.pattern())
+                        : builder.matcher(route.pattern())))
+                .toList();
+    }
+
+    /**
+     * Regra escolhida pela lista ordenada de matchers do Spring; {@code null} quando nenhuma casar.
+     */
+    static Route primeiraQueCasa(RouteAuthorizationTable table, List<RequestMatcher> matchers,
+                                 MockHttpServletRequest request) {
+        for (int i = 0; i < matchers.size(); i++) {
+            if (matchers.get(i).matches(request)) {
+                return table.routes().get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Caminhos derivados de todos os padrões: cada "*" trocado pelos segmentos de exemplo, "**" com
+     * zero, um e dois segmentos, e as variações com barra final e com um segmento a mais.
+     */
+    static Set<String> caminhos(RouteAuthorizationTable table) {
+        Set<String> caminhos = new LinkedHashSet<>(List.of("/", "/api", "/api/v1", "/api/v1/"));
+        for (Route route : table.routes()) {
+            boolean resto = route.pattern().endsWith("/**");
+            String base = resto ? route.pattern().substring(0, route.pattern().length() - 3) : route.pattern();
+            for (String segmento : SEGMENTOS) {
+                String caminho = base.replace("*", segmento);
+                caminhos.add(caminho);
+                caminhos.add(caminho + "/");
+                caminhos.add(caminho + "/" + segmento);
+                if (resto) {
+                    caminhos.add(caminho + "/" + segmento + "/" + segmento);
+                }
+                int ultimaBarra = caminho.lastIndexOf('/');
+                if (ultimaBarra > 0) {
+                    caminhos.add(caminho.substring(0, ultimaBarra));
+                }
+            }
+        }
+        return caminhos;
+    }
+
+    private static int ordem(Route route) {
+        return route != null ? route.order() : Integer.MAX_VALUE;
+    }
+
+    private static String descrever(Route route) {
+        return ordem(route) == Integer.MAX_VALUE
+                ? "regra padrão"
+                : "#" + route.order() + " " + route.method() + " " + route.pattern();
+    }
+}
@@ -0,0 +1,107 @@
+package com.br.ibetelvote.infrastructure.components;
+
+import com.br.ibetelvote.infrastructure.auth.RouteAuthorizationTable;
+import com.br.ibetelvote.infrastructure.auth.RouteAuthorizationTable.Access;
+import com.br.ibetelvote.infrastructure.auth.RouteAuthorizationTable.Route;
+import com.br.ibetelvote.infrastructure.config.RouteAuthorizationConfig;
+import com.br.ibetelvote.infrastructure.jwt.JwtService;
+import com.br.ibetelvote.infrastructure.repositories.UserJpaRepository;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String TOKEN = "token";
+
+    private final RouteAuthorizationTable table = new RouteAuthorizationConfig().routeAuthorizationTable();
+    private final JwtService jwtService = mock(JwtService.class);
+    private final JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(jwtService, mock(UserJpaRepository.class), table);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void skipsTokenOnEveryPermitAllRoute() throws ServletException, IOException {
+        int requisicoes = 0;
+        for (Route route : table.routes()) {
+            if (route.access() != Access.PERMIT_ALL) {
+                continue;
+            }
+            List<HttpMethod> methods = route.method() != null ? List.of(route.method()) : List.of(HttpMethod.values());
+            for (HttpMethod method : methods) {
+                for (String caminho : caminhos(route.pattern())) {
+                    MockFilterChain chain = filtrar(method, caminho);
+                    assertThat(chain.getRequest()).as("%s %s", method, caminho).isNotNull();
+                    requisicoes++;
+                }
+            }
+        }
+
+        assertThat(requisicoes).isPositive();
+        verifyNoInteractions(jwtService);
+    }
+
+    @Test
+    void readsTokenWhenFilesAreDeleted() throws ServletException, IOException {
+        filtrar(HttpMethod.DELETE, "/api/v1/files/membros/foto.jpg");
+
+        verify(jwtService).validateToken(TOKEN);
+    }
+
+    @Test
+    void readsTokenOnPublicPathWithOtherMethod() throws ServletException, IOException {
+        filtrar(HttpMethod.GET, "/api/v1/auth/login");
+
+        verify(jwtService).validateToken(TOKEN);
+    }
+
+    @Test
+    void readsTokenAfterTrailingSlashOnPublicRoute() throws ServletException, IOException {
+        filtrar(HttpMethod.POST, "/api/v1/auth/login/");
+
+        verify(jwtService).validateToken(TOKEN);
+    }
+
+    private MockFilterChain filtrar(HttpMethod method, String caminho) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method.name(), caminho);
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain;
+    }
+
+    /**
+     * Exemplos de caminho do padrão: "**" com zero, um e dois segmentos e "*" trocado por um segmento.
+     */
+    private static List<String> caminhos(String pattern) {
+        List<String> caminhos = new ArrayList<>();
+        if (pattern.endsWith("/**")) {
+            String base = pattern.substring(0, pattern.length() - 3).replace("*", "abc");
+            caminhos.add(base);
+            caminhos.add(base + "/");
+            caminhos.add(base + "/abc");
+            caminhos.add(base + "/abc/def.jpg");
+        } else {
+            caminhos.add(pattern.replace("*", "abc"));
+        }
+        return caminhos;
+    }
+}
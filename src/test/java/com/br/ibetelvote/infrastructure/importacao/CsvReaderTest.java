@@ -0,0 +1,134 @@
+package com.br.ibetelvote.infrastructure.importacao;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void readsSemicolonSeparatedRecords() throws IOException {
+        List<List<String>> registros = readAll("nome;cpf;email\nAna;123;ana@x.com\n");
+
+        assertThat(registros).containsExactly(
+                List.of("nome", "cpf", "email"),
+                List.of("Ana", "123", "ana@x.com"));
+    }
+
+    @Test
+    void detectsCommaDelimiterAndCrlf() throws IOException {
+        List<List<String>> registros = readAll("nome,cpf,email\r\nAna,123,ana@x.com\r\n");
+
+        assertThat(registros).containsExactly(
+                List.of("nome", "cpf", "email"),
+                List.of("Ana", "123", "ana@x.com"));
+    }
+
+    @Test
+    void detectsTabDelimiter() throws IOException {
+        List<List<String>> registros = readAll("nome\tcidade\nAna\tSão Paulo, SP\n");
+
+        assertThat(registros.get(1)).containsExactly("Ana", "São Paulo, SP");
+    }
+
+    @Test
+    void keepsDelimiterInsideQuotes() throws IOException {
+        List<List<String>> registros = readAll("nome;obs\n\"Silva; Ana\";\"a;b\"\n");
+
+        assertThat(registros.get(1)).containsExactly("Silva; Ana", "a;b");
+    }
+
+    @Test
+    void keepsLineBreakInsideQuotesAndTracksLineNumbers() throws IOException {
+        try (CsvReader csv = reader("nome;obs\nAna;\"linha 1\nlinha 2\"\nBia;x\n")) {
+            csv.readRecord();
+
+            assertThat(csv.readRecord()).containsExactly("Ana", "linha 1\nlinha 2");
+            assertThat(csv.getLineNumber()).isEqualTo(2);
+
+            assertThat(csv.readRecord()).containsExactly("Bia", "x");
+            assertThat(csv.getLineNumber()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void unescapesDoubledQuotes() throws IOException {
+        List<List<String>> registros = readAll("a;b\n\"diz \"\"oi\"\"\";x\n");
+
+        assertThat(registros.get(1)).containsExactly("diz \"oi\"", "x");
+    }
+
+    @Test
+    void skipsUtf8Bom() throws IOException {
+        List<List<String>> registros = readAll("\uFEFFnome;cpf\nAna;123\n");
+
+        assertThat(registros.get(0)).containsExactly("nome", "cpf");
+    }
+
+    @Test
+    void skipsBlankLines() throws IOException {
+        try (CsvReader csv = reader("a;b\n\n\r\n1;2\n")) {
+            csv.readRecord();
+
+            assertThat(csv.readRecord()).containsExactly("1", "2");
+            assertThat(csv.getLineNumber()).isEqualTo(4);
+            assertThat(csv.readRecord()).isNull();
+        }
+    }
+
+    @Test
+    void readsLastRecordWithoutTrailingLineBreak() throws IOException {
+        List<List<String>> registros = readAll("a;b\n1;2");
+
+        assertThat(registros).containsExactly(List.of("a", "b"), List.of("1", "2"));
+    }
+
+    @Test
+    void keepsEmptyFields() throws IOException {
+        List<List<String>> registros = readAll("a;b;c\n;\"\";\n");
+
+        assertThat(registros.get(1)).containsExactly("", "", "");
+    }
+
+    @Test
+    void rejectsUnclosedQuote() throws IOException {
+        try (CsvReader csv = reader("a;b\n\"aberto;x\n")) {
+            csv.readRecord();
+
+            assertThatThrownBy(csv::readRecord)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("linha 2");
+        }
+    }
+
+    @Test
+    void rejectsFieldLongerThanLimit() throws IOException {
+        try (CsvReader csv = reader("a\n" + "x".repeat(10_001) + "\n")) {
+            csv.readRecord();
+
+            assertThatThrownBy(csv::readRecord).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static CsvReader reader(String content) throws IOException {
+        return new CsvReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<List<String>> readAll(String content) throws IOException {
+        List<List<String>> registros = new ArrayList<>();
+        try (CsvReader csv = reader(content)) {
+            List<String> registro;
+            while ((registro = csv.readRecord()) != null) {
+                registros.add(registro);
+            }
+        }
+        return registros;
+    }
+}
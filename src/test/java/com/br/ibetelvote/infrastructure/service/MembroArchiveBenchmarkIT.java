@@ -0,0 +1,232 @@
+package com.br.ibetelvote.infrastructure.service;
+
+import com.br.ibetelvote.domain.services.FileStorageService;
+import com.br.ibetelvote.infrastructure.cache.MembroListCache;
+import com.br.ibetelvote.infrastructure.cache.MembroStatsCache;
+import com.br.ibetelvote.infrastructure.events.EntidadeEventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmark do arquivamento com 50 mil membros, 40% deles inativos há mais de um ano.
+ *
+ * Mede as consultas de membros ativos antes (esquema até {@code V6}) e depois dos índices parciais
+ * de {@code V7__membros_arquivo.sql} e de um ciclo completo do {@link MembroArchiveJob}. Os tempos
+ * (mediana e p95) e os planos vão para o log; o teste só verifica que o arquivamento não muda os
+ * resultados. Roda com {@code ./mvnw verify -Dit.test=MembroArchiveBenchmarkIT} e é ignorado sem Docker.
+ */
+@Slf4j
+@Testcontainers(disabledWithoutDocker = true)
+class MembroArchiveBenchmarkIT {
+
+    private static final int MEMBROS = 50_000;
+    private static final int AQUECIMENTO = 20;
+    private static final int EXECUCOES = 200;
+
+    private static final Map<String, String> CONSULTAS = new LinkedHashMap<>();
+
+    static {
+        CONSULTAS.put("listagem de ativos (1ª página)",
+                "SELECT id, nome, email FROM membros WHERE ativo ORDER BY nome, id LIMIT 20");
+        CONSULTAS.put("contagem por cargo",
+                "SELECT cargo_atual_id, COUNT(*) FROM membros WHERE ativo GROUP BY cargo_atual_id ORDER BY 1");
+        CONSULTAS.put("contagem de ativos",
+                "SELECT COUNT(*) FROM membros WHERE ativo");
+    }
+
+    // Esquema de membros anterior aos scripts versionados, como o Hibernate o gera
+    private static final String SCHEMA_BASE = """
+            CREATE TABLE membros (
+                id                UUID         PRIMARY KEY,
+                nome              VARCHAR(100) NOT NULL,
+                cpf               VARCHAR(14)  NOT NULL UNIQUE,
+                email             VARCHAR(150) NOT NULL UNIQUE,
+                data_nascimento   DATE,
+                cargo_atual_id    UUID,
+                departamento      VARCHAR(100),
+                data_batismo      DATE,
+                data_membro_desde DATE,
+                telefone          VARCHAR(20),
+                celular           VARCHAR(20),
+                endereco          VARCHAR(255),
+                cidade            VARCHAR(100),
+                estado            VARCHAR(2),
+                cep               VARCHAR(10),
+                foto_key          VARCHAR(255),
+                foto_hash         VARCHAR(64),
+                foto_tipo         VARCHAR(50),
+                foto_nome         VARCHAR(255),
+                foto_tamanho      BIGINT,
+                foto_largura      INTEGER,
+                foto_altura       INTEGER,
+                observacoes       TEXT,
+                ativo             BOOLEAN      NOT NULL,
+                user_id           UUID UNIQUE,
+                created_at        TIMESTAMP    NOT NULL,
+                updated_at        TIMESTAMP    NOT NULL
+            );
+            CREATE INDEX idx_membro_nome ON membros (nome);
+            CREATE INDEX idx_membro_ativo ON membros (ativo);
+            CREATE INDEX idx_membro_cargo_atual ON membros (cargo_atual_id);
+            """;
+
+    private static final String CARGA = """
+            INSERT INTO membros (id, nome, cpf, email, data_nascimento, departamento, data_batismo,
+                                 data_membro_desde, telefone, celular, endereco, cidade, estado, cep,
+                                 foto_key, foto_hash, foto_tipo, foto_nome, foto_tamanho, foto_largura, foto_altura,
+                                 observacoes, ativo, cargo_atual_id, created_at, updated_at)
+            SELECT gen_random_uuid(),
+                   'Membro ' || md5(i::text),
+                   lpad(i::text, 11, '0'),
+                   'membro' || i || '@igreja.org',
+                   DATE '1950-01-01' + (i % 20000),
+                   'Departamento ' || (i % 12),
+                   DATE '1990-01-01' + (i % 9000),
+                   DATE '1995-01-01' + (i % 9000),
+                   '(11) 3333-' || lpad((i % 10000)::text, 4, '0'),
+                   '(11) 99999-' || lpad((i % 10000)::text, 4, '0'),
+                   'Rua das Oliveiras, ' || i || ', apartamento ' || (i % 300),
+                   'São Paulo',
+                   'SP',
+                   '01000-000',
+                   'membros/' || md5(i::text) || '.jpg',
+                   md5(i::text) || md5(i::text),
+                   'image/jpeg',
+                   'foto.jpg',
+                   150000,
+                   800,
+                   600,
+                   repeat('Observações pastorais do membro. ', 15),
+                   i % 10 >= 4,
+                   (ARRAY['00000000-0000-0000-0000-000000000001', '00000000-0000-0000-0000-000000000002',
+                          '00000000-0000-0000-0000-000000000003', '00000000-0000-0000-0000-000000000004',
+                          NULL]::uuid[])[1 + i % 5],
+                   now() - INTERVAL '5 years',
+                   CASE WHEN i % 10 >= 4 THEN now() - (i % 30) * INTERVAL '1 day'
+                        ELSE now() - INTERVAL '2 years' END
+            FROM generate_series(1, ?) AS i
+            """;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Test
+    void archivingKeepsActiveQueriesUnchanged() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute(SCHEMA_BASE);
+        aplicar(dataSource, "db/migration/V5__membro_nome_id.sql");
+        aplicar(dataSource, "db/migration/V6__membro_email_lower.sql");
+        jdbcTemplate.update(CARGA, MEMBROS);
+        jdbcTemplate.execute("VACUUM ANALYZE membros");
+
+        Map<String, List<Map<String, Object>>> resultadosAntes = executarConsultas(jdbcTemplate);
+        Map<String, Medicao> antes = medir(jdbcTemplate);
+        long tamanhoAntes = tamanhoMembros(jdbcTemplate);
+
+        aplicar(dataSource, "db/migration/V7__membros_arquivo.sql");
+        MembroArchiveJob job = new MembroArchiveJob(
+                jdbcTemplate,
+                new DataSourceTransactionManager(dataSource),
+                mock(MembroListCache.class),
+                mock(MembroStatsCache.class),
+                mock(MembroSearchIndex.class),
+                mock(EntidadeEventBus.class),
+                mock(FileStorageService.class),
+                new SimpleMeterRegistry(),
+                true,
+                Duration.ofDays(365),
+                500,
+                1000);
+        long inicio = System.nanoTime();
+        job.arquivarInativos();
+        long duracaoArquivamento = Duration.ofNanos(System.nanoTime() - inicio).toMillis();
+        jdbcTemplate.execute("VACUUM FULL ANALYZE membros");
+
+        Integer arquivados = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM membros_arquivo", Integer.class);
+        assertThat(arquivados).isEqualTo(MEMBROS * 4 / 10);
+        assertThat(executarConsultas(jdbcTemplate)).isEqualTo(resultadosAntes);
+
+        Map<String, Medicao> depois = medir(jdbcTemplate);
+        long tamanhoDepois = tamanhoMembros(jdbcTemplate);
+
+        StringBuilder relatorio = new StringBuilder()
+                .append(String.format("%nArquivamento: %d membros, %d arquivados em %d ms%n",
+                        MEMBROS, arquivados, duracaoArquivamento))
+                .append(String.format("%-34s %20s %20s%n", "consulta (ms, mediana / p95)", "antes", "depois"));
+        CONSULTAS.keySet().forEach(nome -> relatorio.append(
+                String.format("%-34s %20s %20s%n", nome, antes.get(nome), depois.get(nome))));
+        relatorio.append(String.format("%-34s %17d kB %17d kB%n",
+                "tamanho de membros (com índices)", tamanhoAntes / 1024, tamanhoDepois / 1024));
+        log.info(relatorio.toString());
+
+        for (String sql : CONSULTAS.values()) {
+            log.info("Plano após o arquivamento:\n{}", String.join("\n",
+                    jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + sql, String.class)));
+        }
+    }
+
+    private static void aplicar(DriverManagerDataSource dataSource, String script) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource(script));
+        }
+    }
+
+    private static Map<String, List<Map<String, Object>>> executarConsultas(JdbcTemplate jdbcTemplate) {
+        Map<String, List<Map<String, Object>>> resultados = new LinkedHashMap<>();
+        CONSULTAS.forEach((nome, sql) -> resultados.put(nome, jdbcTemplate.queryForList(sql)));
+        return resultados;
+    }
+
+    private static Map<String, Medicao> medir(JdbcTemplate jdbcTemplate) {
+        Map<String, Medicao> medicoes = new LinkedHashMap<>();
+        CONSULTAS.forEach((nome, sql) -> {
+            for (int i = 0; i < AQUECIMENTO; i++) {
+                jdbcTemplate.queryForList(sql);
+            }
+            List<Long> tempos = new ArrayList<>(EXECUCOES);
+            for (int i = 0; i < EXECUCOES; i++) {
+                long inicio = System.nanoTime();
+                jdbcTemplate.queryForList(sql);
+                tempos.add(System.nanoTime() - inicio);
+            }
+            Collections.sort(tempos);
+            medicoes.put(nome, new Medicao(tempos.get(EXECUCOES / 2), tempos.get(EXECUCOES * 95 / 100)));
+        });
+        return medicoes;
+    }
+
+    private static long tamanhoMembros(JdbcTemplate jdbcTemplate) {
+        Long bytes = jdbcTemplate.queryForObject("SELECT pg_total_relation_size('membros')", Long.class);
+        return bytes != null ? bytes : 0;
+    }
+
+    private record Medicao(long medianaNanos, long p95Nanos) {
+        @Override
+        public String toString() {
+            return String.format("%.3f / %.3f", medianaNanos / 1_000_000.0, p95Nanos / 1_000_000.0);
+        }
+    }
+}
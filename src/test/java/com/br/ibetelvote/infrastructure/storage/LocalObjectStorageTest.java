@@ -0,0 +1,55 @@
+package com.br.ibetelvote.infrastructure.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Backend local em diretório próprio, o modo que emula um bucket remoto.
+ */
+class LocalObjectStorageTest extends ObjectStorageContractTest {
+
+    @Override
+    protected ObjectStorage createStorage(Path workDir) {
+        return new LocalObjectStorage(workDir.resolve("objects"), workDir.resolve("uploads"));
+    }
+
+    @Override
+    protected void assertPresignedGet(String key, Optional<URI> url) {
+        assertThat(url).isEmpty();
+    }
+
+    @Test
+    void separateDirectoryIsShared() {
+        assertThat(storage.isShared()).isTrue();
+        assertThat(storage.name()).isEqualTo("local");
+    }
+
+    @Test
+    void uploadDirectoryItselfIsNotShared() throws IOException {
+        Path uploads = workDir.resolve("uploads");
+        ObjectStorage sameDir = new LocalObjectStorage(uploads, uploads);
+        Path file = uploads.resolve(KEY);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "conteúdo");
+
+        assertThat(sameDir.isShared()).isFalse();
+        // Origem e destino são o mesmo arquivo: nada é copiado
+        sameDir.put(KEY, file, "image/jpeg");
+        assertThat(sameDir.download(KEY, file)).isTrue();
+        assertThat(Files.readString(file)).isEqualTo("conteúdo");
+    }
+
+    @Test
+    void rejectsKeysOutsideRoot() {
+        assertThatThrownBy(() -> storage.delete("../fora.jpg"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
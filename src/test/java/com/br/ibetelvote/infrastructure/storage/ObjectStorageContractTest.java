@@ -0,0 +1,114 @@
+package com.br.ibetelvote.infrastructure.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Casos que todo {@link ObjectStorage} precisa atender. Cada backend estende esta classe e fornece
+ * a instância; o backend local roda nos testes unitários e o S3 no teste de integração.
+ */
+abstract class ObjectStorageContractTest {
+
+    protected static final String KEY = "ab/cd/abcd0123456789abcdef0123456789abcdef0123456789abcdef01234567.jpg";
+
+    @TempDir
+    Path workDir;
+
+    protected ObjectStorage storage;
+
+    /**
+     * Cria o backend; {@code workDir} é um diretório temporário exclusivo do teste.
+     */
+    protected abstract ObjectStorage createStorage(Path workDir) throws Exception;
+
+    /**
+     * Verifica a URL pré-assinada de {@code key}, ou a ausência dela quando o backend não oferece.
+     */
+    protected abstract void assertPresignedGet(String key, Optional<URI> url);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = createStorage(workDir);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    @Test
+    void putThenDownloadReturnsSameContent() throws IOException {
+        Path source = write("source.jpg", "conteúdo da foto");
+
+        storage.put(KEY, source, "image/jpeg");
+
+        Path target = workDir.resolve("download/foto.jpg");
+        Files.createDirectories(target.getParent());
+        assertThat(storage.download(KEY, target)).isTrue();
+        assertThat(Files.readString(target, StandardCharsets.UTF_8)).isEqualTo("conteúdo da foto");
+    }
+
+    @Test
+    void putReplacesExistingObject() throws IOException {
+        storage.put(KEY, write("v1.jpg", "versão 1"), "image/jpeg");
+        storage.put(KEY, write("v2.jpg", "versão 2"), "image/jpeg");
+
+        Path target = workDir.resolve("download/foto.jpg");
+        Files.createDirectories(target.getParent());
+        assertThat(storage.download(KEY, target)).isTrue();
+        assertThat(Files.readString(target, StandardCharsets.UTF_8)).isEqualTo("versão 2");
+    }
+
+    @Test
+    void downloadOfMissingKeyReturnsFalseWithoutCreatingTarget() throws IOException {
+        Path target = workDir.resolve("download/ausente.jpg");
+        Files.createDirectories(target.getParent());
+
+        assertThat(storage.download("ff/ff/ausente.jpg", target)).isFalse();
+        assertThat(target).doesNotExist();
+    }
+
+    @Test
+    void deleteRemovesObject() throws IOException {
+        storage.put(KEY, write("source.jpg", "conteúdo"), "image/jpeg");
+
+        storage.delete(KEY);
+
+        Path target = workDir.resolve("download/foto.jpg");
+        Files.createDirectories(target.getParent());
+        assertThat(storage.download(KEY, target)).isFalse();
+    }
+
+    @Test
+    void deleteOfMissingKeyIsNoOp() {
+        assertThatCode(() -> storage.delete("ff/ff/ausente.jpg")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void presignedGet() throws IOException {
+        storage.put(KEY, write("source.jpg", "conteúdo"), "image/jpeg");
+
+        assertPresignedGet(KEY, storage.presignedGet(KEY, "image/jpeg", Duration.ofMinutes(5)));
+    }
+
+    protected Path write(String name, String content) throws IOException {
+        Path path = workDir.resolve("src").resolve(name);
+        Files.createDirectories(path.getParent());
+        return Files.writeString(path, content, StandardCharsets.UTF_8);
+    }
+}
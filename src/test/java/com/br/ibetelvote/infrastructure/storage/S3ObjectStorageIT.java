@@ -0,0 +1,106 @@
+package com.br.ibetelvote.infrastructure.storage;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mesmo contrato do backend local, contra um MinIO em container. Roda na fase de integração
+ * ({@code mvn verify}) e é ignorado quando não há Docker.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3ObjectStorageIT extends ObjectStorageContractTest {
+
+    private static final String ACCESS_KEY = "ibetelvote";
+    private static final String SECRET_KEY = "ibetelvote-secret";
+    private static final String BUCKET = "ibetelvote-test";
+
+    @Container
+    static final GenericContainer<?> MINIO = new GenericContainer<>("minio/minio:latest")
+            .withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+            .withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+            .withCommand("server", "/data")
+            .withExposedPorts(9000)
+            .waitingFor(Wait.forHttp("/minio/health/ready").forPort(9000));
+
+    @BeforeAll
+    static void createBucket() {
+        try (S3Client client = S3Client.builder()
+                .region(Region.US_EAST_1)
+                .endpointOverride(URI.create(endpoint()))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(ACCESS_KEY, SECRET_KEY)))
+                .forcePathStyle(true)
+                .build()) {
+            client.createBucket(b -> b.bucket(BUCKET));
+        }
+    }
+
+    @Override
+    protected ObjectStorage createStorage(Path workDir) {
+        StorageProperties.S3 config = new StorageProperties.S3();
+        config.setBucket(BUCKET);
+        config.setEndpoint(endpoint());
+        config.setPathStyle(true);
+        config.setAccessKey(ACCESS_KEY);
+        config.setSecretKey(SECRET_KEY);
+        // Cada teste usa um prefixo próprio para não enxergar objetos dos outros
+        config.setPrefix(workDir.getFileName() + "/");
+        config.setMultipartThreshold(DataSize.ofMegabytes(1));
+        return new S3ObjectStorage(config);
+    }
+
+    @Override
+    protected void assertPresignedGet(String key, Optional<URI> url) {
+        assertThat(url).isPresent();
+        try {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(url.get()).GET().build(), HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).isEqualTo("conteúdo");
+        } catch (IOException e) {
+            throw new AssertionError("Falha ao ler a URL pré-assinada", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    void multipartUploadRoundTrips() throws IOException {
+        // Acima do limite de 1MB: duas partes de 5MB e 1MB
+        byte[] content = new byte[6 * 1024 * 1024];
+        new Random(42).nextBytes(content);
+        Path source = workDir.resolve("grande.bin");
+        Files.write(source, content);
+
+        storage.put(KEY, source, "application/octet-stream");
+
+        Path target = workDir.resolve("download/grande.bin");
+        assertThat(storage.download(KEY, target)).isTrue();
+        assertThat(Files.readAllBytes(target)).isEqualTo(content);
+    }
+
+    private static String endpoint() {
+        return "http://" + MINIO.getHost() + ":" + MINIO.getMappedPort(9000);
+    }
+}